@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.benchmark;
+
+import com.firefly.common.client.RestClient;
+import com.firefly.common.client.ServiceClient;
+import com.firefly.common.client.benchmark.model.User;
+import com.firefly.common.client.pool.ConnectionPoolConfig;
+import com.firefly.common.client.pool.HttpProtocolVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.HttpProtocol;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares HTTP/1.1 with multiplexed cleartext HTTP/2 ({@code h2c}) under fan-out.
+ *
+ * <p>Each invocation issues a burst of {@value #BURST} concurrent GETs to a loopback stub
+ * that accepts both protocols and waits for all of them. With {@code HTTP_1_1} the pool
+ * holds one connection per in-flight request ({@value #BURST}); with {@code H2C} it holds
+ * {@value #H2_CONNECTIONS} connections and multiplexes the burst over them as streams. The
+ * {@code burst} score is per request, so {@code thrpt} compares request throughput and
+ * the {@code p0.99} of {@code SampleTime} compares the tail latency of a whole burst.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class Http2TransportBenchmark {
+
+    static final int BURST = 64;
+    static final int H2_CONNECTIONS = 2;
+
+    @Param({"HTTP_1_1", "H2C"})
+    public HttpProtocolVersion protocol;
+
+    private StubServer server;
+    private RestClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubServer.start(HttpProtocol.HTTP11, HttpProtocol.H2C);
+
+        int maxConnections = protocol.isMultiplexed() ? H2_CONNECTIONS : BURST;
+        client = ServiceClient.rest("benchmark-service")
+            .baseUrl(server.baseUrl())
+            .timeout(Duration.ofSeconds(30))
+            .connectionPool(ConnectionPoolConfig.builder()
+                .protocol(protocol)
+                .maxConnections(maxConnections)
+                .maxConcurrentStreams(BURST)
+                .build())
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public Long burst() {
+        return Flux.range(1, BURST)
+            .flatMap(id -> client.get("/users/{id}", User.class)
+                .withPathParam("id", id)
+                .execute(), BURST)
+            .count()
+            .block();
+    }
+}
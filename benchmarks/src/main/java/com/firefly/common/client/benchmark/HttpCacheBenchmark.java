@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.benchmark;
+
+import com.firefly.common.client.cache.HttpCacheConfig;
+import com.firefly.common.client.cache.HttpCacheManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full {@link HttpCacheManager} under a skewed key distribution: each operation
+ * looks a key up and caches it on a miss, as the cache interceptor does.
+ *
+ * <p>Keys are drawn log-uniformly from ten times as many keys as the cache holds, so a few
+ * keys are hot and most are rare. {@code SCAN} is the previous eviction, which scanned the
+ * whole map for the oldest entry on every insert once full, and is the baseline. The
+ * {@code hits} and {@code misses} counters compare the hit rates of the two policies.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HttpCacheBenchmark {
+
+    private static final int KEY_COUNT = 1 << 20;
+
+    @Param({"SCAN", "TINY_LFU"})
+    public String policy;
+
+    @Param({"1000", "100000"})
+    public int cacheSize;
+
+    private Cache cache;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = switch (policy) {
+            case "SCAN" -> new ScanCache(cacheSize);
+            case "TINY_LFU" -> managerCache(cacheSize);
+            default -> throw new IllegalArgumentException("Unknown policy: " + policy);
+        };
+
+        Random random = new Random(42);
+        double range = Math.log(10.0 * cacheSize);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "service:GET:/items/" + (long) Math.exp(random.nextDouble() * range);
+        }
+        for (int i = 0; i < cacheSize; i++) {
+            cache.put("warm-up:" + i, "value");
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object singleThread(Outcomes outcomes) {
+        return lookup(outcomes);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object threads8(Outcomes outcomes) {
+        return lookup(outcomes);
+    }
+
+    private Object lookup(Outcomes outcomes) {
+        String key = keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+        Object value = cache.get(key);
+        if (value != null) {
+            outcomes.hits++;
+            return value;
+        }
+        outcomes.misses++;
+        cache.put(key, key);
+        return key;
+    }
+
+    private static Cache managerCache(int cacheSize) {
+        HttpCacheManager manager = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .defaultTtl(Duration.ofHours(1))
+            .maxCacheSize(cacheSize)
+            .build());
+        return new Cache() {
+            @Override
+            public Object get(String key) {
+                return manager.get(key).map(HttpCacheManager.CacheEntry::getValue).orElse(null);
+            }
+
+            @Override
+            public void put(String key, Object value) {
+                manager.put(key, value);
+            }
+        };
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long hits;
+        public long misses;
+    }
+
+    private interface Cache {
+
+        Object get(String key);
+
+        void put(String key, Object value);
+    }
+
+    /**
+     * The previous cache: a map whose oldest entry, by creation time, is found by a full
+     * scan whenever an insert finds it full.
+     */
+    private static final class ScanCache implements Cache {
+
+        private final Map<String, HttpCacheManager.CacheEntry> entries = new ConcurrentHashMap<>();
+        private final int maxSize;
+
+        ScanCache(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public Object get(String key) {
+            HttpCacheManager.CacheEntry entry = entries.get(key);
+            return entry != null ? entry.getValue() : null;
+        }
+
+        @Override
+        public void put(String key, Object value) {
+            if (entries.size() >= maxSize) {
+                entries.entrySet().stream()
+                    .min((e1, e2) -> e1.getValue().getCreatedAt().compareTo(e2.getValue().getCreatedAt()))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey()));
+            }
+            Instant now = Instant.now();
+            entries.put(key, new HttpCacheManager.CacheEntry(value, now, now.plus(Duration.ofHours(1)), null, null));
+        }
+    }
+}
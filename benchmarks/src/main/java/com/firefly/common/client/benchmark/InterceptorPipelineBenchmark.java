@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.benchmark;
+
+import com.firefly.common.client.RestClient;
+import com.firefly.common.client.ServiceClient;
+import com.firefly.common.client.benchmark.model.User;
+import com.firefly.common.client.builder.RestClientBuilder;
+import com.firefly.common.client.interceptor.InterceptorChain;
+import com.firefly.common.client.interceptor.InterceptorRequest;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import com.firefly.common.client.interceptor.ServiceClientInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the interceptor chain of {@code RestServiceClientImpl}.
+ *
+ * <p>The client is built with {@link #interceptors} pass-through interceptors, every
+ * second of which declines the request through {@code shouldIntercept}. With {@code 0} the request
+ * bypasses the chain entirely and is the baseline; the growth of latency and of
+ * {@code gc.alloc.rate.norm} with the count is the overhead per interceptor.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class InterceptorPipelineBenchmark {
+
+    @Param({"0", "1", "4", "8"})
+    public int interceptors;
+
+    private StubServer server;
+    private RestClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubServer.start();
+
+        RestClientBuilder builder = ServiceClient.rest("benchmark-service")
+            .baseUrl(server.baseUrl())
+            .timeout(Duration.ofSeconds(30));
+        for (int i = 0; i < interceptors; i++) {
+            builder.interceptor(new PassThroughInterceptor(i, i % 2 == 0));
+        }
+        client = builder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public User execute() {
+        return client.get("/users/{id}", User.class)
+            .withPathParam("id", 1)
+            .execute()
+            .block();
+    }
+
+    private static final class PassThroughInterceptor implements ServiceClientInterceptor {
+
+        private final int order;
+        private final boolean applies;
+
+        private PassThroughInterceptor(int order, boolean applies) {
+            this.order = order;
+            this.applies = applies;
+        }
+
+        @Override
+        public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+            return chain.proceed(request);
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public boolean shouldIntercept(InterceptorRequest request) {
+            return applies;
+        }
+    }
+}
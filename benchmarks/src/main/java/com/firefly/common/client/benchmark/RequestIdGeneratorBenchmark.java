@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.benchmark;
+
+import com.firefly.common.client.id.RequestIdGenerator;
+import com.firefly.common.client.id.RequestIdGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the built-in {@link RequestIdGenerator} strategies, uncontended and with
+ * eight threads generating IDs concurrently.
+ *
+ * <p>{@code SECURE_UUID} is {@code UUID.randomUUID()}, the strategy every client used
+ * before the generator became pluggable, and is the baseline.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestIdGeneratorBenchmark {
+
+    @Param({"SECURE_UUID", "RANDOM_UUID", "ULID"})
+    public String strategy;
+
+    private RequestIdGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = switch (strategy) {
+            case "SECURE_UUID" -> RequestIdGenerators.secureUuid();
+            case "RANDOM_UUID" -> RequestIdGenerators.randomUuid();
+            case "ULID" -> RequestIdGenerators.ulid();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String singleThread() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String contended() {
+        return generator.generate();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.firefly.common.client.RestClient;
+import com.firefly.common.client.ServiceClient;
+import com.firefly.common.client.benchmark.model.Account;
+import com.firefly.common.client.benchmark.model.User;
+import com.firefly.common.client.dynamic.DynamicJsonResponse;
+import com.firefly.common.resilience.CircuitBreakerConfig;
+import com.firefly.common.resilience.CircuitBreakerManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request overhead of {@code RestServiceClientImpl.RestRequestBuilder.execute()}.
+ *
+ * <p>Each benchmark issues one real HTTP request against the in-process {@link StubServer}.
+ * {@link #rawWebClient()} performs the same call with a bare {@link WebClient} and is the
+ * baseline: the difference to the other benchmarks is the cost added by this library
+ * (URI building, header merging, circuit breaker wrapping and response decoding).
+ *
+ * <p>Throughput mode reports ops/s, sample-time mode reports p50/p99 latency and the
+ * GC profiler ({@code -prof gc}) reports {@code gc.alloc.rate.norm} in bytes per op.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RestRequestPipelineBenchmark {
+
+    private static final TypeReference<List<User>> USER_LIST = new TypeReference<>() {};
+
+    /**
+     * Whether requests are wrapped by the enhanced circuit breaker.
+     */
+    @Param({"true", "false"})
+    public boolean circuitBreaker;
+
+    private StubServer server;
+    private RestClient client;
+    private WebClient webClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubServer.start();
+
+        CircuitBreakerManager circuitBreakerManager = circuitBreaker
+            ? new CircuitBreakerManager(CircuitBreakerConfig.builder()
+                .callTimeout(Duration.ofSeconds(30))
+                .build())
+            : null;
+
+        client = ServiceClient.rest("benchmark-service")
+            .baseUrl(server.baseUrl())
+            .timeout(Duration.ofSeconds(30))
+            .circuitBreakerManager(circuitBreakerManager)
+            .build();
+
+        webClient = WebClient.builder()
+            .baseUrl(server.baseUrl())
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public User rawWebClient() {
+        return webClient.get()
+            .uri("/users/1")
+            .retrieve()
+            .bodyToMono(User.class)
+            .block();
+    }
+
+    @Benchmark
+    public User decodeClass() {
+        return client.get("/users/1", User.class)
+            .execute()
+            .block();
+    }
+
+    @Benchmark
+    public List<User> decodeTypeReference() {
+        return client.get("/users", USER_LIST)
+            .execute()
+            .block();
+    }
+
+    @Benchmark
+    public DynamicJsonResponse decodeDynamicJson() {
+        return client.get("/users/1", DynamicJsonResponse.class)
+            .execute()
+            .block();
+    }
+
+    @Benchmark
+    public Account uriTemplateWithQuery() {
+        return client.get("/users/{id}/accounts/{accountId}", Account.class)
+            .withPathParam("id", 1)
+            .withPathParam("accountId", "acc-42")
+            .withQueryParam("currency", "EUR")
+            .withQueryParam("include", "balance,limits")
+            .execute()
+            .block();
+    }
+
+    @Benchmark
+    public User headerMerging() {
+        return client.get("/users/{id}", User.class)
+            .withPathParam("id", 1)
+            .withHeader("X-Tenant-ID", "tenant-7")
+            .withHeader("X-Correlation-ID", "c0ffee00-0000-4000-8000-000000000001")
+            .withHeader("Authorization", "Bearer benchmark-token")
+            .withHeader("Accept-Language", "en-GB")
+            .execute()
+            .block();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.benchmark;
+
+import com.firefly.common.resilience.SlidingWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures recording call outcomes in the circuit breaker's {@link SlidingWindow} with 1,
+ * 8 and 64 threads sharing one window, as all calls to one service do.
+ *
+ * <p>One call in ten fails, and each failure reads a snapshot, as the breaker does when it
+ * decides whether to open. {@code SYNCHRONIZED} is the ring buffer guarded by a lock that
+ * the window used before it became lock-free, and is the baseline.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SlidingWindowBenchmark {
+
+    @Param({"SYNCHRONIZED", "COUNT_BASED", "TIME_BASED"})
+    public String window;
+
+    private Recorder recorder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        recorder = switch (window) {
+            case "SYNCHRONIZED" -> new SynchronizedWindow(100);
+            case "COUNT_BASED" -> windowRecorder(SlidingWindow.countBased(100));
+            case "TIME_BASED" -> windowRecorder(SlidingWindow.timeBased(Duration.ofSeconds(60), 60));
+            default -> throw new IllegalArgumentException("Unknown window: " + window);
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double singleThread() {
+        return recorder.record(ThreadLocalRandom.current().nextInt(10) == 0);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public double threads8() {
+        return recorder.record(ThreadLocalRandom.current().nextInt(10) == 0);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public double threads64() {
+        return recorder.record(ThreadLocalRandom.current().nextInt(10) == 0);
+    }
+
+    private static Recorder windowRecorder(SlidingWindow slidingWindow) {
+        return failure -> {
+            if (failure) {
+                slidingWindow.recordFailure();
+                return slidingWindow.snapshot().failureRate();
+            }
+            slidingWindow.recordSuccess();
+            return 0.0;
+        };
+    }
+
+    @FunctionalInterface
+    private interface Recorder {
+
+        /**
+         * Records a call and returns the failure rate if the call failed.
+         */
+        double record(boolean failure);
+    }
+
+    /**
+     * The previous window: a ring buffer with counters, all guarded by one lock.
+     */
+    private static final class SynchronizedWindow implements Recorder {
+
+        private final boolean[] results;
+        private long totalCalls;
+        private int failures;
+
+        SynchronizedWindow(int size) {
+            this.results = new boolean[size];
+        }
+
+        @Override
+        public synchronized double record(boolean failure) {
+            int index = (int) (totalCalls++ % results.length);
+            if (totalCalls > results.length && results[index]) {
+                failures--;
+            }
+            results[index] = failure;
+            if (failure) {
+                failures++;
+                return (double) failures / Math.min(totalCalls, results.length) * 100.0;
+            }
+            return 0.0;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.benchmark;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * In-process Reactor Netty stub server used as the downstream for REST benchmarks.
+ *
+ * <p>Every route answers with a pre-encoded, constant JSON payload so that the
+ * measured cost is dominated by the client pipeline rather than by the server.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public final class StubServer implements AutoCloseable {
+
+    static final int USER_LIST_SIZE = 50;
+
+    private static final byte[] USER_JSON = user(1).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ACCOUNT_JSON =
+        "{\"id\":\"acc-42\",\"userId\":1,\"currency\":\"EUR\",\"balance\":1250.75}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] USER_LIST_JSON = userList().getBytes(StandardCharsets.UTF_8);
+
+    private final DisposableServer server;
+
+    private StubServer(DisposableServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts the stub server on an ephemeral loopback port.
+     *
+     * @return the running server
+     */
+    public static StubServer start() {
+        return start(HttpProtocol.HTTP11);
+    }
+
+    /**
+     * Starts the stub server on an ephemeral loopback port, accepting the given protocols.
+     *
+     * @param protocols the cleartext protocols to accept, e.g. {@code HTTP11} and {@code H2C}
+     * @return the running server
+     */
+    public static StubServer start(HttpProtocol... protocols) {
+        DisposableServer server = HttpServer.create()
+            .protocol(protocols)
+            .host("127.0.0.1")
+            .port(0)
+            .route(routes -> routes
+                .get("/health", (request, response) -> response.send())
+                .get("/users", (request, response) -> response
+                    .header("Content-Type", "application/json")
+                    .sendByteArray(Mono.just(USER_LIST_JSON)))
+                .get("/users/{id}", (request, response) -> response
+                    .header("Content-Type", "application/json")
+                    .sendByteArray(Mono.just(USER_JSON)))
+                .get("/users/{id}/accounts/{accountId}", (request, response) -> response
+                    .header("Content-Type", "application/json")
+                    .sendByteArray(Mono.just(ACCOUNT_JSON))))
+            .bindNow();
+        return new StubServer(server);
+    }
+
+    /**
+     * Returns the base URL of the running server.
+     *
+     * @return the base URL, e.g. {@code http://127.0.0.1:54321}
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private static String user(int id) {
+        return "{\"id\":" + id
+            + ",\"name\":\"User " + id + "\""
+            + ",\"email\":\"user" + id + "@example.com\""
+            + ",\"active\":true"
+            + ",\"roles\":[\"reader\",\"writer\"]}";
+    }
+
+    private static String userList() {
+        StringBuilder json = new StringBuilder(USER_LIST_SIZE * 96).append('[');
+        for (int i = 1; i <= USER_LIST_SIZE; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append(user(i));
+        }
+        return json.append(']').toString();
+    }
+}
@@ -118,6 +118,20 @@ public interface GrpcClient<T> extends ServiceClient {
      */
     <R> Mono<R> execute(Function<T, R> operation);
 
+    /**
+     * Executes an idempotent unary gRPC call with circuit breaker protection.
+     *
+     * <p>When the client has a hedging policy, a call that has not answered within the
+     * hedging delay is sent again; the first response wins and the other calls are
+     * cancelled. Use this only for calls that are safe to execute more than once. Without
+     * a hedging policy this is the same as {@link #unary(Function)}.
+     *
+     * @param operation the gRPC operation to execute, on a blocking stub
+     * @param <R> the response type
+     * @return a Mono containing the response with circuit breaker protection
+     */
+    <R> Mono<R> idempotentUnary(Function<T, R> operation);
+
     // ========================================
     // Streaming Operations
     // ========================================
@@ -17,10 +17,15 @@
 package com.firefly.common.client;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.firefly.common.client.batch.BatchItemResult;
+import com.firefly.common.client.batch.BatchOptions;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,6 +54,11 @@ import java.util.Map;
  *
  * // Streaming
  * Flux<Event> events = client.stream("/events", Event.class);
+ *
+ * // Batch, at most 32 requests in flight
+ * Mono<List<BatchItemResult<User>>> users = client.executeAll(userIds.stream()
+ *     .map(id -> client.get("/users/{id}", User.class).withPathParam("id", id))
+ *     .toList(), 32);
  * }</pre>
  *
  * @author Firefly Software Solutions Inc
@@ -184,6 +194,53 @@ public interface RestClient extends ServiceClient {
      */
     <R> Flux<R> stream(String endpoint, TypeReference<R> typeReference);
 
+    // ========================================
+    // Batch Methods
+    // ========================================
+
+    /**
+     * Executes a batch of requests with bounded concurrency.
+     *
+     * @param requests the requests, typically built by this client
+     * @param maxConcurrency the maximum number of requests in flight
+     * @param <R> the response type
+     * @return a Mono with one result per request, in the order of {@code requests}
+     * @see #executeAll(Collection, BatchOptions)
+     */
+    <R> Mono<List<BatchItemResult<R>>> executeAll(Collection<? extends RequestBuilder<R>> requests, int maxConcurrency);
+
+    /**
+     * Executes a batch of requests with bounded concurrency.
+     *
+     * <p>Failures do not fail the batch: each request yields a {@link BatchItemResult}
+     * holding either its response or its error. Concurrency is capped at what the
+     * connection pool of this client serves without queueing, and every request goes
+     * through the circuit breaker, so once it opens the remaining requests fail fast
+     * without using a connection.
+     *
+     * @param requests the requests, typically built by this client
+     * @param options concurrency and deadline of the batch; the ordering option is ignored
+     * @param <R> the response type
+     * @return a Mono with one result per request, in the order of {@code requests}
+     */
+    <R> Mono<List<BatchItemResult<R>>> executeAll(Collection<? extends RequestBuilder<R>> requests, BatchOptions options);
+
+    /**
+     * Executes a stream of requests with bounded concurrency, emitting each result as soon
+     * as it is available.
+     *
+     * <p>Requests are pulled from {@code requests} only as slots free up, so large or
+     * lazily built batches are never held in memory. Results are emitted in completion
+     * order, or in request order if {@link BatchOptions#isOrdered()}.
+     *
+     * @param requests the requests, typically built by this client
+     * @param options concurrency, ordering and deadline of the batch
+     * @param <R> the response type
+     * @return a Flux with one result per request
+     * @see #executeAll(Collection, BatchOptions)
+     */
+    <R> Flux<BatchItemResult<R>> streamAll(Publisher<? extends RequestBuilder<R>> requests, BatchOptions options);
+
     // ========================================
     // REST-Specific Metadata
     // ========================================
@@ -268,6 +325,16 @@ public interface RestClient extends ServiceClient {
          */
         RequestBuilder<R> withTimeout(Duration timeout);
 
+        /**
+         * Sets whether this request may share the response of an identical GET request
+         * already in flight, overriding the client default. Requests with a body and
+         * non-GET requests are never coalesced.
+         *
+         * @param coalesce whether to coalesce the request
+         * @return this builder
+         */
+        RequestBuilder<R> withCoalescing(boolean coalesce);
+
         /**
          * Executes the request.
          *
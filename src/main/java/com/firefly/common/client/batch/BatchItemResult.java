@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.batch;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Outcome of one request of a batch: either the response or the error it failed with.
+ *
+ * <p>A failed request does not fail the batch; it is reported here instead, together
+ * with its position in the batch so that the caller can retry or log it.
+ *
+ * @param <R> the response type
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public final class BatchItemResult<R> {
+
+    private final int index;
+    private final R value;
+    private final Throwable error;
+    private final Duration duration;
+
+    private BatchItemResult(int index, R value, Throwable error, Duration duration) {
+        this.index = index;
+        this.value = value;
+        this.error = error;
+        this.duration = duration;
+    }
+
+    /**
+     * Creates the result of a successful request.
+     *
+     * @param index the position of the request in the batch
+     * @param value the response, may be {@code null} for empty responses
+     * @param duration the time the request took
+     * @param <R> the response type
+     * @return the result
+     */
+    public static <R> BatchItemResult<R> success(int index, R value, Duration duration) {
+        return new BatchItemResult<>(index, value, null, duration);
+    }
+
+    /**
+     * Creates the result of a failed request.
+     *
+     * @param index the position of the request in the batch
+     * @param error the error the request failed with
+     * @param duration the time until the request failed
+     * @param <R> the response type
+     * @return the result
+     */
+    public static <R> BatchItemResult<R> failure(int index, Throwable error, Duration duration) {
+        if (error == null) {
+            throw new IllegalArgumentException("Error cannot be null");
+        }
+        return new BatchItemResult<>(index, null, error, duration);
+    }
+
+    /**
+     * Returns the position of the request in the batch, starting at 0.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns whether the request succeeded.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Returns the response, {@code null} if the request failed or the response was empty.
+     */
+    public R getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the response if the request succeeded with a body.
+     */
+    public Optional<R> value() {
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Returns the error, {@code null} if the request succeeded.
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Returns the time between sending the request and its outcome, zero for requests
+     * that were never sent.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the response, or throws the error of a failed request.
+     *
+     * @return the response, may be {@code null} for empty responses
+     * @throws NoSuchElementException wrapping the error if the request failed
+     */
+    public R getOrThrow() {
+        if (error != null) {
+            throw new NoSuchElementException("Batch request " + index + " failed: " + error.getMessage(), error);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess()
+            ? "BatchItemResult{index=" + index + ", value=" + value + ", duration=" + duration + "}"
+            : "BatchItemResult{index=" + index + ", error=" + error + ", duration=" + duration + "}";
+    }
+}
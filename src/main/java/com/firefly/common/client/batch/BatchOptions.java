@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.batch;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Options for executing a batch of requests with
+ * {@link com.firefly.common.client.RestClient#executeAll(java.util.Collection, BatchOptions)}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * BatchOptions options = BatchOptions.builder()
+ *     .maxConcurrency(32)
+ *     .ordered(true)
+ *     .deadline(Duration.ofSeconds(30))
+ *     .build();
+ * }</pre>
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+public class BatchOptions {
+
+    /**
+     * Maximum number of requests in flight at the same time. The client lowers it to what
+     * its connection pool serves without queueing.
+     * Default: 16
+     */
+    @Builder.Default
+    private int maxConcurrency = 16;
+
+    /**
+     * Whether streamed results are emitted in the order of the requests instead of in
+     * completion order. Ordering holds back results that complete early, so one slow
+     * request delays every later result.
+     * Default: false
+     */
+    @Builder.Default
+    private boolean ordered = false;
+
+    /**
+     * Time budget of the whole batch, measured from subscription. Requests still running
+     * when it expires are cancelled and requests not yet started are not sent; both are
+     * reported as failed. {@code null} means no deadline.
+     * Default: none
+     */
+    private Duration deadline;
+
+    /**
+     * Creates options with the given concurrency and defaults otherwise.
+     *
+     * @param maxConcurrency the maximum number of requests in flight
+     * @return the options
+     */
+    public static BatchOptions withMaxConcurrency(int maxConcurrency) {
+        return BatchOptions.builder()
+            .maxConcurrency(maxConcurrency)
+            .build();
+    }
+
+    /**
+     * Validates the options.
+     */
+    public void validate() {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+
+        if (deadline != null && (deadline.isNegative() || deadline.isZero())) {
+            throw new IllegalArgumentException("Deadline must be positive");
+        }
+    }
+}
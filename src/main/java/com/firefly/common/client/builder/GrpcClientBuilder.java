@@ -18,7 +18,10 @@ package com.firefly.common.client.builder;
 
 import com.firefly.common.client.GrpcClient;
 import com.firefly.common.client.ServiceClient;
+import com.firefly.common.client.id.RequestIdGenerator;
+import com.firefly.common.client.id.RequestIdGenerators;
 import com.firefly.common.client.impl.GrpcServiceClientImpl;
+import com.firefly.common.client.resilience.HedgingPolicy;
 import com.firefly.common.resilience.CircuitBreakerManager;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
@@ -65,6 +68,8 @@ public class GrpcClientBuilder<T> {
     private Function<Object, T> stubFactory;
     private ManagedChannel channel;
     private CircuitBreakerManager circuitBreakerManager;
+    private RequestIdGenerator requestIdGenerator;
+    private HedgingPolicy hedgingPolicy;
 
     /**
      * Creates a new gRPC client builder.
@@ -147,6 +152,35 @@ public class GrpcClientBuilder<T> {
         return this;
     }
 
+    /**
+     * Sets the generator for the request ID attached to each call's error context.
+     *
+     * <p>Defaults to the generator shared by all clients, see {@link RequestIdGenerators#shared()}.
+     *
+     * @param requestIdGenerator the request ID generator
+     * @return this builder
+     */
+    public GrpcClientBuilder<T> requestIdGenerator(RequestIdGenerator requestIdGenerator) {
+        this.requestIdGenerator = requestIdGenerator;
+        return this;
+    }
+
+    /**
+     * Enables hedging of the calls made through {@link GrpcClient#idempotentUnary}: a call
+     * that has not answered within the policy's delay is sent again, the first response
+     * wins and the other calls are cancelled. Disabled by default.
+     *
+     * @param hedgingPolicy the hedging policy, or {@code null} to disable hedging
+     * @return this builder
+     */
+    public GrpcClientBuilder<T> hedging(HedgingPolicy hedgingPolicy) {
+        if (hedgingPolicy != null) {
+            hedgingPolicy.validate();
+        }
+        this.hedgingPolicy = hedgingPolicy;
+        return this;
+    }
+
     public GrpcClient<T> build() {
         validateConfiguration();
         
@@ -163,7 +197,9 @@ public class GrpcClientBuilder<T> {
             timeout,
             finalChannel,
             stub,
-            circuitBreakerManager
+            circuitBreakerManager,
+            requestIdGenerator != null ? requestIdGenerator : RequestIdGenerators.shared(),
+            hedgingPolicy
         );
     }
 
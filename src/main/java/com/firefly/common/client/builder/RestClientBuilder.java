@@ -16,15 +16,29 @@
 
 package com.firefly.common.client.builder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.firefly.common.client.RestClient;
 import com.firefly.common.client.ServiceClient;
+import com.firefly.common.client.id.RequestIdGenerator;
+import com.firefly.common.client.id.RequestIdGenerators;
 import com.firefly.common.client.impl.RestServiceClientImpl;
+import com.firefly.common.client.interceptor.ServiceClientInterceptor;
+import com.firefly.common.client.metrics.PerformanceMetricsCollector;
+import com.firefly.common.client.pool.ConnectionPoolConfig;
+import com.firefly.common.client.pool.HttpProtocolVersion;
+import com.firefly.common.client.resilience.HedgingPolicy;
+import com.firefly.common.client.resilience.RetryPolicy;
+import com.firefly.common.resilience.CircuitBreakerKey;
 import com.firefly.common.resilience.CircuitBreakerManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -60,9 +74,21 @@ public class RestClientBuilder {
     private String baseUrl;
     private Duration timeout = Duration.ofSeconds(30);
     private int maxConnections = 100;
+    private ConnectionPoolConfig connectionPool = ConnectionPoolConfig.defaultConfig();
+    private HttpProtocolVersion protocol;
+    private boolean http2;
+    private ConnectionProvider connectionProvider;
+    private PerformanceMetricsCollector metricsCollector;
     private Map<String, String> defaultHeaders = new HashMap<>();
     private WebClient webClient;
     private CircuitBreakerManager circuitBreakerManager;
+    private CircuitBreakerKey.Scope circuitBreakerScope = CircuitBreakerKey.Scope.SERVICE;
+    private ObjectMapper objectMapper;
+    private RequestIdGenerator requestIdGenerator;
+    private final List<ServiceClientInterceptor> interceptors = new ArrayList<>();
+    private boolean coalesceGetRequests;
+    private HedgingPolicy hedgingPolicy;
+    private RetryPolicy retryPolicy;
 
     /**
      * Creates a new REST client builder.
@@ -102,6 +128,12 @@ public class RestClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum number of connections per remote host of the client's connection pool.
+     *
+     * @param maxConnections the maximum number of connections
+     * @return this builder
+     */
     public RestClientBuilder maxConnections(int maxConnections) {
         if (maxConnections <= 0) {
             throw new IllegalArgumentException("Max connections must be positive");
@@ -110,6 +142,86 @@ public class RestClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the configuration of the client's connection pool.
+     *
+     * <p>Every client gets a pool of its own, so that a slow service cannot exhaust the
+     * connections of the others. Its {@code maxConnections} and {@code protocol} replace the
+     * values set before through {@link #maxConnections(int)}, {@link #http2()} and
+     * {@link #protocol(HttpProtocolVersion)}.
+     *
+     * @param connectionPool the connection pool configuration
+     * @return this builder
+     */
+    public RestClientBuilder connectionPool(ConnectionPoolConfig connectionPool) {
+        if (connectionPool == null) {
+            throw new IllegalArgumentException("Connection pool configuration cannot be null");
+        }
+        connectionPool.validate();
+        this.connectionPool = connectionPool;
+        this.maxConnections = connectionPool.getMaxConnections();
+        this.protocol = null;
+        this.http2 = false;
+        return this;
+    }
+
+    /**
+     * Uses multiplexed HTTP/2: {@link HttpProtocolVersion#H2} for {@code https} base URLs
+     * and {@link HttpProtocolVersion#H2C} (prior knowledge) for {@code http} ones.
+     *
+     * <p>Concurrent requests then share few connections, up to
+     * {@link ConnectionPoolConfig#getMaxConcurrentStreams()} each, and
+     * {@link #maxConnections(int)} caps the number of TCP connections.
+     *
+     * @return this builder
+     */
+    public RestClientBuilder http2() {
+        this.http2 = true;
+        this.protocol = null;
+        return this;
+    }
+
+    /**
+     * Sets the HTTP protocol explicitly.
+     *
+     * @param protocol the protocol
+     * @return this builder
+     */
+    public RestClientBuilder protocol(HttpProtocolVersion protocol) {
+        if (protocol == null) {
+            throw new IllegalArgumentException("Protocol cannot be null");
+        }
+        this.protocol = protocol;
+        this.http2 = false;
+        return this;
+    }
+
+    /**
+     * Sets a connection provider to use instead of a pool of the client's own.
+     *
+     * <p>Use this to share one pool between several clients on purpose. The provider is
+     * not disposed when the client shuts down, and it is ignored when a custom
+     * {@link #webClient(WebClient)} is set.
+     *
+     * @param connectionProvider the connection provider
+     * @return this builder
+     */
+    public RestClientBuilder connectionProvider(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+        return this;
+    }
+
+    /**
+     * Sets the collector to which the usage of the client's connection pool is exported.
+     *
+     * @param metricsCollector the performance metrics collector
+     * @return this builder
+     */
+    public RestClientBuilder metricsCollector(PerformanceMetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector;
+        return this;
+    }
+
     public RestClientBuilder defaultHeader(String name, String value) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Header name cannot be null or empty");
@@ -146,6 +258,140 @@ public class RestClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the scope of the circuit breakers that protect the requests.
+     *
+     * <p>With {@link CircuitBreakerKey.Scope#ENDPOINT}, each method and endpoint template
+     * has its own breaker, so a failing endpoint does not reject requests to the others.
+     * With {@link CircuitBreakerKey.Scope#INSTANCE}, the breaker is keyed by the host and
+     * port of the base URL, for clients that each call one replica of a service through a
+     * shared manager. Both feed the health of the service breaker without being gated by
+     * it. Default: SERVICE.
+     *
+     * @param circuitBreakerScope the scope
+     * @return this builder
+     */
+    public RestClientBuilder circuitBreakerScope(CircuitBreakerKey.Scope circuitBreakerScope) {
+        if (circuitBreakerScope == null) {
+            throw new IllegalArgumentException("Circuit breaker scope cannot be null");
+        }
+        this.circuitBreakerScope = circuitBreakerScope;
+        return this;
+    }
+
+    /**
+     * Sets the ObjectMapper used to read and write JSON bodies.
+     *
+     * <p>Pass the application's configured mapper to share its modules and feature
+     * settings. When not set, the JSON codecs of the WebClient are left as they are.
+     *
+     * @param objectMapper the ObjectMapper
+     * @return this builder
+     */
+    public RestClientBuilder objectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        return this;
+    }
+
+    /**
+     * Sets the generator for the {@code X-Request-ID} of each request.
+     *
+     * <p>Defaults to the generator shared by all clients, see {@link RequestIdGenerators#shared()}.
+     *
+     * @param requestIdGenerator the request ID generator
+     * @return this builder
+     */
+    public RestClientBuilder requestIdGenerator(RequestIdGenerator requestIdGenerator) {
+        this.requestIdGenerator = requestIdGenerator;
+        return this;
+    }
+
+    /**
+     * Adds an interceptor applied to every {@code execute()} call of the client.
+     *
+     * <p>Interceptors run in ascending {@link ServiceClientInterceptor#getOrder()}; those
+     * with the same order run in the order they were added. Streaming calls are not
+     * intercepted.
+     *
+     * @param interceptor the interceptor
+     * @return this builder
+     */
+    public RestClientBuilder interceptor(ServiceClientInterceptor interceptor) {
+        if (interceptor == null) {
+            throw new IllegalArgumentException("Interceptor cannot be null");
+        }
+        this.interceptors.add(interceptor);
+        return this;
+    }
+
+    /**
+     * Adds several interceptors, see {@link #interceptor(ServiceClientInterceptor)}.
+     *
+     * @param interceptors the interceptors
+     * @return this builder
+     */
+    public RestClientBuilder interceptors(Collection<? extends ServiceClientInterceptor> interceptors) {
+        if (interceptors != null) {
+            interceptors.forEach(this::interceptor);
+        }
+        return this;
+    }
+
+    /**
+     * Sets whether identical GET requests issued while one of them is in flight share its
+     * response instead of each calling the service.
+     *
+     * <p>Requests are identical when they have the same expanded URI, response type and
+     * per-request headers, ignoring {@code X-Request-ID}. Only the first of them is sent,
+     * with its request ID. Individual requests can opt in or out through
+     * {@link RestClient.RequestBuilder#withCoalescing(boolean)}. Disabled by default.
+     *
+     * @param coalesceGetRequests whether to coalesce identical GET requests
+     * @return this builder
+     */
+    public RestClientBuilder coalesceGetRequests(boolean coalesceGetRequests) {
+        this.coalesceGetRequests = coalesceGetRequests;
+        return this;
+    }
+
+    /**
+     * Enables hedging of GET requests: a GET that has not answered within the policy's
+     * delay is sent again, the first response wins and the other attempts are cancelled.
+     *
+     * <p>Hedges go through the client's connection pool and reach another replica when the
+     * service address balances connections across replicas. All attempts carry the same
+     * {@code X-Request-ID}. Disabled by default.
+     *
+     * @param hedgingPolicy the hedging policy, or {@code null} to disable hedging
+     * @return this builder
+     */
+    public RestClientBuilder hedging(HedgingPolicy hedgingPolicy) {
+        if (hedgingPolicy != null) {
+            hedgingPolicy.validate();
+        }
+        this.hedgingPolicy = hedgingPolicy;
+        return this;
+    }
+
+    /**
+     * Enables retries of failed requests with jittered exponential backoff.
+     *
+     * <p>Only errors classified as retryable are retried, and only for GET, PUT and DELETE
+     * unless the policy allows non-idempotent methods. Every attempt passes through the
+     * circuit breaker and carries the same {@code X-Request-ID}; the request timeout
+     * bounds all attempts together. Disabled by default.
+     *
+     * @param retryPolicy the retry policy, or {@code null} to disable retries
+     * @return this builder
+     */
+    public RestClientBuilder retry(RetryPolicy retryPolicy) {
+        if (retryPolicy != null) {
+            retryPolicy.validate();
+        }
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
     /**
      * Convenience method to set JSON content type headers.
      *
@@ -176,13 +422,35 @@ public class RestClientBuilder {
             serviceName,
             baseUrl,
             timeout,
-            maxConnections,
+            connectionPool.toBuilder()
+                .maxConnections(maxConnections)
+                .protocol(resolveProtocol())
+                .build(),
             defaultHeaders,
             webClient,
-            circuitBreakerManager
+            circuitBreakerManager,
+            objectMapper,
+            requestIdGenerator != null ? requestIdGenerator : RequestIdGenerators.shared(),
+            List.copyOf(interceptors),
+            coalesceGetRequests,
+            hedgingPolicy,
+            retryPolicy,
+            circuitBreakerScope,
+            connectionProvider,
+            metricsCollector
         );
     }
 
+    private HttpProtocolVersion resolveProtocol() {
+        if (protocol != null) {
+            return protocol;
+        }
+        if (http2) {
+            return baseUrl.regionMatches(true, 0, "https:", 0, 6) ? HttpProtocolVersion.H2 : HttpProtocolVersion.H2C;
+        }
+        return connectionPool.getProtocol();
+    }
+
     private void validateConfiguration() {
         if (baseUrl == null || baseUrl.trim().isEmpty()) {
             throw new IllegalStateException("Base URL must be configured for REST clients");
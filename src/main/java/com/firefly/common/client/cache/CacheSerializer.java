@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import java.io.IOException;
+
+/**
+ * Converts cached values to and from bytes, for storage tiers that keep entries outside
+ * of the Java heap.
+ *
+ * <p>Implementations must be thread-safe and must restore a value equivalent to the one
+ * serialized, including {@link com.firefly.common.client.interceptor.InterceptorResponse}s
+ * cached by the {@link HttpCacheInterceptor}. Built-in serializers are available from
+ * {@link CacheSerializers}.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public interface CacheSerializer {
+
+    /**
+     * Serializes a value.
+     *
+     * @param value the cached value, never {@code null}
+     * @return the serialized form
+     * @throws IOException if the value cannot be serialized
+     */
+    byte[] serialize(Object value) throws IOException;
+
+    /**
+     * Restores a value.
+     *
+     * @param bytes the serialized form, as returned by {@link #serialize(Object)}
+     * @return the value
+     * @throws IOException if the bytes cannot be deserialized
+     */
+    Object deserialize(byte[] bytes) throws IOException;
+}
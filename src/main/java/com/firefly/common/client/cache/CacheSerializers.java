@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Built-in {@link CacheSerializer}s.
+ *
+ * <p>Available serializers:
+ * <ul>
+ *   <li>{@link #json()} - JSON, with a mapper supporting the Java time types (default)</li>
+ *   <li>{@link #jackson(ObjectMapper)} - any Jackson format, such as Smile or CBOR when
+ *       given a mapper built on the corresponding factory</li>
+ * </ul>
+ *
+ * <p>Both record the type of each value, so that generic response bodies such as
+ * {@code List<User>} are restored with their element type.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public final class CacheSerializers {
+
+    private static final CacheSerializer JSON = new JacksonCacheSerializer(EstimatedSizeWeigher.defaultMapper());
+
+    private CacheSerializers() {
+    }
+
+    /**
+     * JSON serialization with a shared default mapper.
+     */
+    public static CacheSerializer json() {
+        return JSON;
+    }
+
+    /**
+     * Serialization with the given mapper and its data format.
+     *
+     * @param objectMapper the mapper, configured to write and read the cached types
+     */
+    public static CacheSerializer jackson(ObjectMapper objectMapper) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("ObjectMapper cannot be null");
+        }
+        return new JacksonCacheSerializer(objectMapper);
+    }
+}
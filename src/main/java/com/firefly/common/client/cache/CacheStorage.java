@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import java.util.Set;
+
+/**
+ * Where a {@link HttpCacheManager} keeps its entries, selected by
+ * {@link HttpCacheConfig#getStorageType()}.
+ *
+ * <p>Storages are bounded and evict on their own, reporting each eviction to the
+ * listener they were created with. They hold entries regardless of expiry; expiry and
+ * revalidation are handled by the manager.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+interface CacheStorage {
+
+    /**
+     * Returns the entry of a key, or {@code null}.
+     */
+    HttpCacheManager.CacheEntry get(String key);
+
+    /**
+     * Stores an entry, replacing any previous one. A storage that cannot hold the entry
+     * drops it, and the previous one.
+     */
+    void put(String key, HttpCacheManager.CacheEntry entry);
+
+    /**
+     * Removes the entry of a key.
+     *
+     * @return whether the key had an entry
+     */
+    boolean remove(String key);
+
+    /**
+     * Removes the entry of a key only if it is still the given one, as returned by
+     * {@link #get(String)}.
+     */
+    boolean remove(String key, HttpCacheManager.CacheEntry entry);
+
+    /**
+     * Removes all entries.
+     */
+    void clear();
+
+    /**
+     * Returns the number of entries.
+     */
+    int size();
+
+    /**
+     * Returns the total weight of the entries.
+     */
+    long weightedSize();
+
+    /**
+     * Returns an unmodifiable view of the keys.
+     */
+    Set<String> keys();
+
+    /**
+     * Releases the resources of the storage. Entries put afterwards are not kept.
+     */
+    default void close() {
+    }
+}
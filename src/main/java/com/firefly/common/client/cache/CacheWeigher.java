@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+/**
+ * Strategy for estimating how many bytes a cache entry retains, used to bound the
+ * {@link HttpCacheManager} by {@link HttpCacheConfig#getMaxCacheBytes()}.
+ *
+ * <p>Implementations are called once per insert on the caller's thread and must be
+ * thread-safe. The weight of an entry is computed when it is inserted and never
+ * recalculated, so cached values should not be mutated afterwards. Built-in strategies are
+ * available from {@link CacheWeighers}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * HttpCacheConfig config = HttpCacheConfig.builder()
+ *     .enabled(true)
+ *     .maxCacheBytes(64L * 1024 * 1024)
+ *     .weigher(CacheWeighers.serializedSize(objectMapper))
+ *     .build();
+ * }</pre>
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface CacheWeigher {
+
+    /**
+     * Estimates the size of an entry.
+     *
+     * @param key the cache key
+     * @param value the cached value
+     * @return the estimated size in bytes, never negative
+     */
+    int weigh(String key, Object value);
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Built-in {@link CacheWeigher} strategies.
+ *
+ * <p>Available strategies:
+ * <ul>
+ *   <li>{@link #estimatedSize()} - estimated retained heap size of the value (default)</li>
+ *   <li>{@link #serializedSize(ObjectMapper)} - size of the value serialized to JSON</li>
+ * </ul>
+ *
+ * <p>Both add the size of the key and a fixed overhead for the cache's own bookkeeping.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public final class CacheWeighers {
+
+    private static final CacheWeigher ESTIMATED_SIZE = new EstimatedSizeWeigher(EstimatedSizeWeigher.defaultMapper());
+
+    private CacheWeighers() {
+    }
+
+    /**
+     * Estimates the retained heap size of the value.
+     *
+     * <p>Strings, arrays, buffers, boxed primitives, collections, maps and
+     * {@link com.firefly.common.client.interceptor.InterceptorResponse}s are measured by
+     * walking them; any other object is weighed by the length of its JSON form. The
+     * estimate assumes a 64-bit JVM with compressed references and Latin-1 strings.
+     */
+    public static CacheWeigher estimatedSize() {
+        return ESTIMATED_SIZE;
+    }
+
+    /**
+     * Weighs the value by the length of its JSON form, as written by {@code objectMapper}.
+     *
+     * <p>Suited to caches of response DTOs, whose serialized size tracks the payload they
+     * were decoded from. Values that cannot be serialized are given a fixed weight.
+     *
+     * @param objectMapper the mapper used to serialize values
+     */
+    public static CacheWeigher serializedSize(ObjectMapper objectMapper) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("ObjectMapper cannot be null");
+        }
+        return (key, value) -> EstimatedSizeWeigher.clamp(EstimatedSizeWeigher.ENTRY_OVERHEAD
+            + EstimatedSizeWeigher.stringSize(key)
+            + EstimatedSizeWeigher.serializedSize(objectMapper, value));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable {@link InterceptorResponse} restored from a serialized cache entry.
+ *
+ * <p>Holds the status, headers and body of the original response; its response time is
+ * zero, since nothing was sent. Header names are case-insensitive.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class CachedResponse implements InterceptorResponse {
+
+    private final Object body;
+    private final int statusCode;
+    private final Map<String, String> headers;
+    private final Map<String, Object> attributes;
+
+    private CachedResponse(Object body, int statusCode, Map<String, String> headers, Map<String, Object> attributes) {
+        this.body = body;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Creates a response from its restored parts.
+     *
+     * @param bodyType the type the body was restored as, or {@code null} without a body
+     */
+    static CachedResponse of(Object body, int statusCode, Map<String, String> headers, Type bodyType) {
+        Map<String, String> copy = new LinkedCaseInsensitiveMap<>(headers.size());
+        copy.putAll(headers);
+        return new CachedResponse(body, statusCode, Collections.unmodifiableMap(copy),
+            bodyType != null ? Map.of(BODY_TYPE_ATTRIBUTE, bodyType) : Map.of());
+    }
+
+    @Override
+    public Object getBody() {
+        return body;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public long getResponseTimeMs() {
+        return 0;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 400;
+    }
+
+    @Override
+    public Throwable getError() {
+        return null;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public InterceptorResponse withBody(Object body) {
+        return new CachedResponse(body, statusCode, headers, attributes);
+    }
+
+    @Override
+    public InterceptorResponse withHeader(String name, String value) {
+        Map<String, String> copy = new LinkedCaseInsensitiveMap<>(headers.size() + 1);
+        copy.putAll(headers);
+        copy.put(name, value);
+        return new CachedResponse(body, statusCode, Collections.unmodifiableMap(copy), attributes);
+    }
+
+    @Override
+    public InterceptorResponse withAttribute(String name, Object value) {
+        Map<String, Object> copy = new HashMap<>(attributes);
+        copy.put(name, value);
+        return new CachedResponse(body, statusCode, headers, Collections.unmodifiableMap(copy));
+    }
+}
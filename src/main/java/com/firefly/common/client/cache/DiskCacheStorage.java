@@ -0,0 +1,779 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.firefly.common.client.cache.HttpCacheManager.CacheEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * {@link CacheStorage} keeping serialized entries in memory-mapped files that outlive the
+ * process.
+ *
+ * <p>Entries are appended as records to fixed-size segment files in {@code diskDirectory},
+ * each mapped into memory, so writes and reads are plain memory copies left to the page
+ * cache to persist. A removal appends a tombstone. Only the index, with each entry's key,
+ * timestamps, validators and record location, stays on the heap; it evicts with
+ * W-TinyLFU, weighing each entry by its record length. An optional on-heap hot tier of
+ * {@code hotTierSize} live entries spares deserializing the hottest ones.
+ *
+ * <p>The segments hold a quarter more than {@code maxCacheBytes}. Once they are all used,
+ * the oldest segment is compacted: its records still in the index are copied to the
+ * newest segment, unless they expired and are no longer retained by the manager, and the
+ * segment file is deleted. Since compaction always takes the oldest segment, its
+ * tombstones can no longer hide anything and are dropped. Each segment counts the bytes
+ * of its records still in the index; when compacting every segment would free less than
+ * a segment, or an eighth of {@code maxCacheBytes}, the index first evicts entries in
+ * policy order, so that the room left unused at the end of segments never turns
+ * compaction into rewriting the same live records.
+ *
+ * <p>When created, the storage replays the segments left in the directory in order,
+ * rebuilding the index, and appends to a new segment. Every record carries a CRC32C
+ * checksum; replay stops at the first record of a segment that fails it, such as one torn
+ * by a crash, and skips segments with an unknown header. A lock file keeps other storages
+ * from opening the same directory. {@link #close()} forces the segments to disk.
+ *
+ * <p>Values that fail to serialize, or whose record is larger than half a segment, are
+ * not cached. A value that fails to deserialize is dropped and reported as a miss.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Slf4j
+final class DiskCacheStorage implements CacheStorage {
+
+    private static final int MAGIC = 0x46464843;
+    private static final int VERSION = 1;
+    private static final int SEGMENT_HEADER = 8;
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String LOCK_FILE = "cache.lock";
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    // length, checksum, kind, createdAt, expiresAt, loadTime and four length prefixes
+    private static final int RECORD_OVERHEAD = 4 + 4 + 1 + 8 + 8 + 8 + 4 * 4;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int maxRecordLength;
+    private final long minReclaimable;
+    private final CacheSerializer serializer;
+    private final Predicate<CacheEntry> retained;
+    private final TinyLfuCache<String, StoredEntry> index;
+    private final TinyLfuCache<String, CacheEntry> hotTier;
+    private final FileLock directoryLock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private Segment head;
+    private long nextSegmentId;
+    private boolean compacting;
+    private boolean closed;
+
+    /**
+     * @param retained tests whether an entry is still worth keeping, from its metadata
+     *                 alone; entries failing it are dropped when replayed or compacted
+     */
+    DiskCacheStorage(HttpCacheConfig config, Consumer<String> evictionListener, Predicate<CacheEntry> retained) {
+        if (config.getMaxCacheBytes() <= 0) {
+            throw new IllegalArgumentException("maxCacheBytes must be set for DISK storage");
+        }
+        if (config.getDiskDirectory() == null) {
+            throw new IllegalArgumentException("diskDirectory must be set for DISK storage");
+        }
+        if (config.getSegmentSize() <= SEGMENT_HEADER + 2 * RECORD_OVERHEAD) {
+            throw new IllegalArgumentException("segmentSize is too small: " + config.getSegmentSize());
+        }
+        this.directory = config.getDiskDirectory();
+        this.segmentSize = config.getSegmentSize();
+        long withHeadroom = config.getMaxCacheBytes() + config.getMaxCacheBytes() / 4;
+        this.maxSegments = (int) Math.min(Integer.MAX_VALUE,
+            Math.max(2, (withHeadroom + segmentSize - 1) / segmentSize + 1));
+        // Every full segment is then at least half used
+        this.maxRecordLength = (segmentSize - SEGMENT_HEADER) / 2;
+        this.minReclaimable = Math.max(segmentSize - SEGMENT_HEADER, config.getMaxCacheBytes() / 8);
+        this.serializer = config.getSerializer() != null ? config.getSerializer() : CacheSerializers.json();
+        this.retained = retained;
+        this.hotTier = config.getHotTierSize() > 0
+            ? new TinyLfuCache<>(config.getHotTierSize(), (key, entry) -> { })
+            : null;
+        this.index = new TinyLfuCache<>(config.getMaxCacheBytes(), config.getMaxCacheSize(),
+            (key, stored) -> stored.weight,
+            (key, stored) -> {
+                if (hotTier != null) {
+                    hotTier.remove(key);
+                }
+                evictionListener.accept(key);
+            },
+            (key, stored) -> stored.release());
+        this.directoryLock = lockDirectory(directory);
+
+        lock.lock();
+        try {
+            load();
+        } catch (IOException e) {
+            release();
+            throw new UncheckedIOException("Cannot load the cache from " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheEntry get(String key) {
+        if (hotTier != null) {
+            CacheEntry hot = hotTier.get(key);
+            if (hot != null) {
+                return hot;
+            }
+        }
+
+        StoredEntry stored = index.get(key);
+        if (stored == null) {
+            return null;
+        }
+        // Compacted segments stay mapped until collected, so the location never dangles
+        Location location = stored.location;
+        byte[] bytes = location.segment.read(location.valueOffset, location.valueLength);
+
+        Object value;
+        try {
+            value = serializer.deserialize(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Dropping cache entry for key: {} that cannot be deserialized: {}", key, e.toString());
+            removeStored(key, stored);
+            return null;
+        }
+
+        CacheEntry entry = stored.toEntry(value);
+        if (hotTier != null) {
+            hotTier.put(key, entry);
+            if (index.peek(key) != stored) {
+                // Replaced meanwhile; do not keep the older value in front of it
+                hotTier.remove(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public void put(String key, CacheEntry entry) {
+        byte[] value;
+        try {
+            value = serializer.serialize(entry.getValue());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Not caching entry for key: {} that cannot be serialized: {}", key, e.toString());
+            remove(key);
+            return;
+        }
+        byte[] record = encode(PUT, key, entry, value);
+        if (record.length > maxRecordLength) {
+            log.debug("Not caching entry for key: {}, larger than half a segment", key);
+            remove(key);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                log.debug("Not caching entry for key: {}, the cache is closed", key);
+                removeLocked(key);
+                return;
+            }
+            int offset = append(record);
+            if (offset < 0) {
+                removeLocked(key);
+                return;
+            }
+            Location location = new Location(head, offset, offset + record.length - value.length, value.length);
+            index(key, new StoredEntry(entry, location, record.length));
+            if (hotTier != null) {
+                hotTier.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String key) {
+        lock.lock();
+        try {
+            return removeLocked(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String key, CacheEntry entry) {
+        lock.lock();
+        try {
+            StoredEntry stored = index.peek(key);
+            if (stored == null || !stored.describes(entry)) {
+                return false;
+            }
+            return removeStored(key, stored);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            index.clear();
+            if (hotTier != null) {
+                hotTier.clear();
+            }
+            if (closed) {
+                return;
+            }
+            while (!segments.isEmpty()) {
+                segments.removeFirst().delete();
+            }
+            head = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public long weightedSize() {
+        return index.weightedSize();
+    }
+
+    @Override
+    public Set<String> keys() {
+        return index.keySet();
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Segment segment : segments) {
+                segment.buffer.force();
+            }
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static FileLock lockDirectory(Path directory) {
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock fileLock = channel.tryLock();
+            if (fileLock == null) {
+                throw new OverlappingFileLockException();
+            }
+            return fileLock;
+        } catch (OverlappingFileLockException e) {
+            closeQuietly(channel);
+            throw new IllegalStateException("Cache directory " + directory + " is in use by another cache");
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Cannot open cache directory " + directory, e);
+        }
+    }
+
+    private void release() {
+        try {
+            directoryLock.release();
+            directoryLock.channel().close();
+        } catch (IOException e) {
+            log.warn("Cannot release the lock of cache directory {}: {}", directory, e.toString());
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already failing
+            }
+        }
+    }
+
+    /**
+     * Replays the segments left in the directory, oldest first.
+     */
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted()
+                .toList();
+        }
+
+        Instant start = Instant.now();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long id;
+            try {
+                id = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring unexpected file {} in cache directory", file);
+                continue;
+            }
+            Segment segment = Segment.open(file);
+            if (segment == null) {
+                log.warn("Deleting cache segment {} with an unknown header", file);
+                Files.deleteIfExists(file);
+                continue;
+            }
+            segments.addLast(segment);
+            nextSegmentId = Math.max(nextSegmentId, id + 1);
+            replay(segment);
+        }
+
+        if (!segments.isEmpty()) {
+            log.info("Loaded {} cache entries from {} segments in {} ms", index.size(), segments.size(),
+                Duration.between(start, Instant.now()).toMillis());
+        }
+    }
+
+    private void replay(Segment segment) {
+        int offset = SEGMENT_HEADER;
+        Record record;
+        while ((record = segment.recordAt(offset)) != null) {
+            if (record.kind == PUT) {
+                StoredEntry stored = record.toStoredEntry(segment, offset);
+                if (retained.test(stored.toEntry(null))) {
+                    index(record.key, stored);
+                } else {
+                    index.remove(record.key);
+                }
+            } else {
+                index.remove(record.key);
+            }
+            offset += record.length;
+        }
+    }
+
+    /**
+     * Adds an entry to the index, counting its record as live in its segment.
+     */
+    private void index(String key, StoredEntry stored) {
+        stored.location.segment.live.addAndGet(stored.weight);
+        index.put(key, stored);
+    }
+
+    private boolean removeLocked(String key) {
+        boolean removed = index.remove(key);
+        if (hotTier != null) {
+            hotTier.remove(key);
+        }
+        // Even without an entry, an older record may still be in a segment
+        append(encode(REMOVE, key, null, new byte[0]));
+        return removed;
+    }
+
+    private boolean removeStored(String key, StoredEntry stored) {
+        lock.lock();
+        try {
+            if (!index.remove(key, stored)) {
+                return false;
+            }
+            if (hotTier != null) {
+                hotTier.remove(key);
+            }
+            append(encode(REMOVE, key, null, new byte[0]));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a record to the head segment, starting a new one if it is full.
+     *
+     * @return the offset of the record in the head segment, or -1 if it was not written,
+     *         which is logged unless the storage is closed or the record too large
+     */
+    private int append(byte[] record) {
+        if (closed || record.length > maxRecordLength) {
+            return -1;
+        }
+        try {
+            // Compacting may leave the new head without room, so start another one
+            for (int rolls = 0; head == null || head.remaining() < record.length; rolls++) {
+                if (rolls > maxSegments) {
+                    log.warn("Cannot make room for a cache record of {} bytes in {}", record.length, directory);
+                    return -1;
+                }
+                if (segments.size() >= maxSegments) {
+                    reclaim();
+                }
+                roll();
+            }
+        } catch (IOException e) {
+            log.warn("Cannot create a cache segment in {}: {}", directory, e.toString());
+            return -1;
+        }
+        return head.append(record);
+    }
+
+    /**
+     * Evicts entries in policy order until compacting every segment would free at least
+     * {@code minReclaimable} bytes.
+     */
+    private void reclaim() {
+        long reclaimable = 0;
+        for (Segment segment : segments) {
+            reclaimable += segment.used() - segment.live.get();
+        }
+        if (reclaimable < minReclaimable) {
+            index.shrink(minReclaimable - reclaimable);
+        }
+    }
+
+    /**
+     * Starts a new head segment, then compacts the oldest segments while there are too many.
+     */
+    private void roll() throws IOException {
+        long id = nextSegmentId++;
+        head = Segment.create(directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX)), segmentSize);
+        segments.addLast(head);
+        if (compacting) {
+            return;
+        }
+        compacting = true;
+        try {
+            while (segments.size() > maxSegments) {
+                compact(segments.removeFirst());
+            }
+        } finally {
+            compacting = false;
+        }
+    }
+
+    /**
+     * Copies the records of a segment that are still in the index to the head, dropping
+     * those no longer retained, and deletes the segment.
+     */
+    private void compact(Segment segment) throws IOException {
+        int moved = 0;
+        int dropped = 0;
+        int offset = SEGMENT_HEADER;
+        Record record;
+        while ((record = segment.recordAt(offset)) != null) {
+            StoredEntry stored = record.kind == PUT ? index.peek(record.key) : null;
+            if (stored != null && stored.location.segment == segment && stored.location.recordOffset == offset) {
+                if (retained.test(stored.toEntry(null))) {
+                    if (head.remaining() < record.length) {
+                        roll();
+                    }
+                    int copied = head.append(segment.read(offset, record.length));
+                    Location location = stored.location;
+                    if (stored.move(new Location(head, copied,
+                            copied + location.valueOffset - location.recordOffset, location.valueLength))) {
+                        moved++;
+                    }
+                } else {
+                    index.remove(record.key, stored);
+                    if (hotTier != null) {
+                        hotTier.remove(record.key);
+                    }
+                    dropped++;
+                }
+            }
+            offset += record.length;
+        }
+        segment.delete();
+        log.debug("Compacted cache segment {}: moved {} entries, dropped {} expired", segment.path, moved, dropped);
+    }
+
+    private static byte[] encode(byte kind, String key, CacheEntry entry, byte[] value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] etag = entry != null ? bytesOf(entry.getEtag()) : null;
+        byte[] lastModified = entry != null ? bytesOf(entry.getLastModified()) : null;
+        int length = RECORD_OVERHEAD + keyBytes.length + lengthOf(etag) + lengthOf(lastModified) + value.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(length).putInt(0).put(kind);
+        buffer.putLong(entry != null ? entry.getCreatedAt().toEpochMilli() : 0);
+        buffer.putLong(entry != null ? entry.getExpiresAt().toEpochMilli() : 0);
+        buffer.putLong(entry != null && entry.getLoadTime() != null ? entry.getLoadTime().toNanos() : 0);
+        putBytes(buffer, keyBytes);
+        putBytes(buffer, etag);
+        putBytes(buffer, lastModified);
+        putBytes(buffer, value);
+
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.array(), 8, length - 8);
+        buffer.putInt(4, (int) checksum.getValue());
+        return buffer.array();
+    }
+
+    private static byte[] bytesOf(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int lengthOf(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * A memory-mapped segment file. Records are only appended, under the storage lock;
+     * reads use absolute positions and need no lock.
+     */
+    private static final class Segment {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        // Bytes of the records still in the index
+        private final AtomicInteger live = new AtomicInteger();
+        private int writeOffset;
+
+        private Segment(Path path, MappedByteBuffer buffer, int writeOffset) {
+            this.path = path;
+            this.buffer = buffer;
+            this.writeOffset = writeOffset;
+        }
+
+        static Segment create(Path path, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(0, MAGIC).putInt(4, VERSION);
+                return new Segment(path, buffer, SEGMENT_HEADER);
+            }
+        }
+
+        /**
+         * Maps an existing segment, or returns {@code null} if it is not one.
+         */
+        static Segment open(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = channel.size();
+                if (size < SEGMENT_HEADER || size > Integer.MAX_VALUE) {
+                    return null;
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    return null;
+                }
+                return new Segment(path, buffer, (int) size);
+            }
+        }
+
+        int remaining() {
+            return buffer.capacity() - writeOffset;
+        }
+
+        int used() {
+            return writeOffset - SEGMENT_HEADER;
+        }
+
+        int append(byte[] record) {
+            int offset = writeOffset;
+            buffer.put(offset, record);
+            writeOffset += record.length;
+            return offset;
+        }
+
+        byte[] read(int offset, int length) {
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes);
+            return bytes;
+        }
+
+        /**
+         * Reads the record at an offset, or returns {@code null} at the end of the
+         * records or at a record failing its checksum.
+         */
+        Record recordAt(int offset) {
+            if (offset + RECORD_OVERHEAD > buffer.capacity()) {
+                return null;
+            }
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                return null;
+            }
+            if (length < RECORD_OVERHEAD || length > buffer.capacity() - offset) {
+                log.warn("Ignoring cache records from offset {} of {}: invalid length", offset, path);
+                return null;
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(read(offset, length));
+            CRC32C checksum = new CRC32C();
+            checksum.update(bytes.array(), 8, length - 8);
+            if (bytes.getInt(4) != (int) checksum.getValue()) {
+                log.warn("Ignoring cache records from offset {} of {}: checksum mismatch", offset, path);
+                return null;
+            }
+            return Record.decode(bytes);
+        }
+
+        void delete() {
+            // The mapping stays valid for readers until the buffer is collected
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Cannot delete cache segment {}: {}", path, e.toString());
+            }
+        }
+    }
+
+    /**
+     * A record read back from a segment, with its value located rather than copied.
+     */
+    private record Record(int length, byte kind, String key, long createdAt, long expiresAt, long loadTime,
+                          String etag, String lastModified, int valueOffset, int valueLength) {
+
+        static Record decode(ByteBuffer bytes) {
+            int length = bytes.getInt();
+            bytes.getInt();
+            byte kind = bytes.get();
+            long createdAt = bytes.getLong();
+            long expiresAt = bytes.getLong();
+            long loadTime = bytes.getLong();
+            String key = getString(bytes);
+            String etag = getString(bytes);
+            String lastModified = getString(bytes);
+            int valueLength = bytes.getInt();
+            return new Record(length, kind, key, createdAt, expiresAt, loadTime, etag, lastModified,
+                bytes.position(), valueLength);
+        }
+
+        StoredEntry toStoredEntry(Segment segment, int offset) {
+            CacheEntry entry = new CacheEntry(null, Instant.ofEpochMilli(createdAt), Instant.ofEpochMilli(expiresAt),
+                etag, lastModified, Duration.ofNanos(loadTime));
+            return new StoredEntry(entry, new Location(segment, offset, offset + valueOffset, valueLength), length);
+        }
+    }
+
+    /**
+     * Where a record and its value are. Compaction moves records by replacing it.
+     */
+    private record Location(Segment segment, int recordOffset, int valueOffset, int valueLength) {
+    }
+
+    /**
+     * Index entry: the metadata of a cached entry and the location of its record. Moving
+     * and releasing the record are synchronized, so that the live bytes of a segment
+     * count it until it leaves the index.
+     */
+    private static final class StoredEntry {
+        private final Instant createdAt;
+        private final Instant expiresAt;
+        private final String etag;
+        private final String lastModified;
+        private final Duration loadTime;
+        private final int weight;
+        private volatile Location location;
+        private boolean released;
+
+        StoredEntry(CacheEntry entry, Location location, int weight) {
+            this.createdAt = entry.getCreatedAt();
+            this.expiresAt = entry.getExpiresAt();
+            this.etag = entry.getEtag();
+            this.lastModified = entry.getLastModified();
+            this.loadTime = entry.getLoadTime();
+            this.location = location;
+            this.weight = weight;
+        }
+
+        CacheEntry toEntry(Object value) {
+            return new CacheEntry(value, createdAt, expiresAt, etag, lastModified, loadTime);
+        }
+
+        /**
+         * Points the entry at a copy of its record, unless it already left the index.
+         */
+        synchronized boolean move(Location copy) {
+            if (released) {
+                return false;
+            }
+            copy.segment.live.addAndGet(weight);
+            location = copy;
+            return true;
+        }
+
+        /**
+         * Called once the entry left the index.
+         */
+        synchronized void release() {
+            if (!released) {
+                released = true;
+                location.segment.live.addAndGet(-weight);
+            }
+        }
+
+        /**
+         * Returns whether the entry was restored from this one.
+         */
+        boolean describes(CacheEntry entry) {
+            return createdAt.equals(entry.getCreatedAt()) && expiresAt.equals(entry.getExpiresAt());
+        }
+    }
+}
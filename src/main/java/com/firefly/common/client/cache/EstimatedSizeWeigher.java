@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Weigher estimating the retained heap size of cached values.
+ *
+ * <p>Common value types are walked and sized from the JVM's object layout, assuming
+ * 16-byte object headers and 4-byte compressed references. Other objects are weighed by
+ * the length of their JSON form, which costs a serialization but tracks the payload the
+ * object was decoded from. Nesting deeper than {@value #MAX_DEPTH} levels is counted as a
+ * single reference, which also guards against cycles.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class EstimatedSizeWeigher implements CacheWeigher {
+
+    /**
+     * Map and policy nodes, the {@link HttpCacheManager.CacheEntry} and its timestamps.
+     */
+    static final int ENTRY_OVERHEAD = 160;
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int COLLECTION_OVERHEAD = 32;
+    private static final int MAP_OVERHEAD = 64;
+    private static final int MAP_ENTRY_OVERHEAD = 32;
+    private static final int RESPONSE_OVERHEAD = 64;
+    private static final int MAX_DEPTH = 16;
+
+    /**
+     * Weight of a value that cannot be serialized.
+     */
+    private static final int UNSERIALIZABLE_WEIGHT = 1024;
+
+    private final ObjectMapper objectMapper;
+
+    EstimatedSizeWeigher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    static ObjectMapper defaultMapper() {
+        return new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    }
+
+    @Override
+    public int weigh(String key, Object value) {
+        return clamp(ENTRY_OVERHEAD + stringSize(key) + sizeOf(value, 0));
+    }
+
+    private long sizeOf(Object value, int depth) {
+        if (value == null || value instanceof Enum<?>) {
+            return 0;
+        }
+        if (depth > MAX_DEPTH) {
+            return REFERENCE;
+        }
+        if (value instanceof String string) {
+            return stringSize(string);
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_HEADER + (long) bytes.length;
+        }
+        if (value instanceof ByteBuffer buffer) {
+            return OBJECT_HEADER + STRING_OVERHEAD + (long) buffer.capacity();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_HEADER + 8;
+        }
+        if (value instanceof InterceptorResponse response) {
+            return RESPONSE_OVERHEAD
+                + sizeOf(response.getHeaders(), depth + 1)
+                + sizeOf(response.getBody(), depth + 1);
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = MAP_OVERHEAD;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += MAP_ENTRY_OVERHEAD + sizeOf(entry.getKey(), depth + 1) + sizeOf(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = COLLECTION_OVERHEAD;
+            for (Object element : collection) {
+                size += REFERENCE + sizeOf(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Object[] array) {
+            long size = OBJECT_HEADER;
+            for (Object element : array) {
+                size += REFERENCE + sizeOf(element, depth + 1);
+            }
+            return size;
+        }
+        if (value.getClass().isArray()) {
+            return OBJECT_HEADER + (long) Array.getLength(value) * primitiveSize(value.getClass().getComponentType());
+        }
+        return serializedSize(objectMapper, value);
+    }
+
+    static long stringSize(String string) {
+        return string == null ? 0 : STRING_OVERHEAD + (long) string.length();
+    }
+
+    static long serializedSize(ObjectMapper objectMapper, Object value) {
+        if (value == null) {
+            return 0;
+        }
+        CountingOutputStream out = new CountingOutputStream();
+        try {
+            objectMapper.writeValue(out, value);
+            return out.count;
+        } catch (IOException | RuntimeException e) {
+            return UNSERIALIZABLE_WEIGHT;
+        }
+    }
+
+    static int clamp(long weight) {
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == boolean.class || type == byte.class) {
+            return 1;
+        }
+        if (type == char.class || type == short.class) {
+            return 2;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        return 8;
+    }
+
+    /**
+     * Discards what is written, counting the bytes.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.firefly.common.client.cache;
 import lombok.Builder;
 import lombok.Data;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
@@ -62,12 +63,59 @@ public class HttpCacheConfig {
     private Duration defaultTtl = Duration.ofMinutes(5);
 
     /**
-     * Maximum number of entries in the cache.
+     * Maximum number of entries in the cache. Once reached, the entries least likely to
+     * be used again, by frequency and recency (W-TinyLFU), are evicted.
      * Default: 1000
      */
     @Builder.Default
     private int maxCacheSize = 1000;
 
+    /**
+     * Maximum total size of the cached entries in bytes, as estimated by {@link #weigher}.
+     * When set, eviction is driven by the total size, and {@link #maxCacheSize} still caps
+     * the number of entries. Zero or negative bounds the cache by entry count only.
+     * Required by {@link CacheStorageType#OFF_HEAP} and {@link CacheStorageType#DISK}
+     * storage, where it is the budget of direct memory or disk and entries are weighed by
+     * their serialized length instead.
+     * Default: 0
+     */
+    @Builder.Default
+    private long maxCacheBytes = 0;
+
+    /**
+     * Estimates the size of each entry when {@link #maxCacheBytes} is set.
+     * Default: {@link CacheWeighers#estimatedSize()}
+     */
+    @Builder.Default
+    private CacheWeigher weigher = CacheWeighers.estimatedSize();
+
+    /**
+     * How long after expiring an entry may still be served while it is revalidated in the
+     * background (RFC 5861 {@code stale-while-revalidate}). Zero always revalidates before
+     * responding.
+     * Default: 0
+     */
+    @Builder.Default
+    private Duration staleWhileRevalidate = Duration.ZERO;
+
+    /**
+     * How long after expiring an entry may still be served when revalidating it fails
+     * (RFC 5861 {@code stale-if-error}). Zero propagates the error.
+     * Default: 0
+     */
+    @Builder.Default
+    private Duration staleIfError = Duration.ZERO;
+
+    /**
+     * Weight of the probabilistic early refresh of hot entries (XFetch). Each hit may
+     * refresh the entry in the background ahead of its expiry, the more likely the closer
+     * the expiry and the longer the entry took to load; values above 1.0 refresh earlier.
+     * Zero or negative refreshes only after expiry. 1.0 is a good starting point.
+     * Default: 0
+     */
+    @Builder.Default
+    private double earlyRefreshBeta = 0;
+
     /**
      * Whether to respect Cache-Control headers from responses.
      * Default: true
@@ -127,6 +175,46 @@ public class HttpCacheConfig {
     @Builder.Default
     private CacheStorageType storageType = CacheStorageType.IN_MEMORY;
 
+    /**
+     * Serializes values for {@link CacheStorageType#OFF_HEAP} and {@link CacheStorageType#DISK}
+     * storage.
+     * Default: {@link CacheSerializers#json()}
+     */
+    @Builder.Default
+    private CacheSerializer serializer = CacheSerializers.json();
+
+    /**
+     * Size in bytes of each direct memory slab of {@link CacheStorageType#OFF_HEAP}
+     * storage. Values serialized to more than this span several slabs.
+     * Default: 4 MB
+     */
+    @Builder.Default
+    private int slabSize = 4 * 1024 * 1024;
+
+    /**
+     * Number of deserialized entries kept on the heap in front of
+     * {@link CacheStorageType#OFF_HEAP} and {@link CacheStorageType#DISK} storage, to spare
+     * deserializing the hottest ones on every hit. Zero disables the hot tier.
+     * Default: 0
+     */
+    @Builder.Default
+    private int hotTierSize = 0;
+
+    /**
+     * Directory of the segment files of {@link CacheStorageType#DISK} storage, required by
+     * it. Entries left there by a previous run are reloaded on startup, so it should be on
+     * a volume that outlives the process. Only one cache can use a directory at a time.
+     */
+    private Path diskDirectory;
+
+    /**
+     * Size in bytes of each memory-mapped segment file of {@link CacheStorageType#DISK}
+     * storage. Entries serialized to more than half of this are not cached.
+     * Default: 64 MB
+     */
+    @Builder.Default
+    private int segmentSize = 64 * 1024 * 1024;
+
     /**
      * Redis configuration (if using Redis storage).
      */
@@ -137,6 +225,8 @@ public class HttpCacheConfig {
      */
     public enum CacheStorageType {
         IN_MEMORY,      // Local in-memory cache
+        OFF_HEAP,       // Serialized entries in direct memory, bounded by maxCacheBytes
+        DISK,           // Serialized entries in memory-mapped files that survive restarts
         REDIS,          // Distributed Redis cache
         HAZELCAST,      // Distributed Hazelcast cache
         CAFFEINE        // Caffeine cache (high-performance)
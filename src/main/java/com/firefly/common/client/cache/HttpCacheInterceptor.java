@@ -23,6 +23,8 @@ import com.firefly.common.client.interceptor.ServiceClientInterceptor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
+import java.util.TreeMap;
+
 /**
  * HTTP caching interceptor for ServiceClient operations.
  * 
@@ -32,14 +34,25 @@ import reactor.core.publisher.Mono;
  *   <li>Cache-Control directives</li>
  *   <li>Conditional requests (If-None-Match, If-Modified-Since)</li>
  *   <li>TTL-based expiration</li>
+ *   <li>Stale-while-revalidate and stale-if-error</li>
  * </ul>
  *
+ * <p>An expired response is revalidated with {@code If-None-Match} and
+ * {@code If-Modified-Since}, as enabled by {@code useEtags} and {@code useLastModified};
+ * a {@code 304 Not Modified} renews the cached response without transferring it again.
+ *
  * @author Firefly Software Solutions Inc
  * @since 1.0.0
  */
 @Slf4j
 public class HttpCacheInterceptor implements ServiceClientInterceptor {
 
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final int NOT_MODIFIED = 304;
+
     private final HttpCacheManager cacheManager;
     private final HttpCacheConfig config;
 
@@ -68,32 +81,70 @@ public class HttpCacheInterceptor implements ServiceClientInterceptor {
         // Generate cache key
         String cacheKey = generateCacheKey(request);
 
-        // Try to get from cache
-        return cacheManager.getOrExecute(
-            cacheKey,
-            chain.proceed(request)
-                .doOnSuccess(response -> {
-                    // Extract ETag and Last-Modified from response
-                    String etag = response.getHeaders().get("ETag");
-                    String lastModified = response.getHeaders().get("Last-Modified");
-                    
-                    // Cache the response
-                    cacheManager.put(cacheKey, response, etag, lastModified);
-                })
-        );
+        // Try to get from cache, revalidating expired entries
+        return cacheManager.getOrRevalidate(cacheKey, new ConditionalRequest(request, chain));
     }
 
     /**
      * Generates a cache key from the request.
+     *
+     * <p>Path and query parameters are part of the key, sorted by name, since the endpoint
+     * is the unexpanded template shared by all of them.
      */
     private String generateCacheKey(InterceptorRequest request) {
-        return String.format("%s:%s:%s",
+        return String.format("%s:%s:%s:%s:%s",
             request.getServiceName(),
             request.getMethod(),
-            request.getEndpoint()
+            request.getEndpoint(),
+            new TreeMap<>(request.getPathParams()),
+            new TreeMap<>(request.getQueryParams())
         );
     }
 
+    /**
+     * Sends the request, conditional on the validators of the expired entry, and stores
+     * the validators of the response if they are enabled.
+     */
+    private final class ConditionalRequest implements HttpCacheManager.Revalidation<InterceptorResponse> {
+
+        private final InterceptorRequest request;
+        private final InterceptorChain chain;
+
+        private ConditionalRequest(InterceptorRequest request, InterceptorChain chain) {
+            this.request = request;
+            this.chain = chain;
+        }
+
+        @Override
+        public Mono<InterceptorResponse> fetch(HttpCacheManager.CacheEntry stale) {
+            InterceptorRequest conditional = request;
+            if (stale != null) {
+                if (config.isUseEtags() && stale.getEtag() != null) {
+                    conditional = conditional.withHeader(IF_NONE_MATCH, stale.getEtag());
+                }
+                if (config.isUseLastModified() && stale.getLastModified() != null) {
+                    conditional = conditional.withHeader(IF_MODIFIED_SINCE, stale.getLastModified());
+                }
+            }
+            return chain.proceed(conditional);
+        }
+
+        @Override
+        public boolean isNotModified(InterceptorResponse response) {
+            return response.getStatusCode() == NOT_MODIFIED;
+        }
+
+        @Override
+        public String etag(InterceptorResponse response) {
+            return config.isUseEtags() ? response.getHeaders().get(ETAG) : null;
+        }
+
+        @Override
+        public String lastModified(InterceptorResponse response) {
+            return config.isUseLastModified() ? response.getHeaders().get(LAST_MODIFIED) : null;
+        }
+    }
+
     @Override
     public int getOrder() {
         return 20; // Execute early, but after chaos engineering
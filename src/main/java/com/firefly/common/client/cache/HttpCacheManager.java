@@ -16,14 +16,14 @@
 
 package com.firefly.common.client.cache;
 
+import com.firefly.common.client.deduplication.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -35,7 +35,11 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>Last-Modified validation (If-Modified-Since)</li>
  *   <li>Cache-Control directives (max-age, no-cache, no-store)</li>
  *   <li>TTL-based expiration</li>
+ *   <li>Stale-while-revalidate and stale-if-error</li>
+ *   <li>Per-key coalescing of misses and probabilistic early refresh</li>
  *   <li>Cache warming and invalidation</li>
+ *   <li>On-heap, off-heap or persistent disk storage of serialized entries</li>
+ *   <li>W-TinyLFU eviction once {@code maxCacheSize} or {@code maxCacheBytes} is reached</li>
  *   <li>Conditional requests (304 Not Modified)</li>
  * </ul>
  *
@@ -64,20 +68,42 @@ import java.util.concurrent.atomic.AtomicLong;
 public class HttpCacheManager {
 
     private final HttpCacheConfig config;
-    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final CacheStorage cache;
     private final AtomicLong hits = new AtomicLong(0);
     private final AtomicLong misses = new AtomicLong(0);
     private final AtomicLong evictions = new AtomicLong(0);
+    private final AtomicLong staleHits = new AtomicLong(0);
+    private final AtomicLong revalidations = new AtomicLong(0);
+    private final AtomicLong earlyRefreshes = new AtomicLong(0);
+    private final SingleFlight<String> loads = new SingleFlight<>();
 
     public HttpCacheManager(HttpCacheConfig config) {
         this.config = config;
+        this.cache = createStorage(config);
         
         if (config.isEnabled()) {
-            log.info("HTTP Cache Manager initialized with max size: {}, default TTL: {}",
-                config.getMaxCacheSize(), config.getDefaultTtl());
+            log.info("HTTP Cache Manager initialized with storage: {}, max size: {}, max bytes: {}, default TTL: {}",
+                config.getStorageType(), config.getMaxCacheSize(),
+                config.getMaxCacheBytes() > 0 ? config.getMaxCacheBytes() : "unbounded", config.getDefaultTtl());
         }
     }
 
+    private CacheStorage createStorage(HttpCacheConfig config) {
+        HttpCacheConfig.CacheStorageType storageType = config.getStorageType() != null
+            ? config.getStorageType()
+            : HttpCacheConfig.CacheStorageType.IN_MEMORY;
+        return switch (storageType) {
+            case IN_MEMORY -> new InMemoryCacheStorage(config, this::onEviction);
+            case OFF_HEAP -> new OffHeapCacheStorage(config, this::onEviction);
+            case DISK -> new DiskCacheStorage(config, this::onEviction,
+                entry -> !entry.isExpired() || isRetained(entry, Instant.now()));
+            default -> {
+                log.warn("{} cache storage is not supported by HttpCacheManager, using IN_MEMORY", storageType);
+                yield new InMemoryCacheStorage(config, this::onEviction);
+            }
+        };
+    }
+
     /**
      * Gets a cached response or executes the request if not cached.
      */
@@ -87,44 +113,190 @@ public class HttpCacheManager {
 
     /**
      * Gets a cached response or executes the request with ETag support.
+     *
+     * <p>{@code etag} and {@code lastModified} are stored with the response as its
+     * validators. Expired entries are served stale according to the configured
+     * stale-while-revalidate and stale-if-error windows.
      */
     public <T> Mono<T> getOrExecute(String cacheKey, Mono<T> requestMono, String etag, String lastModified) {
+        return getOrRevalidate(cacheKey, new Revalidation<T>() {
+            @Override
+            public Mono<T> fetch(CacheEntry stale) {
+                return requestMono;
+            }
+
+            @Override
+            public String etag(T response) {
+                return etag;
+            }
+
+            @Override
+            public String lastModified(T response) {
+                return lastModified;
+            }
+        });
+    }
+
+    /**
+     * Gets a cached response, revalidating expired entries with conditional requests.
+     *
+     * <p>A fresh entry is returned as is; with {@code earlyRefreshBeta} set, it may also be
+     * revalidated in the background shortly before it expires (see below). An entry that
+     * expired less than {@code staleWhileRevalidate} ago is returned immediately and
+     * revalidated in the background. Otherwise the request is sent, given the
+     * expired entry so that it can ask the server whether the entry is still current. If the
+     * response says it is (a {@code 304 Not Modified}), the entry's TTL is renewed and its
+     * value returned without transferring the body again; any other response replaces the
+     * entry. If the request fails and the entry expired less than {@code staleIfError} ago,
+     * the stale value is returned instead of the error.
+     *
+     * <p>Loads are coalesced per key: while a request for a key is in flight, in the
+     * foreground or the background, other callers missing the same key wait for its result
+     * instead of sending their own, so an expiring hot key costs the downstream one request.
+     * A failed load is shared by the callers waiting for it but is not cached; the next
+     * caller sends a new request.
+     *
+     * <p>Early refresh follows the XFetch algorithm: on each hit, an entry is refreshed with
+     * probability growing as its expiry approaches, when
+     * {@code now + loadTime * beta * -ln(random) >= expiresAt}. Entries that take longer to
+     * load are refreshed earlier, and the random term spreads the refreshes of hot keys over
+     * time instead of concentrating them at the TTL boundary.
+     *
+     * @param cacheKey the cache key
+     * @param revalidation sends the request and interprets its response
+     * @return the cached or fetched value
+     */
+    public <T> Mono<T> getOrRevalidate(String cacheKey, Revalidation<T> revalidation) {
         if (!config.isEnabled()) {
-            return requestMono;
+            return revalidation.fetch(null);
         }
 
-        // Check cache
-        Optional<CacheEntry> cachedEntry = get(cacheKey);
-        
-        if (cachedEntry.isPresent()) {
-            CacheEntry entry = cachedEntry.get();
-            
-            // Check if entry is still valid
-            if (!entry.isExpired()) {
+        CacheEntry entry = cache.get(cacheKey);
+        Instant now = Instant.now();
+        if (entry != null) {
+            if (!entry.isExpired(now)) {
                 hits.incrementAndGet();
                 log.debug("Cache HIT for key: {}", cacheKey);
-                
-                @SuppressWarnings("unchecked")
-                T cachedValue = (T) entry.getValue();
-                return Mono.just(cachedValue);
-            } else {
-                // Entry expired, remove it
-                invalidate(cacheKey);
+                if (shouldRefreshEarly(entry, now)) {
+                    earlyRefreshes.incrementAndGet();
+                    log.debug("Refreshing cache entry for key: {} ahead of expiry", cacheKey);
+                    revalidateInBackground(cacheKey, entry, revalidation);
+                }
+                return Mono.just(valueOf(entry));
+            }
+            if (isWithin(entry, config.getStaleWhileRevalidate(), now)) {
+                hits.incrementAndGet();
+                staleHits.incrementAndGet();
+                log.debug("Cache STALE HIT for key: {}, revalidating in background", cacheKey);
+                revalidateInBackground(cacheKey, entry, revalidation);
+                return Mono.just(valueOf(entry));
+            }
+            if (!isRetained(entry, now)) {
+                // Neither servable nor revalidatable; do not let it outlive a failed load
+                cache.remove(cacheKey, entry);
+                entry = null;
             }
         }
 
-        // Cache miss - execute request and cache result
+        // Cache miss - execute request, conditional on the expired entry if there is one
         misses.incrementAndGet();
         log.debug("Cache MISS for key: {}", cacheKey);
 
-        return requestMono
-            .doOnSuccess(response -> {
-                if (response != null) {
-                    put(cacheKey, response, etag, lastModified);
+        CacheEntry stale = entry;
+        return load(cacheKey, stale, revalidation)
+            .onErrorResume(error -> {
+                if (stale == null || !isWithin(stale, config.getStaleIfError(), Instant.now())) {
+                    return Mono.error(error);
+                }
+                staleHits.incrementAndGet();
+                log.debug("Serving stale entry for key: {} after error: {}", cacheKey, error.toString());
+                return Mono.just(valueOf(stale));
+            });
+    }
+
+    /**
+     * Fetches and stores the value of a key, or joins the load of it already in flight.
+     */
+    private <T> Mono<T> load(String cacheKey, CacheEntry stale, Revalidation<T> revalidation) {
+        return loads.execute(cacheKey, () -> fetch(cacheKey, stale, revalidation));
+    }
+
+    private <T> Mono<T> fetch(String cacheKey, CacheEntry stale, Revalidation<T> revalidation) {
+        long start = System.nanoTime();
+        return revalidation.fetch(stale)
+            .map(response -> {
+                Duration loadTime = Duration.ofNanos(System.nanoTime() - start);
+                if (!revalidation.isNotModified(response)) {
+                    store(cacheKey, response, revalidation.etag(response), revalidation.lastModified(response), loadTime);
+                    return response;
                 }
+                if (stale == null) {
+                    // Answer to the caller's own conditional request, nothing to renew
+                    return response;
+                }
+                renew(cacheKey, stale, revalidation.etag(response), revalidation.lastModified(response), loadTime);
+                return valueOf(stale);
             });
     }
 
+    private <T> void revalidateInBackground(String cacheKey, CacheEntry stale, Revalidation<T> revalidation) {
+        if (loads.isInFlight(cacheKey)) {
+            return;
+        }
+        load(cacheKey, stale, revalidation)
+            .subscribe(
+                response -> { },
+                error -> log.debug("Background revalidation failed for key: {}: {}", cacheKey, error.toString()));
+    }
+
+    /**
+     * Renews the TTL of an entry the server confirmed to be current, keeping its value.
+     */
+    private void renew(String cacheKey, CacheEntry stale, String etag, String lastModified, Duration loadTime) {
+        Instant now = Instant.now();
+        CacheEntry renewed = new CacheEntry(
+            stale.getValue(),
+            now,
+            now.plus(config.getDefaultTtl()),
+            etag != null ? etag : stale.getEtag(),
+            lastModified != null ? lastModified : stale.getLastModified(),
+            loadTime
+        );
+        cache.put(cacheKey, renewed);
+        revalidations.incrementAndGet();
+        log.debug("Revalidated cache entry for key: {} (expires: {})", cacheKey, renewed.getExpiresAt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T valueOf(CacheEntry entry) {
+        return (T) entry.getValue();
+    }
+
+    private boolean shouldRefreshEarly(CacheEntry entry, Instant now) {
+        double beta = config.getEarlyRefreshBeta();
+        long loadTimeNanos = entry.getLoadTime().toNanos();
+        if (beta <= 0 || loadTimeNanos <= 0) {
+            return false;
+        }
+        double gapNanos = loadTimeNanos * beta * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return !now.plusNanos((long) Math.min(gapNanos, Long.MAX_VALUE)).isBefore(entry.getExpiresAt());
+    }
+
+    private static boolean isWithin(CacheEntry entry, Duration window, Instant now) {
+        return window != null && !window.isZero() && !now.isAfter(entry.getExpiresAt().plus(window));
+    }
+
+    /**
+     * Returns whether an expired entry is still useful, either to be served stale or for
+     * its validators.
+     */
+    private boolean isRetained(CacheEntry entry, Instant now) {
+        return isWithin(entry, config.getStaleWhileRevalidate(), now)
+            || isWithin(entry, config.getStaleIfError(), now)
+            || (config.isUseEtags() && entry.getEtag() != null)
+            || (config.isUseLastModified() && entry.getLastModified() != null);
+    }
+
     /**
      * Puts a value in the cache.
      */
@@ -136,21 +308,22 @@ public class HttpCacheManager {
      * Puts a value in the cache with ETag and Last-Modified.
      */
     public void put(String key, Object value, String etag, String lastModified) {
+        store(key, value, etag, lastModified, Duration.ZERO);
+    }
+
+    private void store(String key, Object value, String etag, String lastModified, Duration loadTime) {
         if (!config.isEnabled()) {
             return;
         }
 
-        // Check cache size limit
-        if (cache.size() >= config.getMaxCacheSize()) {
-            evictOldest();
-        }
-
+        Instant now = Instant.now();
         CacheEntry entry = new CacheEntry(
             value,
-            Instant.now(),
-            Instant.now().plus(config.getDefaultTtl()),
+            now,
+            now.plus(config.getDefaultTtl()),
             etag,
-            lastModified
+            lastModified,
+            loadTime
         );
 
         cache.put(key, entry);
@@ -167,9 +340,13 @@ public class HttpCacheManager {
         }
 
         CacheEntry entry = cache.get(key);
-        
-        if (entry != null && entry.isExpired()) {
-            cache.remove(key);
+        Instant now = Instant.now();
+
+        if (entry != null && entry.isExpired(now)) {
+            // Expired entries with validators are kept for conditional revalidation
+            if (!isRetained(entry, now)) {
+                cache.remove(key, entry);
+            }
             return Optional.empty();
         }
 
@@ -180,8 +357,7 @@ public class HttpCacheManager {
      * Invalidates a cache entry.
      */
     public void invalidate(String key) {
-        CacheEntry removed = cache.remove(key);
-        if (removed != null) {
+        if (cache.remove(key)) {
             log.debug("Invalidated cache entry for key: {}", key);
         }
     }
@@ -190,7 +366,7 @@ public class HttpCacheManager {
      * Invalidates all cache entries matching a pattern.
      */
     public void invalidatePattern(String pattern) {
-        cache.keySet().stream()
+        cache.keys().stream()
             .filter(key -> key.matches(pattern))
             .forEach(this::invalidate);
     }
@@ -212,20 +388,18 @@ public class HttpCacheManager {
     }
 
     /**
-     * Evicts the oldest cache entry.
+     * Counts an entry evicted by the cache policy.
      */
-    private void evictOldest() {
-        cache.entrySet().stream()
-            .min((e1, e2) -> e1.getValue().getCreatedAt().compareTo(e2.getValue().getCreatedAt()))
-            .ifPresent(entry -> {
-                cache.remove(entry.getKey());
-                evictions.incrementAndGet();
-                log.debug("Evicted oldest cache entry: {}", entry.getKey());
-            });
+    private void onEviction(String key) {
+        evictions.incrementAndGet();
+        log.debug("Evicted cache entry: {}", key);
     }
 
     /**
      * Warms up the cache with pre-loaded data.
+     *
+     * <p>With {@code DISK} storage, the entries cached before a restart are already
+     * reloaded when the manager is created; warming up is only needed for the others.
      */
     public <T> Mono<Void> warmUp(String key, Mono<T> dataMono) {
         return dataMono
@@ -233,6 +407,15 @@ public class HttpCacheManager {
             .then();
     }
 
+    /**
+     * Releases the storage. {@code DISK} storage forces its segment files to disk, stops
+     * caching new entries and unlocks its directory for the next manager.
+     */
+    public void shutdown() {
+        cache.close();
+        log.info("HTTP Cache Manager shut down");
+    }
+
     /**
      * Gets cache statistics.
      */
@@ -242,7 +425,11 @@ public class HttpCacheManager {
             hits.get(),
             misses.get(),
             evictions.get(),
-            calculateHitRate()
+            calculateHitRate(),
+            cache.weightedSize(),
+            staleHits.get(),
+            revalidations.get(),
+            earlyRefreshes.get()
         );
     }
 
@@ -261,6 +448,49 @@ public class HttpCacheManager {
         hits.set(0);
         misses.set(0);
         evictions.set(0);
+        staleHits.set(0);
+        revalidations.set(0);
+        earlyRefreshes.set(0);
+    }
+
+    /**
+     * Sends the request behind a cache entry and interprets its response, for
+     * {@link #getOrRevalidate(String, Revalidation)}.
+     *
+     * @param <T> the response type
+     */
+    public interface Revalidation<T> {
+
+        /**
+         * Sends the request.
+         *
+         * @param stale the expired entry to revalidate, or {@code null} on a miss; its
+         *              validators should be sent as {@code If-None-Match} and
+         *              {@code If-Modified-Since}
+         * @return the response
+         */
+        Mono<T> fetch(CacheEntry stale);
+
+        /**
+         * Returns whether the response confirms that the stale entry is still current.
+         */
+        default boolean isNotModified(T response) {
+            return false;
+        }
+
+        /**
+         * Returns the ETag to store with the response, or {@code null}.
+         */
+        default String etag(T response) {
+            return null;
+        }
+
+        /**
+         * Returns the Last-Modified date to store with the response, or {@code null}.
+         */
+        default String lastModified(T response) {
+            return null;
+        }
     }
 
     /**
@@ -272,13 +502,23 @@ public class HttpCacheManager {
         private final Instant expiresAt;
         private final String etag;
         private final String lastModified;
+        private final Duration loadTime;
 
         public CacheEntry(Object value, Instant createdAt, Instant expiresAt, String etag, String lastModified) {
+            this(value, createdAt, expiresAt, etag, lastModified, Duration.ZERO);
+        }
+
+        /**
+         * @param loadTime how long fetching the value took, used to schedule early refreshes
+         */
+        public CacheEntry(Object value, Instant createdAt, Instant expiresAt, String etag, String lastModified,
+                          Duration loadTime) {
             this.value = value;
             this.createdAt = createdAt;
             this.expiresAt = expiresAt;
             this.etag = etag;
             this.lastModified = lastModified;
+            this.loadTime = loadTime;
         }
 
         public Object getValue() { return value; }
@@ -286,9 +526,14 @@ public class HttpCacheManager {
         public Instant getExpiresAt() { return expiresAt; }
         public String getEtag() { return etag; }
         public String getLastModified() { return lastModified; }
+        public Duration getLoadTime() { return loadTime; }
 
         public boolean isExpired() {
-            return Instant.now().isAfter(expiresAt);
+            return isExpired(Instant.now());
+        }
+
+        public boolean isExpired(Instant now) {
+            return now.isAfter(expiresAt);
         }
 
         public Duration getAge() {
@@ -302,13 +547,23 @@ public class HttpCacheManager {
 
     /**
      * Cache statistics.
+     *
+     * <p>{@code weight} is the total estimated size of the entries in bytes when
+     * {@code maxCacheBytes} is set, and the number of entries otherwise. {@code staleHits}
+     * counts expired values served while revalidating or after an error, and
+     * {@code revalidations} the expired entries renewed by a {@code 304 Not Modified}.
+     * {@code earlyRefreshes} counts fresh entries refreshed ahead of their expiry.
      */
     public record CacheStatistics(
         int size,
         long hits,
         long misses,
         long evictions,
-        double hitRate
+        double hitRate,
+        long weight,
+        long staleHits,
+        long revalidations,
+        long earlyRefreshes
     ) {
         public long getTotalRequests() {
             return hits + misses;
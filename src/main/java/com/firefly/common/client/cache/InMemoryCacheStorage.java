@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.firefly.common.client.cache.HttpCacheManager.CacheEntry;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheStorage} keeping live entries on the heap, bounded by entry count or, with
+ * {@code maxCacheBytes} set, by the weight the configured {@link CacheWeigher} estimates.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class InMemoryCacheStorage implements CacheStorage {
+
+    private final TinyLfuCache<String, CacheEntry> cache;
+
+    InMemoryCacheStorage(HttpCacheConfig config, Consumer<String> evictionListener) {
+        if (config.getMaxCacheBytes() > 0) {
+            CacheWeigher weigher = config.getWeigher() != null ? config.getWeigher() : CacheWeighers.estimatedSize();
+            this.cache = new TinyLfuCache<>(config.getMaxCacheBytes(), config.getMaxCacheSize(),
+                (key, entry) -> weigher.weigh(key, entry.getValue()),
+                (key, entry) -> evictionListener.accept(key));
+        } else {
+            this.cache = new TinyLfuCache<>(config.getMaxCacheSize(), (key, entry) -> evictionListener.accept(key));
+        }
+    }
+
+    @Override
+    public CacheEntry get(String key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public void put(String key, CacheEntry entry) {
+        cache.put(key, entry);
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return cache.remove(key);
+    }
+
+    @Override
+    public boolean remove(String key, CacheEntry entry) {
+        return cache.remove(key, entry);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public long weightedSize() {
+        return cache.weightedSize();
+    }
+
+    @Override
+    public Set<String> keys() {
+        return cache.keySet();
+    }
+}
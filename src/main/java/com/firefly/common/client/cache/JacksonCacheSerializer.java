@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CacheSerializer} writing values with Jackson, in whatever format the mapper's
+ * factory produces.
+ *
+ * <p>Each value is written as an object holding the canonical name of its type followed
+ * by the value itself, so that reading needs no type hint from the caller. A cached
+ * {@link InterceptorResponse} additionally holds its status and headers, and its body is
+ * typed by {@link InterceptorResponse#BODY_TYPE_ATTRIBUTE} when the client recorded it;
+ * it is restored as a {@link CachedResponse}. Both directions stream, without building an
+ * intermediate tree.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class JacksonCacheSerializer implements CacheSerializer {
+
+    private static final String STATUS = "status";
+    private static final String HEADERS = "headers";
+    private static final String TYPE = "type";
+    private static final String VALUE = "value";
+    private static final TypeReference<Map<String, String>> HEADERS_TYPE = new TypeReference<>() { };
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, JavaType> types = new ConcurrentHashMap<>();
+
+    JacksonCacheSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartObject();
+            Object payload = value;
+            Type declaredType = null;
+            if (value instanceof InterceptorResponse response) {
+                generator.writeNumberField(STATUS, response.getStatusCode());
+                generator.writeFieldName(HEADERS);
+                objectMapper.writeValue(generator, response.getHeaders());
+                payload = response.getBody();
+                if (response.getAttributes().get(InterceptorResponse.BODY_TYPE_ATTRIBUTE) instanceof Type type) {
+                    declaredType = type;
+                }
+            }
+            if (payload != null) {
+                JavaType type = typeOf(payload, declaredType);
+                generator.writeStringField(TYPE, type.toCanonical());
+                generator.writeFieldName(VALUE);
+                objectMapper.writerFor(type).writeValue(generator, payload);
+            }
+            generator.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(bytes)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Malformed cache entry");
+            }
+            Integer status = null;
+            Map<String, String> headers = Map.of();
+            JavaType type = null;
+            Object value = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case STATUS -> status = parser.getIntValue();
+                    case HEADERS -> headers = objectMapper.readValue(parser, HEADERS_TYPE);
+                    case TYPE -> type = resolve(parser.getText());
+                    case VALUE -> {
+                        if (type == null) {
+                            throw new IOException("Malformed cache entry: value without type");
+                        }
+                        value = objectMapper.readValue(parser, type);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (status == null) {
+                return value;
+            }
+            return CachedResponse.of(value, status, headers, type);
+        }
+    }
+
+    /**
+     * Returns the declared type if it describes the value, which keeps the type arguments
+     * of generic bodies, and the value's class otherwise.
+     */
+    private JavaType typeOf(Object value, Type declaredType) {
+        if (declaredType != null) {
+            JavaType declared = objectMapper.getTypeFactory().constructType(declaredType);
+            if (declared.getRawClass() != Object.class && declared.getRawClass().isInstance(value)) {
+                return declared;
+            }
+        }
+        return objectMapper.getTypeFactory().constructType(value.getClass());
+    }
+
+    private JavaType resolve(String canonicalName) throws IOException {
+        JavaType type = types.get(canonicalName);
+        if (type == null) {
+            try {
+                type = objectMapper.getTypeFactory().constructFromCanonical(canonicalName);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown cached type: " + canonicalName, e);
+            }
+            types.putIfAbsent(canonicalName, type);
+        }
+        return type;
+    }
+}
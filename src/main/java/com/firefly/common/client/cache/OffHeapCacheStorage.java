@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.firefly.common.client.cache.HttpCacheManager.CacheEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheStorage} keeping serialized values in direct memory.
+ *
+ * <p>Values are serialized with the configured {@link CacheSerializer} and copied into the
+ * slabs of a {@link SlabAllocator} sized by {@code maxCacheBytes}; only the index, with
+ * each entry's key, timestamps and validators, stays on the heap. The index evicts with
+ * W-TinyLFU, weighing each entry by its serialized length, and frees the memory of every
+ * entry leaving it. Values are deserialized on every hit, unless an optional on-heap hot
+ * tier of {@code hotTierSize} live entries sits in front.
+ *
+ * <p>Values that fail to serialize, or for which the slabs have no room left, are not
+ * cached. A value that fails to deserialize is dropped and reported as a miss.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Slf4j
+final class OffHeapCacheStorage implements CacheStorage {
+
+    private final CacheSerializer serializer;
+    private final SlabAllocator allocator;
+    private final TinyLfuCache<String, StoredEntry> index;
+    private final TinyLfuCache<String, CacheEntry> hotTier;
+
+    OffHeapCacheStorage(HttpCacheConfig config, Consumer<String> evictionListener) {
+        if (config.getMaxCacheBytes() <= 0) {
+            throw new IllegalArgumentException("maxCacheBytes must be set for OFF_HEAP storage");
+        }
+        this.serializer = config.getSerializer() != null ? config.getSerializer() : CacheSerializers.json();
+        this.allocator = new SlabAllocator(config.getMaxCacheBytes(), config.getSlabSize());
+        this.hotTier = config.getHotTierSize() > 0
+            ? new TinyLfuCache<>(config.getHotTierSize(), (key, entry) -> { })
+            : null;
+        this.index = new TinyLfuCache<>(config.getMaxCacheBytes(), config.getMaxCacheSize(),
+            (key, stored) -> stored.slot.length(),
+            (key, stored) -> {
+                if (hotTier != null) {
+                    hotTier.remove(key);
+                }
+                evictionListener.accept(key);
+            },
+            (key, stored) -> allocator.free(stored.slot));
+    }
+
+    @Override
+    public CacheEntry get(String key) {
+        if (hotTier != null) {
+            CacheEntry hot = hotTier.get(key);
+            if (hot != null) {
+                return hot;
+            }
+        }
+
+        StoredEntry stored = index.get(key);
+        if (stored == null) {
+            return null;
+        }
+        byte[] bytes = allocator.read(stored.slot);
+        if (bytes == null) {
+            // Removed while reading
+            return null;
+        }
+
+        Object value;
+        try {
+            value = serializer.deserialize(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Dropping cache entry for key: {} that cannot be deserialized: {}", key, e.toString());
+            index.remove(key, stored);
+            return null;
+        }
+
+        CacheEntry entry = stored.toEntry(value);
+        if (hotTier != null) {
+            hotTier.put(key, entry);
+            if (index.peek(key) != stored) {
+                // Replaced meanwhile; do not keep the older value in front of it
+                hotTier.remove(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public void put(String key, CacheEntry entry) {
+        SlabAllocator.Slot slot = null;
+        try {
+            slot = allocator.allocate(serializer.serialize(entry.getValue()));
+            if (slot == null) {
+                log.debug("Not caching entry for key: {}, no room left in the slabs", key);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Not caching entry for key: {} that cannot be serialized: {}", key, e.toString());
+        }
+
+        if (slot == null) {
+            remove(key);
+            return;
+        }
+        index.put(key, new StoredEntry(entry, slot));
+        if (hotTier != null) {
+            hotTier.remove(key);
+        }
+    }
+
+    @Override
+    public boolean remove(String key) {
+        boolean removed = index.remove(key);
+        if (hotTier != null) {
+            hotTier.remove(key);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean remove(String key, CacheEntry entry) {
+        StoredEntry stored = index.peek(key);
+        if (stored == null || !stored.describes(entry) || !index.remove(key, stored)) {
+            return false;
+        }
+        if (hotTier != null) {
+            hotTier.remove(key);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        if (hotTier != null) {
+            hotTier.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public long weightedSize() {
+        return index.weightedSize();
+    }
+
+    @Override
+    public Set<String> keys() {
+        return index.keySet();
+    }
+
+    /**
+     * Index entry: the metadata of a cached entry and the slot holding its value.
+     */
+    private static final class StoredEntry {
+        private final Instant createdAt;
+        private final Instant expiresAt;
+        private final String etag;
+        private final String lastModified;
+        private final Duration loadTime;
+        private final SlabAllocator.Slot slot;
+
+        StoredEntry(CacheEntry entry, SlabAllocator.Slot slot) {
+            this.createdAt = entry.getCreatedAt();
+            this.expiresAt = entry.getExpiresAt();
+            this.etag = entry.getEtag();
+            this.lastModified = entry.getLastModified();
+            this.loadTime = entry.getLoadTime();
+            this.slot = slot;
+        }
+
+        CacheEntry toEntry(Object value) {
+            return new CacheEntry(value, createdAt, expiresAt, etag, lastModified, loadTime);
+        }
+
+        /**
+         * Returns whether the entry was restored from this one.
+         */
+        boolean describes(CacheEntry entry) {
+            return createdAt.equals(entry.getCreatedAt()) && expiresAt.equals(entry.getExpiresAt());
+        }
+    }
+}
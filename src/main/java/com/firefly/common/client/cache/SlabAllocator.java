@@ -0,0 +1,298 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Log-structured allocator of byte ranges in direct memory slabs.
+ *
+ * <p>Memory is split into fixed-size slabs, allocated on first use. Values are appended
+ * to the current head slab, continuing in the next slab when the head fills up, so a value
+ * may span several chunks and may be larger than a slab. Freeing a value only subtracts
+ * its chunks from their slabs' live bytes, and a slab with no live bytes left is recycled.
+ * When no free slab is left, the slab with the fewest live bytes is compacted: its live
+ * chunks are copied into a reserve slab kept empty for this purpose, which becomes the new
+ * head, and the compacted slab becomes the reserve. There is no fragmentation and no
+ * per-value allocation in direct memory.
+ *
+ * <p>The slabs hold a quarter more than the requested capacity, so that compaction keeps
+ * finding garbage to reclaim while the values fill the capacity.
+ *
+ * <p>Allocation, freeing and compaction are serialized by a lock. Reads take no lock:
+ * they copy the value and then validate a {@link StampedLock} that is write-locked, only
+ * for an instant, whenever a slab is about to be reused. A read that overlapped a reuse
+ * retries under the read lock. Compaction moves chunks by updating their slot in place,
+ * so holders of a slot never see a dangling location.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class SlabAllocator {
+
+    private static final Location[] NO_CHUNKS = new Location[0];
+
+    private final int slabSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final StampedLock reuse = new StampedLock();
+
+    // Guarded by lock
+    private final List<Slab> slabs;
+    private final ArrayDeque<Slab> freeSlabs;
+    private Slab head;
+    private Slab reserve;
+    private volatile long liveBytes;
+
+    /**
+     * Creates an allocator able to hold at least {@code capacity} bytes of values.
+     *
+     * @param capacity the number of bytes of values to hold
+     * @param slabSize the size of each slab
+     */
+    SlabAllocator(long capacity, int slabSize) {
+        if (slabSize <= 0) {
+            throw new IllegalArgumentException("Slab size must be positive");
+        }
+        long withHeadroom = capacity + capacity / 4;
+        long count = Math.max(2, (withHeadroom + slabSize - 1) / slabSize);
+        if (count >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many slabs: " + count);
+        }
+        this.slabSize = slabSize;
+        this.slabs = new ArrayList<>((int) count);
+        this.freeSlabs = new ArrayDeque<>((int) count);
+        for (int i = 0; i < count; i++) {
+            Slab slab = new Slab();
+            slabs.add(slab);
+            freeSlabs.add(slab);
+        }
+        this.reserve = new Slab();
+    }
+
+    /**
+     * Copies a value into the slabs.
+     *
+     * @return the slot holding the value, or {@code null} if there is no room for it
+     */
+    Slot allocate(byte[] value) {
+        Slot slot = new Slot();
+        lock.lock();
+        try {
+            int written = 0;
+            while (written < value.length) {
+                if ((head == null || head.writeOffset == slabSize) && !advance()) {
+                    release(slot);
+                    return null;
+                }
+                int length = Math.min(value.length - written, slabSize - head.writeOffset);
+                head.buffer.put(head.writeOffset, value, written, length);
+                slot.append(new Location(head, head.writeOffset, length));
+                head.writeOffset += length;
+                head.liveBytes += length;
+                head.slots.add(slot);
+                liveBytes += length;
+                written += length;
+            }
+            return slot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies a value out of the slabs.
+     *
+     * @return the value, or {@code null} if the slot was freed
+     */
+    byte[] read(Slot slot) {
+        long stamp = reuse.tryOptimisticRead();
+        if (stamp != 0) {
+            byte[] value = copy(slot);
+            if (reuse.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = reuse.readLock();
+        try {
+            return copy(slot);
+        } finally {
+            reuse.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Releases the memory of a slot. Freeing a slot twice has no effect.
+     */
+    void free(Slot slot) {
+        lock.lock();
+        try {
+            release(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the total length of the values held.
+     */
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    private static byte[] copy(Slot slot) {
+        if (slot.freed) {
+            return null;
+        }
+        Location[] chunks = slot.chunks;
+        byte[] value = new byte[slot.length];
+        int offset = 0;
+        for (Location chunk : chunks) {
+            chunk.slab.buffer.get(chunk.offset, value, offset, chunk.length);
+            offset += chunk.length;
+        }
+        return value;
+    }
+
+    private void release(Slot slot) {
+        if (slot.freed) {
+            return;
+        }
+        slot.freed = true;
+        for (Location chunk : slot.chunks) {
+            Slab slab = chunk.slab;
+            slab.liveBytes -= chunk.length;
+            liveBytes -= chunk.length;
+            if (slab.liveBytes == 0 && slab != head) {
+                recycle(slab);
+                freeSlabs.add(slab);
+            }
+        }
+    }
+
+    /**
+     * Makes a slab with free space the head, compacting one if needed.
+     */
+    private boolean advance() {
+        Slab next = freeSlabs.poll();
+        if (next != null) {
+            next.ensureBuffer(slabSize);
+            head = next;
+            return true;
+        }
+
+        Slab victim = null;
+        for (Slab slab : slabs) {
+            if (victim == null || slab.liveBytes < victim.liveBytes) {
+                victim = slab;
+            }
+        }
+        if (victim == null || victim.liveBytes >= slabSize) {
+            return false;
+        }
+
+        Slab target = reserve;
+        target.ensureBuffer(slabSize);
+        for (Slot slot : victim.slots) {
+            if (slot.freed) {
+                continue;
+            }
+            Location[] chunks = slot.chunks;
+            Location[] moved = null;
+            for (int i = 0; i < chunks.length; i++) {
+                Location chunk = chunks[i];
+                if (chunk.slab != victim) {
+                    continue;
+                }
+                target.buffer.put(target.writeOffset, victim.buffer, chunk.offset, chunk.length);
+                if (moved == null) {
+                    moved = chunks.clone();
+                    target.slots.add(slot);
+                }
+                moved[i] = new Location(target, target.writeOffset, chunk.length);
+                target.writeOffset += chunk.length;
+            }
+            if (moved != null) {
+                slot.chunks = moved;
+            }
+        }
+        target.liveBytes = victim.liveBytes;
+
+        recycle(victim);
+        slabs.set(slabs.indexOf(victim), target);
+        reserve = victim;
+        head = target;
+        return true;
+    }
+
+    /**
+     * Empties a slab for reuse, first invalidating reads that may still be copying from it.
+     */
+    private void recycle(Slab slab) {
+        reuse.unlockWrite(reuse.writeLock());
+        slab.writeOffset = 0;
+        slab.liveBytes = 0;
+        slab.slots.clear();
+    }
+
+    /**
+     * The chunks holding a value. Compaction moves chunks by replacing the array.
+     */
+    static final class Slot {
+        private volatile Location[] chunks = NO_CHUNKS;
+        private volatile boolean freed;
+        private int length;
+
+        private Slot() {
+        }
+
+        /**
+         * Returns the length of the value.
+         */
+        int length() {
+            return length;
+        }
+
+        private void append(Location chunk) {
+            Location[] appended = Arrays.copyOf(chunks, chunks.length + 1);
+            appended[chunks.length] = chunk;
+            length += chunk.length;
+            chunks = appended;
+        }
+    }
+
+    private record Location(Slab slab, int offset, int length) {
+    }
+
+    private static final class Slab {
+        private ByteBuffer buffer;
+        private int writeOffset;
+        private long liveBytes;
+        private final List<Slot> slots = new ArrayList<>();
+
+        void ensureBuffer(int size) {
+            if (buffer == null) {
+                buffer = ByteBuffer.allocateDirect(size);
+            }
+        }
+    }
+}
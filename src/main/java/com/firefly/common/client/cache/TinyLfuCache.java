@@ -0,0 +1,559 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Bounded concurrent map evicting with the W-TinyLFU policy.
+ *
+ * <p>Entries are stored in a {@link ConcurrentHashMap}. The eviction policy orders them in
+ * three LRU queues: a small admission window (1% of the capacity) and a segmented LRU main
+ * space split into probation (20%) and protected (80%). New entries enter the window;
+ * entries leaving the window compete with the least recently used entry of probation,
+ * and the one a {@link FrequencySketch} estimates to be accessed less often is evicted. A
+ * probation entry that is accessed again moves to protected. One-off keys, such as a scan,
+ * therefore pass through the window without displacing frequently used entries.
+ *
+ * <p>Reads and writes never take a lock to update the policy. Reads are recorded in
+ * striped, lossy ring buffers and writes in a queue; both are replayed against the policy
+ * by whichever thread acquires the eviction lock with {@code tryLock}. The work per
+ * operation is constant amortized, and a read that finds its buffer full is simply not
+ * recorded. Until the buffers are drained, the map may briefly hold more entries than the
+ * capacity.
+ *
+ * <p>The capacity is a total weight, each entry weighing what the weigher returns when it
+ * is inserted, optionally also capped by a number of entries. The queue sizes above are
+ * fractions of the weight. An entry heavier than the whole capacity is evicted as soon as
+ * it is replayed.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class TinyLfuCache<K, V> {
+
+    private static final double WINDOW_PERCENT = 0.01;
+    private static final double PROTECTED_PERCENT = 0.80;
+
+    /**
+     * Candidates at least this frequent are occasionally admitted even if the victim is
+     * more frequent, so that an attacker cannot pin the victim by inflating its frequency.
+     */
+    private static final int ADMIT_HASHDOS_THRESHOLD = 6;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final Queue<Node<K, V>> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final ToIntBiFunction<K, V> weigher;
+    private final BiConsumer<K, V> evictionListener;
+    private final BiConsumer<K, V> removalListener;
+
+    // Guarded by evictionLock
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+    private final long maximum;
+    private final long maximumSize;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long windowWeight;
+    private long protectedWeight;
+    private long totalWeight;
+    private long entryCount;
+    private volatile long weightedSize;
+
+    /**
+     * Creates a cache holding at most {@code maximum} entries.
+     *
+     * @param maximum the capacity
+     * @param evictionListener notified, under the eviction lock, of every evicted entry
+     */
+    TinyLfuCache(long maximum, BiConsumer<K, V> evictionListener) {
+        this(maximum, Long.MAX_VALUE, (key, value) -> 1, evictionListener);
+    }
+
+    /**
+     * Creates a cache whose entries weigh at most {@code maximumWeight} in total and number
+     * at most {@code maximumSize}.
+     *
+     * @param maximumWeight the capacity, in units of the weigher
+     * @param maximumSize the maximum number of entries
+     * @param weigher computes the weight of an entry on insert; must not return a negative value
+     * @param evictionListener notified, under the eviction lock, of every evicted entry
+     */
+    TinyLfuCache(long maximumWeight, long maximumSize, ToIntBiFunction<K, V> weigher,
+                 BiConsumer<K, V> evictionListener) {
+        this(maximumWeight, maximumSize, weigher, evictionListener, (key, value) -> { });
+    }
+
+    /**
+     * Creates a weighted cache that also reports every value leaving it, for values that
+     * hold resources to release.
+     *
+     * @param removalListener notified, under the eviction lock, exactly once for every value
+     *                        that is evicted, replaced, removed or cleared
+     */
+    TinyLfuCache(long maximumWeight, long maximumSize, ToIntBiFunction<K, V> weigher,
+                 BiConsumer<K, V> evictionListener, BiConsumer<K, V> removalListener) {
+        this.maximum = Math.max(0, maximumWeight);
+        this.maximumSize = Math.max(0, maximumSize);
+        this.windowMaximum = Math.max(1, (long) (this.maximum * WINDOW_PERCENT));
+        this.protectedMaximum = (long) ((this.maximum - windowMaximum) * PROTECTED_PERCENT);
+        this.sketch = new FrequencySketch(Math.min(this.maximum, this.maximumSize));
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+        this.removalListener = removalListener;
+    }
+
+    /**
+     * Returns the value of a key, recording the access, or {@code null}.
+     */
+    V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (!readBuffer.offer(node)) {
+            maintain();
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the value of a key without recording the access, or {@code null}.
+     */
+    V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     */
+    void put(K key, V value) {
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weigher returned a negative weight for key: " + key);
+        }
+        Node<K, V> node = new Node<>(key, value, weight);
+        Node<K, V> prior = data.put(key, node);
+        if (prior != null) {
+            retire(prior);
+        }
+        writeBuffer.add(node);
+        maintain();
+    }
+
+    /**
+     * Removes the value of a key.
+     *
+     * @return whether the key had a value
+     */
+    boolean remove(K key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return false;
+        }
+        retire(node);
+        maintain();
+        return true;
+    }
+
+    /**
+     * Removes the value of a key only if it is still {@code value}.
+     */
+    boolean remove(K key, V value) {
+        Node<K, V> node = data.get(key);
+        if (node == null || node.value != value || !data.remove(key, node)) {
+            return false;
+        }
+        retire(node);
+        maintain();
+        return true;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        for (K key : data.keySet()) {
+            Node<K, V> node = data.remove(key);
+            if (node != null) {
+                retire(node);
+            }
+        }
+        maintain();
+    }
+
+    /**
+     * Returns the number of entries.
+     */
+    int size() {
+        return data.size();
+    }
+
+    /**
+     * Returns the total weight of the entries, as of the last time the buffered writes
+     * were replayed.
+     */
+    long weightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * Evicts entries weighing at least {@code weight} in total, in the order the policy
+     * would, for owners that run out of room before the cache reaches its capacity.
+     *
+     * @param weight the weight to release
+     */
+    void shrink(long weight) {
+        evictionLock.lock();
+        try {
+            readBuffer.drainTo(this::onAccess);
+            Node<K, V> node;
+            while ((node = writeBuffer.poll()) != null) {
+                onWrite(node);
+            }
+            evict(Math.max(0, totalWeight - weight));
+            weightedSize = totalWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+        if (!writeBuffer.isEmpty()) {
+            maintain();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys.
+     */
+    Set<K> keySet() {
+        return Collections.unmodifiableSet(data.keySet());
+    }
+
+    private void retire(Node<K, V> node) {
+        node.retired = true;
+        writeBuffer.add(node);
+    }
+
+    /**
+     * Replays the buffered reads and writes and evicts, unless another thread is already
+     * doing so. Writes buffered while the lock was held are picked up before returning.
+     */
+    private void maintain() {
+        do {
+            if (!evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                readBuffer.drainTo(this::onAccess);
+                Node<K, V> node;
+                while ((node = writeBuffer.poll()) != null) {
+                    onWrite(node);
+                }
+                evict(maximum);
+                weightedSize = totalWeight;
+            } finally {
+                evictionLock.unlock();
+            }
+        } while (!writeBuffer.isEmpty());
+    }
+
+    private void onWrite(Node<K, V> node) {
+        if (node.retired) {
+            release(node);
+        } else if (node.queue == Node.NONE) {
+            sketch.increment(node.key);
+            node.queue = Node.WINDOW;
+            window.addLast(node);
+            windowWeight += node.weight;
+            totalWeight += node.weight;
+            entryCount++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onAccess(Object element) {
+        Node<K, V> node = (Node<K, V>) element;
+        if (node.retired || node.queue == Node.NONE) {
+            return;
+        }
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case Node.WINDOW -> window.moveToBack(node);
+            case Node.PROBATION -> {
+                probation.remove(node);
+                node.queue = Node.PROTECTED;
+                protectedSegment.addLast(node);
+                protectedWeight += node.weight;
+                // Demote the least recently used protected entries back to probation
+                while (protectedWeight > protectedMaximum) {
+                    Node<K, V> demoted = protectedSegment.pollFirst();
+                    protectedWeight -= demoted.weight;
+                    demoted.queue = Node.PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            case Node.PROTECTED -> protectedSegment.moveToBack(node);
+            default -> {
+                // Not linked yet
+            }
+        }
+    }
+
+    /**
+     * Moves the overflow of the window to probation, then evicts until the entries weigh at
+     * most {@code maximumWeight}, each time evicting the less frequent of the newest
+     * candidate and the probation LRU.
+     */
+    private void evict(long maximumWeight) {
+        while (windowWeight > windowMaximum) {
+            Node<K, V> candidate = window.pollFirst();
+            windowWeight -= candidate.weight;
+            candidate.queue = Node.PROBATION;
+            probation.addLast(candidate);
+        }
+
+        while (totalWeight > maximumWeight || entryCount > maximumSize) {
+            Node<K, V> victim = probation.peekFirst();
+            Node<K, V> candidate = probation.peekLast();
+            if (candidate != null && candidate.weight > maximum) {
+                evictNode(candidate);
+            } else if (victim == null) {
+                victim = protectedSegment.peekFirst() != null ? protectedSegment.peekFirst() : window.peekFirst();
+                evictNode(victim);
+            } else if (victim == candidate) {
+                evictNode(victim);
+            } else {
+                evictNode(admit(candidate.key, victim.key) ? victim : candidate);
+            }
+        }
+    }
+
+    private boolean admit(K candidateKey, K victimKey) {
+        int candidateFrequency = sketch.frequency(candidateKey);
+        int victimFrequency = sketch.frequency(victimKey);
+        if (candidateFrequency > victimFrequency) {
+            return true;
+        }
+        return candidateFrequency >= ADMIT_HASHDOS_THRESHOLD
+            && (ThreadLocalRandom.current().nextInt() & 127) == 0;
+    }
+
+    private void evictNode(Node<K, V> node) {
+        node.retired = true;
+        release(node);
+        if (data.remove(node.key, node)) {
+            evictionListener.accept(node.key, node.value);
+        }
+    }
+
+    /**
+     * Unlinks a retired node and reports its value, once even if it was retired twice.
+     */
+    private void release(Node<K, V> node) {
+        if (node.released) {
+            return;
+        }
+        node.released = true;
+        unlink(node);
+        removalListener.accept(node.key, node.value);
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case Node.WINDOW -> {
+                window.remove(node);
+                windowWeight -= node.weight;
+            }
+            case Node.PROBATION -> probation.remove(node);
+            case Node.PROTECTED -> {
+                protectedSegment.remove(node);
+                protectedWeight -= node.weight;
+            }
+            default -> {
+                // Never linked, or already unlinked
+                return;
+            }
+        }
+        totalWeight -= node.weight;
+        entryCount--;
+        node.queue = Node.NONE;
+    }
+
+    /**
+     * A cached entry, also linked into one of the policy queues.
+     */
+    private static final class Node<K, V> {
+        static final int NONE = 0;
+        static final int WINDOW = 1;
+        static final int PROBATION = 2;
+        static final int PROTECTED = 3;
+
+        final K key;
+        final V value;
+        final int weight;
+        volatile boolean retired;
+
+        // Guarded by evictionLock
+        int queue = NONE;
+        boolean released;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Intrusive doubly linked list of nodes, least recently used first.
+     */
+    private static final class AccessOrderDeque<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+
+        Node<K, V> peekFirst() {
+            return head;
+        }
+
+        Node<K, V> peekLast() {
+            return tail;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = head;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * Lossy buffer of reads, striped by thread to spread contention. A read is dropped
+     * when its stripe is full or another thread claims the same slot first.
+     */
+    private static final class ReadBuffer {
+        private static final int STRIPE_SIZE = 16;
+        private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+        private final Stripe[] stripes;
+        private final int stripeMask;
+
+        ReadBuffer() {
+            int count = Integer.highestOneBit(Math.min(64, 4 * Runtime.getRuntime().availableProcessors()) - 1) << 1;
+            stripes = new Stripe[Math.max(1, count)];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe();
+            }
+            stripeMask = stripes.length - 1;
+        }
+
+        /**
+         * Records a read, returning {@code false} if the stripe is full and should be
+         * drained.
+         */
+        boolean offer(Object element) {
+            int hash = Thread.currentThread().hashCode();
+            Stripe stripe = stripes[(hash ^ (hash >>> 16)) & stripeMask];
+            long tail = stripe.writes.get();
+            if (tail - stripe.reads >= STRIPE_SIZE) {
+                return false;
+            }
+            if (stripe.writes.compareAndSet(tail, tail + 1)) {
+                stripe.slots.lazySet((int) (tail & STRIPE_MASK), element);
+            }
+            return true;
+        }
+
+        void drainTo(Consumer<Object> consumer) {
+            for (Stripe stripe : stripes) {
+                long head = stripe.reads;
+                long tail = stripe.writes.get();
+                for (; head < tail; head++) {
+                    int index = (int) (head & STRIPE_MASK);
+                    Object element = stripe.slots.get(index);
+                    if (element == null) {
+                        // Claimed but not yet published
+                        break;
+                    }
+                    stripe.slots.lazySet(index, null);
+                    consumer.accept(element);
+                }
+                stripe.reads = head;
+            }
+        }
+
+        private static final class Stripe {
+            final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(STRIPE_SIZE);
+            final AtomicLong writes = new AtomicLong();
+            volatile long reads;
+        }
+    }
+}
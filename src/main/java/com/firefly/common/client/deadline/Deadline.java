@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.deadline;
+
+import com.firefly.common.client.exception.ServiceTimeoutException;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Point in time by which a request, including all calls it makes to other services, must
+ * have completed.
+ *
+ * <p>The deadline is set once, at the edge, and carried in the Reactor {@link Context}.
+ * REST, gRPC and SOAP clients limit their calls to the time remaining, fail at once when
+ * none is left, and send the remaining time downstream: in the {@value #HEADER} header
+ * for REST and SOAP, as the gRPC deadline for gRPC. A service receiving the header
+ * continues with the same budget, so work abandoned by the caller is not carried on
+ * across hops.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * // Everything below, across all hops, must complete within 2 seconds
+ * orderService.placeOrder(order)
+ *     .contextWrite(Deadline.within(Duration.ofSeconds(2)));
+ * }</pre>
+ *
+ * <p>Deadlines are based on {@link System#nanoTime()} and are only meaningful within the
+ * JVM; downstream they are sent as a remaining duration, which is immune to clock skew.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public final class Deadline implements Comparable<Deadline> {
+
+    /**
+     * Header carrying the remaining time, in milliseconds, to downstream services.
+     */
+    public static final String HEADER = "X-Request-Timeout";
+
+    private static final Class<Deadline> CONTEXT_KEY = Deadline.class;
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline the given time from now.
+     *
+     * @param timeout the time from now
+     * @return the deadline
+     */
+    public static Deadline after(Duration timeout) {
+        if (timeout == null) {
+            throw new IllegalArgumentException("Deadline timeout cannot be null");
+        }
+        return new Deadline(System.nanoTime() + saturatedNanos(timeout));
+    }
+
+    /**
+     * Parses the {@value #HEADER} header sent by an upstream service.
+     *
+     * @param value the header value, in milliseconds, may be {@code null}
+     * @return the deadline, or empty if the header is missing or malformed
+     */
+    public static Optional<Deadline> fromHeader(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            long millis = Long.parseLong(value.trim());
+            return millis < 0 ? Optional.empty() : Optional.of(after(Duration.ofMillis(millis)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the deadline carried in a Reactor context.
+     *
+     * @param context the context
+     * @return the deadline, or empty if none was set
+     */
+    public static Optional<Deadline> current(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * Returns a context modification setting a deadline the given time from subscription,
+     * for use with {@code contextWrite}. An earlier deadline already set downstream is kept.
+     *
+     * @param timeout the time from subscription
+     * @return the context modification
+     */
+    public static Function<Context, Context> within(Duration timeout) {
+        return context -> put(context, after(timeout));
+    }
+
+    /**
+     * Returns a context modification setting the deadline, for use with
+     * {@code contextWrite}. An earlier deadline already set downstream is kept.
+     *
+     * @param deadline the deadline
+     * @return the context modification
+     */
+    public static Function<Context, Context> propagate(Deadline deadline) {
+        return context -> put(context, deadline);
+    }
+
+    /**
+     * Returns the time remaining, never negative.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Returns whether no time remains.
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Limits a call's own timeout to the time remaining.
+     *
+     * @param timeout the call's timeout, or {@code null} for none
+     * @return the shorter of the timeout and the time remaining
+     */
+    public Duration limit(Duration timeout) {
+        Duration remaining = remaining();
+        return timeout == null || remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    /**
+     * Returns the value of the {@value #HEADER} header for this deadline.
+     */
+    public String toHeaderValue() {
+        return Long.toString(remaining().toMillis());
+    }
+
+    /**
+     * Creates the exception reported when a call cannot be made because the deadline has
+     * passed.
+     *
+     * @param serviceName the service that was not called
+     * @return the exception
+     */
+    public ServiceTimeoutException exceeded(String serviceName) {
+        return new ServiceTimeoutException(
+            String.format("Deadline exceeded before calling service '%s'", serviceName));
+    }
+
+    @Override
+    public int compareTo(Deadline other) {
+        return Long.compare(deadlineNanos - other.deadlineNanos, 0);
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining=" + remaining().toMillis() + "ms]";
+    }
+
+    private static Context put(Context context, Deadline deadline) {
+        Optional<Deadline> existing = current(context);
+        if (existing.isPresent() && existing.get().compareTo(deadline) <= 0) {
+            return context;
+        }
+        return context.put(CONTEXT_KEY, deadline);
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return duration.isNegative() ? Long.MIN_VALUE / 2 : Long.MAX_VALUE / 2;
+        }
+    }
+}
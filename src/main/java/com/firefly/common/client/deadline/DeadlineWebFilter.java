@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.deadline;
+
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Web filter that continues the deadline of an upstream caller.
+ *
+ * <p>A request carrying the {@value Deadline#HEADER} header is handled with a
+ * {@link Deadline} of the remaining time in its Reactor context, so that the service
+ * clients used while handling it share the caller's budget. Requests without the header
+ * get the default timeout, if one is configured, and no deadline otherwise.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public class DeadlineWebFilter implements WebFilter, Ordered {
+
+    private final Duration defaultTimeout;
+
+    /**
+     * Creates a filter.
+     *
+     * @param defaultTimeout the deadline of requests without the header, or {@code null}
+     *                       to leave them without one
+     */
+    public DeadlineWebFilter(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(Deadline.HEADER);
+        Deadline deadline = Deadline.fromHeader(header)
+            .orElseGet(() -> defaultTimeout != null ? Deadline.after(defaultTimeout) : null);
+        if (deadline == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).contextWrite(Deadline.propagate(deadline));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
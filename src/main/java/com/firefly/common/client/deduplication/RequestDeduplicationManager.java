@@ -63,7 +63,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class RequestDeduplicationManager {
 
-    private final Map<String, DeduplicationEntry> inFlightRequests = new ConcurrentHashMap<>();
+    private final SingleFlight<String> inFlightRequests = new SingleFlight<>();
     private final Map<String, DeduplicationEntry> completedRequests = new ConcurrentHashMap<>();
     private final Duration ttl;
 
@@ -95,57 +95,37 @@ public class RequestDeduplicationManager {
 
     /**
      * Executes a request with deduplication.
+     *
+     * <p>The key is looked up when the returned Mono is subscribed: a completed result is
+     * replayed, a request in flight is joined, and otherwise {@code requestMono} is sent.
+     * Concurrent subscribers with the same key always share one request.
      */
     public <T> Mono<T> executeWithDeduplication(String idempotencyKey, Mono<T> requestMono) {
-        // Check if request is already completed
-        DeduplicationEntry completed = completedRequests.get(idempotencyKey);
-        if (completed != null && !completed.isExpired()) {
-            log.debug("Request already completed, returning cached result for key: {}", idempotencyKey);
-            @SuppressWarnings("unchecked")
-            T result = (T) completed.getResult();
-            return Mono.just(result);
-        }
-
-        // Check if request is in-flight
-        DeduplicationEntry inFlight = inFlightRequests.get(idempotencyKey);
-        if (inFlight != null) {
-            log.debug("Request already in-flight, waiting for completion: {}", idempotencyKey);
-            @SuppressWarnings("unchecked")
-            Mono<T> existingMono = (Mono<T>) inFlight.getResultMono();
-            return existingMono;
-        }
-
-        // Execute new request
-        log.debug("Executing new request with idempotency key: {}", idempotencyKey);
-        
-        Mono<T> sharedMono = requestMono
-            .doOnSuccess(result -> {
-                // Move from in-flight to completed
-                inFlightRequests.remove(idempotencyKey);
-                completedRequests.put(idempotencyKey, new DeduplicationEntry(
-                    idempotencyKey,
-                    Instant.now(),
-                    result,
-                    null
-                ));
-                log.debug("Request completed successfully: {}", idempotencyKey);
-            })
-            .doOnError(error -> {
-                // Remove from in-flight on error
-                inFlightRequests.remove(idempotencyKey);
-                log.debug("Request failed: {}", idempotencyKey);
-            })
-            .cache(); // Cache the result for concurrent subscribers
-
-        // Add to in-flight
-        inFlightRequests.put(idempotencyKey, new DeduplicationEntry(
-            idempotencyKey,
-            Instant.now(),
-            null,
-            sharedMono
-        ));
+        return Mono.defer(() -> {
+            // Check if request is already completed
+            DeduplicationEntry completed = completedRequests.get(idempotencyKey);
+            if (completed != null && !completed.isExpired()) {
+                log.debug("Request already completed, returning cached result for key: {}", idempotencyKey);
+                @SuppressWarnings("unchecked")
+                T result = (T) completed.getResult();
+                return Mono.justOrEmpty(result);
+            }
 
-        return sharedMono;
+            // Join the request in flight or execute a new one; the result is recorded as
+            // completed before the request leaves the in-flight map
+            return inFlightRequests.execute(idempotencyKey, () -> requestMono
+                .doOnSubscribe(subscription ->
+                    log.debug("Executing new request with idempotency key: {}", idempotencyKey))
+                .doOnSuccess(result -> {
+                    completedRequests.put(idempotencyKey, new DeduplicationEntry(
+                        idempotencyKey,
+                        Instant.now(),
+                        result
+                    ));
+                    log.debug("Request completed successfully: {}", idempotencyKey);
+                })
+                .doOnError(error -> log.debug("Request failed: {}", idempotencyKey)));
+        });
     }
 
     /**
@@ -157,7 +137,7 @@ public class RequestDeduplicationManager {
             return true;
         }
 
-        return inFlightRequests.containsKey(idempotencyKey);
+        return inFlightRequests.isInFlight(idempotencyKey);
     }
 
     /**
@@ -178,27 +158,16 @@ public class RequestDeduplicationManager {
      */
     public void cleanup() {
         int removedCompleted = 0;
-        int removedInFlight = 0;
 
-        // Clean completed requests
+        // In-flight requests remove themselves when they terminate
         for (Map.Entry<String, DeduplicationEntry> entry : completedRequests.entrySet()) {
-            if (entry.getValue().isExpired()) {
-                completedRequests.remove(entry.getKey());
+            if (entry.getValue().isExpired() && completedRequests.remove(entry.getKey(), entry.getValue())) {
                 removedCompleted++;
             }
         }
 
-        // Clean in-flight requests (shouldn't normally expire, but cleanup anyway)
-        for (Map.Entry<String, DeduplicationEntry> entry : inFlightRequests.entrySet()) {
-            if (entry.getValue().isExpired()) {
-                inFlightRequests.remove(entry.getKey());
-                removedInFlight++;
-            }
-        }
-
-        if (removedCompleted > 0 || removedInFlight > 0) {
-            log.debug("Cleaned up {} completed and {} in-flight deduplication entries", 
-                removedCompleted, removedInFlight);
+        if (removedCompleted > 0) {
+            log.debug("Cleaned up {} completed deduplication entries", removedCompleted);
         }
     }
 
@@ -236,17 +205,14 @@ public class RequestDeduplicationManager {
         private final String key;
         private final Instant createdAt;
         private final Object result;
-        private final Mono<?> resultMono;
 
-        public DeduplicationEntry(String key, Instant createdAt, Object result, Mono<?> resultMono) {
+        public DeduplicationEntry(String key, Instant createdAt, Object result) {
             this.key = key;
             this.createdAt = createdAt;
             this.result = result;
-            this.resultMono = resultMono;
         }
 
         public Object getResult() { return result; }
-        public Mono<?> getResultMono() { return resultMono; }
 
         public boolean isExpired() {
             return Instant.now().isAfter(createdAt.plus(ttl));
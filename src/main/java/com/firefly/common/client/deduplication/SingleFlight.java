@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.deduplication;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls with the same key into one.
+ *
+ * <p>The first caller for a key starts the call; callers arriving while it is in flight
+ * subscribe to the same result instead of starting their own. The entry is removed when
+ * the call terminates, so the next caller after that starts a new call. Nothing is cached
+ * beyond the lifetime of the call.
+ *
+ * <p>Joining is a lock-free map lookup. Registration uses {@code putIfAbsent}, so two
+ * callers racing for the same key always end up sharing one call, and removal is
+ * conditional on the entry, so a finished call never removes its successor.
+ *
+ * <p>The shared call is not cancelled when one of its callers cancels, because others may
+ * still be waiting for it; it must therefore be bounded by a timeout of its own.
+ *
+ * @param <K> the key type, with value-based {@code equals} and {@code hashCode}
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public final class SingleFlight<K> {
+
+    private final ConcurrentHashMap<K, Flight<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the call for the key, or joins the call in flight for it, on subscription.
+     *
+     * <p>All callers sharing a key must expect the same result type.
+     *
+     * @param key the key identifying equivalent calls
+     * @param call creates the call, invoked only if no call for the key is in flight
+     * @param <T> the result type
+     * @return the result of the shared call
+     */
+    public <T> Mono<T> execute(K key, Supplier<? extends Mono<T>> call) {
+        return Mono.defer(() -> join(key, call));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> join(K key, Supplier<? extends Mono<T>> call) {
+        Flight<?> existing = inFlight.get(key);
+        if (existing != null) {
+            return (Mono<T>) existing.result;
+        }
+
+        Flight<T> flight = new Flight<>(key, call);
+        existing = inFlight.putIfAbsent(key, flight);
+        return existing != null ? (Mono<T>) existing.result : flight.result;
+    }
+
+    /**
+     * Returns whether a call for the key is in flight.
+     */
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    /**
+     * Returns the number of calls in flight.
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    /**
+     * Forgets all calls in flight. They keep running for the callers already waiting, but
+     * new callers start new calls.
+     */
+    public void clear() {
+        inFlight.clear();
+    }
+
+    private final class Flight<T> {
+
+        private final Mono<T> result;
+
+        private Flight(K key, Supplier<? extends Mono<T>> call) {
+            this.result = Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(key, this))
+                .share();
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.firefly.common.client.dynamic;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -112,7 +114,11 @@ public class DynamicJsonResponse {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private final JsonNode rootNode;
-    private final String rawJson;
+
+    /**
+     * Raw JSON text, rendered from {@link #rootNode} on first use when not supplied.
+     */
+    private volatile String rawJson;
 
     /**
      * Creates a DynamicJsonResponse from a JSON string.
@@ -133,16 +139,15 @@ public class DynamicJsonResponse {
     /**
      * Creates a DynamicJsonResponse from a JsonNode.
      *
+     * <p>The node is not serialized up front; {@link #toJson()} renders it on first call.
+     * Jackson also deserializes a DynamicJsonResponse from its JSON through this method.
+     *
      * @param node the JsonNode
      * @return DynamicJsonResponse instance
      */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
     public static DynamicJsonResponse fromNode(JsonNode node) {
-        try {
-            String json = OBJECT_MAPPER.writeValueAsString(node);
-            return new DynamicJsonResponse(node, json);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Failed to serialize JsonNode: " + e.getMessage(), e);
-        }
+        return new DynamicJsonResponse(node, null);
     }
 
     /**
@@ -445,10 +450,23 @@ public class DynamicJsonResponse {
     /**
      * Gets the raw JSON string.
      *
+     * <p>Responses created from a string return it unchanged. Responses decoded from a
+     * node render compact JSON on first call and cache it.
+     *
      * @return raw JSON
+     * @throws IllegalStateException if the node cannot be serialized
      */
     public String toJson() {
-        return rawJson;
+        String json = rawJson;
+        if (json == null) {
+            try {
+                json = OBJECT_MAPPER.writeValueAsString(rootNode);
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to serialize JsonNode: " + e.getMessage(), e);
+            }
+            rawJson = json;
+        }
+        return json;
     }
 
     /**
@@ -460,15 +478,16 @@ public class DynamicJsonResponse {
         try {
             return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(rootNode);
         } catch (Exception e) {
-            return rawJson;
+            return toJson();
         }
     }
 
     /**
-     * Gets the underlying JsonNode.
+     * Gets the underlying JsonNode, which is also what Jackson serializes this response as.
      *
      * @return the JsonNode
      */
+    @JsonValue
     public JsonNode getJsonNode() {
         return rootNode;
     }
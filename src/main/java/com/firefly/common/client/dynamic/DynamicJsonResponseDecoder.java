@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.dynamic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebFlux {@link Decoder} that reads {@link DynamicJsonResponse} instances straight from
+ * the response buffers.
+ *
+ * <p>The bytes are parsed into a {@link JsonNode} tree by a {@link Jackson2JsonDecoder};
+ * no intermediate {@code String} is created and the raw JSON text is only rendered when
+ * {@link DynamicJsonResponse#toJson()} is called. Streamed JSON arrays and NDJSON bodies
+ * yield one response per element.
+ *
+ * <p>Besides the JSON media types, {@code text/plain} and {@code application/octet-stream}
+ * bodies are accepted and parsed as UTF-8 JSON, since schemaless APIs often mislabel them.
+ *
+ * <p>The REST client registers this decoder on its WebClient automatically:
+ * <pre>{@code
+ * WebClient.builder()
+ *     .codecs(configurer -> configurer.customCodecs().register(new DynamicJsonResponseDecoder(objectMapper)))
+ *     .build();
+ * }</pre>
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public class DynamicJsonResponseDecoder implements Decoder<DynamicJsonResponse> {
+
+    private static final ResolvableType JSON_NODE_TYPE = ResolvableType.forClass(JsonNode.class);
+
+    private static final List<MimeType> LENIENT_MIME_TYPES = List.of(
+        MimeTypeUtils.TEXT_PLAIN, MimeTypeUtils.APPLICATION_OCTET_STREAM);
+
+    private final Jackson2JsonDecoder delegate;
+
+    /**
+     * Creates a decoder backed by a default {@link ObjectMapper}.
+     */
+    public DynamicJsonResponseDecoder() {
+        this(null);
+    }
+
+    /**
+     * Creates a decoder backed by the given {@link ObjectMapper}.
+     *
+     * @param objectMapper the mapper used to build the JSON tree, or {@code null} for a default one
+     */
+    public DynamicJsonResponseDecoder(ObjectMapper objectMapper) {
+        this.delegate = new Jackson2JsonDecoder(objectMapper != null ? objectMapper : new ObjectMapper());
+    }
+
+    /**
+     * Sets the maximum number of bytes buffered for a single JSON value.
+     *
+     * @param byteCount the limit in bytes, or -1 for unlimited
+     */
+    public void setMaxInMemorySize(int byteCount) {
+        delegate.setMaxInMemorySize(byteCount);
+    }
+
+    /**
+     * Returns the maximum number of bytes buffered for a single JSON value.
+     */
+    public int getMaxInMemorySize() {
+        return delegate.getMaxInMemorySize();
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        if (DynamicJsonResponse.class != elementType.toClass()) {
+            return false;
+        }
+        return delegate.canDecode(JSON_NODE_TYPE, mimeType)
+            || LENIENT_MIME_TYPES.stream().anyMatch(lenient -> lenient.isCompatibleWith(mimeType));
+    }
+
+    @Override
+    public Flux<DynamicJsonResponse> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                            MimeType mimeType, Map<String, Object> hints) {
+        return delegate.decode(inputStream, JSON_NODE_TYPE, jsonMimeType(mimeType), hints)
+            .map(node -> DynamicJsonResponse.fromNode((JsonNode) node));
+    }
+
+    @Override
+    public Mono<DynamicJsonResponse> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                                  MimeType mimeType, Map<String, Object> hints) {
+        return delegate.decodeToMono(inputStream, JSON_NODE_TYPE, jsonMimeType(mimeType), hints)
+            .map(node -> DynamicJsonResponse.fromNode((JsonNode) node));
+    }
+
+    @Override
+    public DynamicJsonResponse decode(DataBuffer buffer, ResolvableType targetType,
+                                      MimeType mimeType, Map<String, Object> hints) {
+        Object node = delegate.decode(buffer, JSON_NODE_TYPE, jsonMimeType(mimeType), hints);
+        return node != null ? DynamicJsonResponse.fromNode((JsonNode) node) : null;
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        List<MimeType> mimeTypes = new ArrayList<>(delegate.getDecodableMimeTypes());
+        mimeTypes.addAll(LENIENT_MIME_TYPES);
+        return mimeTypes;
+    }
+
+    /**
+     * Hands non-JSON media types to Jackson as unknown, so the body is parsed as UTF-8 JSON.
+     */
+    private MimeType jsonMimeType(MimeType mimeType) {
+        return delegate.canDecode(JSON_NODE_TYPE, mimeType) ? mimeType : null;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.id;
+
+/**
+ * Strategy for generating the request IDs sent in the {@code X-Request-ID} header and
+ * attached to error contexts.
+ *
+ * <p>Implementations are called once per request on the caller's thread and must be
+ * thread-safe and cheap. Built-in strategies are available from {@link RequestIdGenerators};
+ * the one configured under {@code firefly.service-client.request-id} is shared by all
+ * clients that do not set their own.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * RestClient client = ServiceClient.rest("user-service")
+ *     .baseUrl("http://user-service:8080")
+ *     .requestIdGenerator(RequestIdGenerators.ulid())
+ *     .build();
+ * }</pre>
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface RequestIdGenerator {
+
+    /**
+     * Generates a new request ID.
+     *
+     * @return the request ID, never {@code null}
+     */
+    String generate();
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.id;
+
+import io.micrometer.tracing.Tracer;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Built-in {@link RequestIdGenerator} strategies and the generator shared by all clients.
+ *
+ * <p>Available strategies:
+ * <ul>
+ *   <li>{@link #randomUuid()} - UUIDv4 drawn from {@link ThreadLocalRandom} (default)</li>
+ *   <li>{@link #secureUuid()} - {@link UUID#randomUUID()}, backed by {@code SecureRandom}</li>
+ *   <li>{@link #ulid()} - monotonic, lexicographically sortable ULIDs</li>
+ *   <li>{@link #traceContext(Tracer, RequestIdGenerator)} - reuses the active W3C trace ID</li>
+ * </ul>
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public final class RequestIdGenerators {
+
+    private static final RequestIdGenerator RANDOM_UUID = RequestIdGenerators::randomUuidString;
+    private static final RequestIdGenerator SECURE_UUID = () -> UUID.randomUUID().toString();
+
+    private static final AtomicReference<RequestIdGenerator> SHARED = new AtomicReference<>(RANDOM_UUID);
+
+    private RequestIdGenerators() {
+    }
+
+    /**
+     * Returns the generator used by clients that are not given one explicitly.
+     */
+    public static RequestIdGenerator shared() {
+        return SHARED.get();
+    }
+
+    /**
+     * Replaces the generator used by clients that are not given one explicitly.
+     *
+     * <p>Set by the auto-configuration with the configured strategy while its application
+     * context is open. Clients read the shared generator when they are built.
+     *
+     * @param generator the generator to share
+     */
+    public static void setShared(RequestIdGenerator generator) {
+        if (generator == null) {
+            throw new IllegalArgumentException("Request ID generator cannot be null");
+        }
+        SHARED.set(generator);
+    }
+
+    /**
+     * Restores the default generator if {@code generator} is still the shared one, so that
+     * releasing a generator never discards one shared since.
+     *
+     * @param generator the generator to stop sharing
+     */
+    public static void resetShared(RequestIdGenerator generator) {
+        SHARED.compareAndSet(generator, RANDOM_UUID);
+    }
+
+    /**
+     * Random (version 4) UUIDs drawn from {@link ThreadLocalRandom}.
+     *
+     * <p>Same format as {@link UUID#randomUUID()} without contending on a shared
+     * {@code SecureRandom}. The IDs are unique but not unpredictable, which is all a
+     * correlation ID needs.
+     */
+    public static RequestIdGenerator randomUuid() {
+        return RANDOM_UUID;
+    }
+
+    /**
+     * Random UUIDs from {@link UUID#randomUUID()}, for callers that need unpredictable IDs.
+     */
+    public static RequestIdGenerator secureUuid() {
+        return SECURE_UUID;
+    }
+
+    /**
+     * Monotonic ULIDs: 26 Crockford base32 characters, sortable by creation time.
+     */
+    public static RequestIdGenerator ulid() {
+        return new UlidRequestIdGenerator();
+    }
+
+    /**
+     * Reuses the trace ID of the current span, falling back to {@code fallback} when no
+     * trace is active.
+     *
+     * @param tracer the Micrometer tracer
+     * @param fallback the generator used outside of a trace
+     */
+    public static RequestIdGenerator traceContext(Tracer tracer, RequestIdGenerator fallback) {
+        return new TraceContextRequestIdGenerator(tracer, fallback);
+    }
+
+    private static String randomUuidString() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
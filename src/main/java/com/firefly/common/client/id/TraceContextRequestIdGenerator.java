@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.id;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request ID generator that reuses the W3C trace ID of the current span.
+ *
+ * <p>Inside a trace the ID is {@code <trace-id>-<16 hex digits>}: the 32-hex-digit trace
+ * ID ties the request to the trace in logs, and the random suffix keeps IDs unique when
+ * one span issues several requests. Outside a trace the fallback generator is used.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class TraceContextRequestIdGenerator implements RequestIdGenerator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Tracer tracer;
+    private final RequestIdGenerator fallback;
+
+    TraceContextRequestIdGenerator(Tracer tracer, RequestIdGenerator fallback) {
+        if (tracer == null) {
+            throw new IllegalArgumentException("Tracer cannot be null");
+        }
+        if (fallback == null) {
+            throw new IllegalArgumentException("Fallback generator cannot be null");
+        }
+        this.tracer = tracer;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public String generate() {
+        Span span = tracer.currentSpan();
+        String traceId = span != null ? span.context().traceId() : null;
+        if (traceId == null || traceId.isEmpty()) {
+            return fallback.generate();
+        }
+
+        long suffix = ThreadLocalRandom.current().nextLong();
+        char[] chars = new char[traceId.length() + 17];
+        traceId.getChars(0, traceId.length(), chars, 0);
+        int offset = traceId.length();
+        chars[offset++] = '-';
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            chars[offset++] = HEX[(int) ((suffix >>> shift) & 0xF)];
+        }
+        return new String(chars);
+    }
+}
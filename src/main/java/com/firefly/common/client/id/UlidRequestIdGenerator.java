@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Monotonic <a href="https://github.com/ulid/spec">ULID</a> generator.
+ *
+ * <p>Each ID is a 48-bit millisecond timestamp followed by 80 random bits, encoded as 26
+ * Crockford base32 characters. IDs generated within the same millisecond increment the
+ * random part instead of drawing new bits, so IDs from one generator are strictly
+ * increasing even across threads. The last state is swapped with a CAS rather than a
+ * lock, and the clock is never allowed to run backwards.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class UlidRequestIdGenerator implements RequestIdGenerator {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long RANDOM_HIGH_MASK = 0xFFFFL;
+
+    private final AtomicReference<State> last = new AtomicReference<>(new State(0, 0, 0));
+
+    @Override
+    public String generate() {
+        State previous;
+        State next;
+        do {
+            previous = last.get();
+            long now = System.currentTimeMillis();
+            if (now > previous.time) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                next = new State(now, random.nextLong() & RANDOM_HIGH_MASK, random.nextLong());
+            } else {
+                next = previous.increment();
+            }
+        } while (!last.compareAndSet(previous, next));
+
+        return encode(next);
+    }
+
+    private static String encode(State state) {
+        char[] chars = new char[26];
+
+        long time = state.time;
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (time & 31)];
+            time >>>= 5;
+        }
+
+        // Shift the 80-bit random part right by 5 bits per character
+        long high = state.randomHigh;
+        long low = state.randomLow;
+        for (int i = 25; i >= 10; i--) {
+            chars[i] = ALPHABET[(int) (low & 31)];
+            low = (low >>> 5) | ((high & 31) << 59);
+            high >>>= 5;
+        }
+
+        return new String(chars);
+    }
+
+    private record State(long time, long randomHigh, long randomLow) {
+
+        /**
+         * Returns the next state within the same millisecond, moving to the next
+         * millisecond if the 80 random bits overflow.
+         */
+        State increment() {
+            long low = randomLow + 1;
+            long high = low == 0 ? (randomHigh + 1) & RANDOM_HIGH_MASK : randomHigh;
+            long nextTime = low == 0 && high == 0 ? time + 1 : time;
+            return new State(nextTime, high, low);
+        }
+    }
+}
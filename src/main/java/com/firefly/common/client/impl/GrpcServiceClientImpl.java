@@ -19,16 +19,23 @@ package com.firefly.common.client.impl;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.firefly.common.client.ClientType;
 import com.firefly.common.client.GrpcClient;
+import com.firefly.common.client.deadline.Deadline;
 import com.firefly.common.client.exception.GrpcErrorMapper;
 import com.firefly.common.client.exception.ServiceClientException;
 import com.firefly.common.client.exception.ServiceUnavailableException;
+import com.firefly.common.client.id.RequestIdGenerator;
+import com.firefly.common.client.id.RequestIdGenerators;
+import com.firefly.common.client.resilience.HedgingExecutor;
+import com.firefly.common.client.resilience.HedgingPolicy;
 import com.firefly.common.resilience.CircuitBreakerManager;
+import io.grpc.Context;
 import io.grpc.ManagedChannel;
 import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
@@ -36,7 +43,9 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
@@ -54,6 +63,15 @@ import java.util.function.Function;
 @Slf4j
 public class GrpcServiceClientImpl<T> implements GrpcClient<T> {
 
+    /**
+     * Cancels gRPC contexts whose deadline has passed; shared by all clients.
+     */
+    private static final ScheduledExecutorService DEADLINE_TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "grpc-client-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final String serviceName;
     private final Class<T> stubType;
     private final String address;
@@ -61,6 +79,8 @@ public class GrpcServiceClientImpl<T> implements GrpcClient<T> {
     private final ManagedChannel channel;
     private final T stub;
     private final CircuitBreakerManager circuitBreakerManager;
+    private final RequestIdGenerator requestIdGenerator;
+    private final HedgingExecutor hedging;
     private final AtomicBoolean isShutdown = new AtomicBoolean(false);
 
     /**
@@ -73,6 +93,38 @@ public class GrpcServiceClientImpl<T> implements GrpcClient<T> {
                                 ManagedChannel channel,
                                 T stub,
                                 CircuitBreakerManager circuitBreakerManager) {
+        this(serviceName, stubType, address, timeout, channel, stub, circuitBreakerManager,
+            RequestIdGenerators.shared());
+    }
+
+    /**
+     * Creates a new gRPC service client implementation with a specific request ID generator.
+     */
+    public GrpcServiceClientImpl(String serviceName,
+                                Class<T> stubType,
+                                String address,
+                                Duration timeout,
+                                ManagedChannel channel,
+                                T stub,
+                                CircuitBreakerManager circuitBreakerManager,
+                                RequestIdGenerator requestIdGenerator) {
+        this(serviceName, stubType, address, timeout, channel, stub, circuitBreakerManager,
+            requestIdGenerator, null);
+    }
+
+    /**
+     * Creates a new gRPC service client implementation that hedges idempotent unary calls
+     * according to {@code hedgingPolicy}, if not {@code null}.
+     */
+    public GrpcServiceClientImpl(String serviceName,
+                                Class<T> stubType,
+                                String address,
+                                Duration timeout,
+                                ManagedChannel channel,
+                                T stub,
+                                CircuitBreakerManager circuitBreakerManager,
+                                RequestIdGenerator requestIdGenerator,
+                                HedgingPolicy hedgingPolicy) {
         this.serviceName = serviceName;
         this.stubType = stubType;
         this.address = address;
@@ -80,6 +132,8 @@ public class GrpcServiceClientImpl<T> implements GrpcClient<T> {
         this.channel = channel;
         this.stub = stub;
         this.circuitBreakerManager = circuitBreakerManager;
+        this.requestIdGenerator = requestIdGenerator;
+        this.hedging = hedgingPolicy != null ? new HedgingExecutor(hedgingPolicy) : null;
 
         log.info("Initialized gRPC service client for service '{}' with enhanced circuit breaker and address '{}'",
                 serviceName, address);
@@ -91,21 +145,32 @@ public class GrpcServiceClientImpl<T> implements GrpcClient<T> {
 
     /**
      * Executes a unary gRPC call with circuit breaker protection.
+     *
+     * <p>The call's gRPC deadline is the client timeout, or the {@link Deadline} in the
+     * subscriber's context if that is earlier. A call whose deadline has already passed
+     * fails without being sent.
      */
     @Override
     public <R> Mono<R> unary(Function<T, R> operation) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = requestIdGenerator.generate();
         Instant startTime = Instant.now();
 
-        return Mono.fromCallable(() -> operation.apply(stub))
-            .onErrorMap(throwable -> GrpcErrorMapper.mapGrpcError(
-                throwable,
-                serviceName,
-                "unary", // method name - could be enhanced to extract actual method
-                requestId,
-                startTime
-            ))
-            .transform(this::applyCircuitBreakerProtection);
+        return Mono.deferContextual(context -> {
+            Deadline deadline = Deadline.current(context).orElse(null);
+            if (deadline != null && deadline.isExpired()) {
+                return Mono.<R>error(deadline.exceeded(serviceName));
+            }
+
+            return callWithDeadline(operation, grpcDeadline(deadline))
+                .onErrorMap(throwable -> GrpcErrorMapper.mapGrpcError(
+                    throwable,
+                    serviceName,
+                    "unary", // method name - could be enhanced to extract actual method
+                    requestId,
+                    startTime
+                ))
+                .transform(this::applyCircuitBreakerProtection);
+        });
     }
 
     /**
@@ -116,20 +181,71 @@ public class GrpcServiceClientImpl<T> implements GrpcClient<T> {
         return unary(operation);
     }
 
+    /**
+     * Executes an idempotent unary gRPC call, hedged when a hedging policy is configured.
+     *
+     * <p>Each attempt runs the blocking stub call on the bounded elastic scheduler inside a
+     * cancellable gRPC {@link Context}, so cancelling a losing attempt cancels its RPC. The
+     * channel's load balancer may route each attempt to another backend. Latencies are
+     * tracked per call site, i.e. per {@code operation} lambda. All attempts share the
+     * deadline of {@link #unary(Function)}.
+     */
+    @Override
+    public <R> Mono<R> idempotentUnary(Function<T, R> operation) {
+        if (hedging == null) {
+            return unary(operation);
+        }
+
+        String requestId = requestIdGenerator.generate();
+        Instant startTime = Instant.now();
+
+        return Mono.deferContextual(context -> {
+            Deadline deadline = Deadline.current(context).orElse(null);
+            if (deadline != null && deadline.isExpired()) {
+                return Mono.<R>error(deadline.exceeded(serviceName));
+            }
+
+            io.grpc.Deadline grpcDeadline = grpcDeadline(deadline);
+            return hedging.execute(operation.getClass(), () -> callWithDeadline(operation, grpcDeadline)
+                    .subscribeOn(Schedulers.boundedElastic()))
+                .onErrorMap(throwable -> GrpcErrorMapper.mapGrpcError(
+                    throwable,
+                    serviceName,
+                    "unary",
+                    requestId,
+                    startTime
+                ))
+                .transform(this::applyCircuitBreakerProtection);
+        });
+    }
+
     /**
      * Executes a server-streaming gRPC call.
+     *
+     * <p>The client timeout does not apply to streams; a {@link Deadline} in the
+     * subscriber's context bounds the whole stream.
      */
     @Override
     public <R> Flux<R> serverStream(Function<T, Iterator<R>> operation) {
-        return Flux.defer(() -> {
-            try {
-                Iterator<R> iterator = operation.apply(stub);
-                return Flux.fromIterable(() -> iterator);
-            } catch (Exception e) {
-                return Flux.error(new ServiceClientException(
-                    "Failed to execute gRPC server streaming operation", e));
+        return Flux.deferContextual(context -> {
+            Deadline deadline = Deadline.current(context).orElse(null);
+            if (deadline != null && deadline.isExpired()) {
+                return Flux.<R>error(deadline.exceeded(serviceName));
             }
-        }).transform(this::applyCircuitBreakerProtectionFlux);
+
+            return Flux.<R>defer(() -> {
+                Context.CancellableContext grpcContext = grpcContext(streamDeadline(deadline));
+                try {
+                    Iterator<R> iterator = grpcContext.call(() -> operation.apply(stub));
+                    return Flux.fromIterable(() -> iterator)
+                        .doFinally(signal -> grpcContext.cancel(null));
+                } catch (Exception e) {
+                    grpcContext.cancel(null);
+                    return Flux.error(new ServiceClientException(
+                        "Failed to execute gRPC server streaming operation", e));
+                }
+            }).transform(this::applyCircuitBreakerProtectionFlux);
+        });
     }
 
     /**
@@ -161,15 +277,25 @@ public class GrpcServiceClientImpl<T> implements GrpcClient<T> {
      */
     @Override
     public <R> Flux<R> executeStream(Function<T, Publisher<R>> operation) {
-        return Flux.defer(() -> {
-            try {
-                Publisher<R> publisher = operation.apply(stub);
-                return Flux.from(publisher);
-            } catch (Exception e) {
-                return Flux.error(new ServiceClientException(
-                    "Failed to execute gRPC streaming operation", e));
+        return Flux.deferContextual(context -> {
+            Deadline deadline = Deadline.current(context).orElse(null);
+            if (deadline != null && deadline.isExpired()) {
+                return Flux.<R>error(deadline.exceeded(serviceName));
             }
-        }).transform(this::applyCircuitBreakerProtectionFlux);
+
+            return Flux.<R>defer(() -> {
+                Context.CancellableContext grpcContext = grpcContext(streamDeadline(deadline));
+                try {
+                    Publisher<R> publisher = grpcContext.call(() -> operation.apply(stub));
+                    return Flux.from(publisher)
+                        .doFinally(signal -> grpcContext.cancel(null));
+                } catch (Exception e) {
+                    grpcContext.cancel(null);
+                    return Flux.error(new ServiceClientException(
+                        "Failed to execute gRPC streaming operation", e));
+                }
+            }).transform(this::applyCircuitBreakerProtectionFlux);
+        });
     }
 
     // ========================================
@@ -264,6 +390,46 @@ public class GrpcServiceClientImpl<T> implements GrpcClient<T> {
         return applyCircuitBreakerProtectionFlux(operation);
     }
 
+    /**
+     * Runs a blocking stub call inside a gRPC {@link Context} carrying the deadline, which
+     * the stub applies to the RPC. Cancelling the returned Mono cancels the RPC.
+     */
+    private <R> Mono<R> callWithDeadline(Function<T, R> operation, io.grpc.Deadline grpcDeadline) {
+        return Mono.defer(() -> {
+            Context.CancellableContext context = grpcContext(grpcDeadline);
+            return Mono.fromCallable(() -> context.call(() -> operation.apply(stub)))
+                .doFinally(signal -> context.cancel(null));
+        });
+    }
+
+    /**
+     * Returns the gRPC deadline of a unary call: the client timeout, or the context
+     * deadline if that is earlier.
+     */
+    private io.grpc.Deadline grpcDeadline(Deadline deadline) {
+        Duration callTimeout = deadline != null ? deadline.limit(timeout) : timeout;
+        return callTimeout != null ? io.grpc.Deadline.after(callTimeout.toNanos(), TimeUnit.NANOSECONDS) : null;
+    }
+
+    /**
+     * Returns the gRPC deadline of a stream, which only the context deadline bounds.
+     */
+    private static io.grpc.Deadline streamDeadline(Deadline deadline) {
+        return deadline != null
+            ? io.grpc.Deadline.after(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS)
+            : null;
+    }
+
+    /**
+     * Creates a cancellable gRPC context with the deadline, or without one. An earlier
+     * deadline of the current context, e.g. of the incoming call being served, is kept.
+     */
+    private static Context.CancellableContext grpcContext(io.grpc.Deadline grpcDeadline) {
+        return grpcDeadline != null
+            ? Context.current().withDeadline(grpcDeadline, DEADLINE_TIMER)
+            : Context.current().withCancellation();
+    }
+
     // ========================================
     // Circuit Breaker Protection
     // ========================================
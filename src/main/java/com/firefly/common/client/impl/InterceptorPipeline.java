@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.impl;
+
+import com.firefly.common.client.interceptor.InterceptorChain;
+import com.firefly.common.client.interceptor.InterceptorRequest;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import com.firefly.common.client.interceptor.ServiceClientInterceptor;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, pre-sorted chain of {@link ServiceClientInterceptor}s shared by all requests
+ * of a client.
+ *
+ * <p>Interceptors are sorted by {@link ServiceClientInterceptor#getOrder()} once, when the
+ * client is built. The pipeline then creates one {@link InterceptorChain} link per
+ * position; link {@code i} continues with the first interceptor at or after {@code i}
+ * whose {@link ServiceClientInterceptor#shouldIntercept(InterceptorRequest)} accepts the
+ * request, or runs the request itself once the end is reached. Links carry no per-request
+ * state, so they are reused by every request and no chain object is allocated per hop.
+ *
+ * <p>Requests entering the pipeline must implement {@link Executable}; interceptors that
+ * modify a request must derive the new one through the {@code with*} methods so that it
+ * stays executable.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class InterceptorPipeline {
+
+    private static final InterceptorPipeline EMPTY = new InterceptorPipeline(new ServiceClientInterceptor[0]);
+
+    private final ServiceClientInterceptor[] interceptors;
+    private final Link[] links;
+
+    private InterceptorPipeline(ServiceClientInterceptor[] interceptors) {
+        this.interceptors = interceptors;
+        this.links = new Link[interceptors.length + 1];
+        for (int i = 0; i <= interceptors.length; i++) {
+            links[i] = new Link(i, List.of(Arrays.copyOfRange(interceptors, i, interceptors.length)));
+        }
+    }
+
+    /**
+     * Creates a pipeline from interceptors in any order.
+     *
+     * @param interceptors the interceptors, may be {@code null} or empty
+     * @return the pipeline, sorted by ascending order with ties kept in registration order
+     */
+    static InterceptorPipeline of(Collection<? extends ServiceClientInterceptor> interceptors) {
+        if (interceptors == null || interceptors.isEmpty()) {
+            return EMPTY;
+        }
+        List<ServiceClientInterceptor> sorted = new ArrayList<>(interceptors);
+        sorted.sort(Comparator.comparingInt(ServiceClientInterceptor::getOrder));
+        return new InterceptorPipeline(sorted.toArray(new ServiceClientInterceptor[0]));
+    }
+
+    /**
+     * Returns whether the pipeline has no interceptors, in which case callers should
+     * bypass it entirely.
+     */
+    boolean isEmpty() {
+        return interceptors.length == 0;
+    }
+
+    /**
+     * Returns the interceptors in execution order.
+     */
+    List<ServiceClientInterceptor> getInterceptors() {
+        return links[0].remaining;
+    }
+
+    /**
+     * Runs the request through the interceptors and finally executes it.
+     *
+     * @param request the request, implementing {@link Executable}
+     * @return the response produced by the last interceptor or by the request itself
+     */
+    Mono<InterceptorResponse> execute(InterceptorRequest request) {
+        return links[0].proceed(request);
+    }
+
+    /**
+     * An {@link InterceptorRequest} that knows how to perform the actual call.
+     */
+    interface Executable extends InterceptorRequest {
+
+        /**
+         * Performs the call described by this request.
+         */
+        Mono<InterceptorResponse> execute();
+    }
+
+    private final class Link implements InterceptorChain {
+
+        private final int index;
+        private final List<ServiceClientInterceptor> remaining;
+
+        private Link(int index, List<ServiceClientInterceptor> remaining) {
+            this.index = index;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public Mono<InterceptorResponse> proceed(InterceptorRequest request) {
+            for (int i = index; i < interceptors.length; i++) {
+                ServiceClientInterceptor interceptor = interceptors[i];
+                if (interceptor.shouldIntercept(request)) {
+                    return interceptor.intercept(request, links[i + 1]);
+                }
+            }
+
+            if (request instanceof Executable executable) {
+                return executable.execute();
+            }
+            return Mono.error(new IllegalStateException(
+                "Interceptor requests must be derived from the original request via its with* methods, got "
+                    + request.getClass().getName()));
+        }
+
+        @Override
+        public List<ServiceClientInterceptor> getRemainingInterceptors() {
+            return remaining;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return index;
+        }
+    }
+}
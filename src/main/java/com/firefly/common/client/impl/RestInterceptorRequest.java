@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.impl;
+
+import com.firefly.common.client.ClientType;
+import com.firefly.common.client.interceptor.InterceptorRequest;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable {@link InterceptorRequest} for a REST call.
+ *
+ * <p>The {@code with*} methods return modified copies that keep the executor, so the
+ * request that reaches the end of the {@link InterceptorPipeline} is the one sent.
+ * Header names are case-insensitive.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class RestInterceptorRequest implements InterceptorPipeline.Executable {
+
+    private final String serviceName;
+    private final String method;
+    private final String endpoint;
+    private final Object body;
+    private final Map<String, String> headers;
+    private final Map<String, Object> pathParams;
+    private final Map<String, Object> queryParams;
+    private final Duration timeout;
+    private final Map<String, Object> attributes;
+    private final Function<RestInterceptorRequest, Mono<InterceptorResponse>> executor;
+
+    RestInterceptorRequest(String serviceName,
+                           String method,
+                           String endpoint,
+                           Object body,
+                           Map<String, String> headers,
+                           Map<String, Object> pathParams,
+                           Map<String, Object> queryParams,
+                           Duration timeout,
+                           Function<RestInterceptorRequest, Mono<InterceptorResponse>> executor) {
+        this(serviceName, method, endpoint, body, copyHeaders(headers, null, null),
+            Collections.unmodifiableMap(new HashMap<>(pathParams)),
+            Collections.unmodifiableMap(new HashMap<>(queryParams)),
+            timeout, Map.of(), executor);
+    }
+
+    private RestInterceptorRequest(String serviceName,
+                                   String method,
+                                   String endpoint,
+                                   Object body,
+                                   Map<String, String> headers,
+                                   Map<String, Object> pathParams,
+                                   Map<String, Object> queryParams,
+                                   Duration timeout,
+                                   Map<String, Object> attributes,
+                                   Function<RestInterceptorRequest, Mono<InterceptorResponse>> executor) {
+        this.serviceName = serviceName;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.body = body;
+        this.headers = headers;
+        this.pathParams = pathParams;
+        this.queryParams = queryParams;
+        this.timeout = timeout;
+        this.attributes = attributes;
+        this.executor = executor;
+    }
+
+    @Override
+    public Mono<InterceptorResponse> execute() {
+        return executor.apply(this);
+    }
+
+    @Override
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    @Override
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public Object getBody() {
+        return body;
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Map<String, Object> getQueryParams() {
+        return queryParams;
+    }
+
+    @Override
+    public Map<String, Object> getPathParams() {
+        return pathParams;
+    }
+
+    @Override
+    public String getClientType() {
+        return ClientType.REST.name();
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public InterceptorRequest withHeader(String name, String value) {
+        return new RestInterceptorRequest(serviceName, method, endpoint, body, copyHeaders(headers, name, value),
+            pathParams, queryParams, timeout, attributes, executor);
+    }
+
+    @Override
+    public InterceptorRequest withBody(Object body) {
+        return new RestInterceptorRequest(serviceName, method, endpoint, body, headers,
+            pathParams, queryParams, timeout, attributes, executor);
+    }
+
+    @Override
+    public InterceptorRequest withTimeout(Duration timeout) {
+        return new RestInterceptorRequest(serviceName, method, endpoint, body, headers,
+            pathParams, queryParams, timeout, attributes, executor);
+    }
+
+    @Override
+    public InterceptorRequest withAttribute(String name, Object value) {
+        Map<String, Object> copy = new HashMap<>(attributes);
+        copy.put(name, value);
+        return new RestInterceptorRequest(serviceName, method, endpoint, body, headers,
+            pathParams, queryParams, timeout, Collections.unmodifiableMap(copy), executor);
+    }
+
+    private static Map<String, String> copyHeaders(Map<String, String> headers, String name, String value) {
+        Map<String, String> copy = new LinkedCaseInsensitiveMap<>(headers.size() + 1);
+        copy.putAll(headers);
+        if (name != null) {
+            copy.put(name, value);
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.impl;
+
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable {@link InterceptorResponse} holding the decoded body of a successful REST call.
+ *
+ * <p>Error statuses never produce a response; they reach interceptors as the mapped
+ * {@code ServiceClientException} signal instead. Header names are case-insensitive.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class RestInterceptorResponse implements InterceptorResponse {
+
+    private final Object body;
+    private final int statusCode;
+    private final Map<String, String> headers;
+    private final long responseTimeMs;
+    private final Map<String, Object> attributes;
+
+    private RestInterceptorResponse(Object body,
+                                    int statusCode,
+                                    Map<String, String> headers,
+                                    long responseTimeMs,
+                                    Map<String, Object> attributes) {
+        this.body = body;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.responseTimeMs = responseTimeMs;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Creates a response from the received response and its decoded body.
+     *
+     * @param response the received response
+     * @param body the decoded body, {@code null} if the response had none
+     * @param startTime the time at which the request was sent
+     */
+    static RestInterceptorResponse of(ClientResponse response, Object body, Instant startTime) {
+        Map<String, String> headers = new LinkedCaseInsensitiveMap<>();
+        headers.putAll(response.headers().asHttpHeaders().toSingleValueMap());
+        return new RestInterceptorResponse(
+            body,
+            response.statusCode().value(),
+            Collections.unmodifiableMap(headers),
+            Duration.between(startTime, Instant.now()).toMillis(),
+            Map.of());
+    }
+
+    @Override
+    public Object getBody() {
+        return body;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public long getResponseTimeMs() {
+        return responseTimeMs;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 400;
+    }
+
+    @Override
+    public Throwable getError() {
+        return null;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public InterceptorResponse withBody(Object body) {
+        return new RestInterceptorResponse(body, statusCode, headers, responseTimeMs, attributes);
+    }
+
+    @Override
+    public InterceptorResponse withHeader(String name, String value) {
+        Map<String, String> copy = new LinkedCaseInsensitiveMap<>(headers.size() + 1);
+        copy.putAll(headers);
+        copy.put(name, value);
+        return new RestInterceptorResponse(body, statusCode, Collections.unmodifiableMap(copy), responseTimeMs, attributes);
+    }
+
+    @Override
+    public InterceptorResponse withAttribute(String name, Object value) {
+        Map<String, Object> copy = new HashMap<>(attributes);
+        copy.put(name, value);
+        return new RestInterceptorResponse(body, statusCode, headers, responseTimeMs, Collections.unmodifiableMap(copy));
+    }
+}
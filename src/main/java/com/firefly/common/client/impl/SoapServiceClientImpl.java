@@ -19,6 +19,7 @@ package com.firefly.common.client.impl;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.firefly.common.client.ClientType;
 import com.firefly.common.client.SoapClient;
+import com.firefly.common.client.deadline.Deadline;
 import com.firefly.common.client.exception.ServiceClientException;
 import com.firefly.common.client.exception.SoapFaultException;
 import com.firefly.common.client.exception.WsdlParsingException;
@@ -35,6 +36,8 @@ import org.apache.cxf.configuration.jsse.TLSClientParameters;
 import org.apache.cxf.ws.security.wss4j.WSS4JOutInterceptor;
 import org.apache.cxf.interceptor.LoggingInInterceptor;
 import org.apache.cxf.interceptor.LoggingOutInterceptor;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.service.model.BindingOperationInfo;
 import org.apache.wss4j.dom.WSConstants;
 import org.apache.wss4j.dom.handler.WSHandlerConstants;
 
@@ -66,6 +69,8 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -522,6 +527,34 @@ public class SoapServiceClientImpl implements SoapClient {
      * Invokes a SOAP operation dynamically using Apache CXF Dynamic Client.
      */
     private <R> Mono<R> invokeOperation(String operationName, Object request, Class<R> responseType) {
+        return invokeOperation(operationName, request, responseType, Map.of(), timeout);
+    }
+
+    /**
+     * Invokes a SOAP operation within the {@link Deadline} of the subscriber's context, if
+     * any. The receive timeout is limited to the time remaining, which is also sent in the
+     * {@value Deadline#HEADER} header, and an operation whose deadline has passed is not
+     * invoked.
+     */
+    private <R> Mono<R> invokeOperation(String operationName, Object request, Class<R> responseType,
+                                        Map<String, String> headers, Duration callTimeout) {
+        return Mono.deferContextual(context -> {
+            Deadline deadline = Deadline.current(context).orElse(null);
+            if (deadline == null) {
+                return invokeOperation(operationName, request, responseType, headers, callTimeout, null);
+            }
+            if (deadline.isExpired()) {
+                return Mono.<R>error(deadline.exceeded(serviceName));
+            }
+
+            Map<String, String> deadlineHeaders = new HashMap<>(headers);
+            deadlineHeaders.put(Deadline.HEADER, deadline.toHeaderValue());
+            return invokeOperation(operationName, request, responseType, deadlineHeaders, callTimeout, deadline);
+        });
+    }
+
+    private <R> Mono<R> invokeOperation(String operationName, Object request, Class<R> responseType,
+                                        Map<String, String> headers, Duration callTimeout, Deadline deadline) {
         long startTime = System.currentTimeMillis();
 
         return Mono.fromCallable(() -> {
@@ -536,7 +569,8 @@ public class SoapServiceClientImpl implements SoapClient {
                 Object[] params = extractParameters(request);
 
                 // Invoke the operation using dynamic client
-                Object[] results = dynamicClient.invoke(operationName, params);
+                Duration receiveTimeout = deadline != null ? deadline.limit(callTimeout) : callTimeout;
+                Object[] results = invokeDynamic(operationName, params, headers, receiveTimeout);
 
                 // Handle response
                 R typedResult = null;
@@ -594,6 +628,51 @@ public class SoapServiceClientImpl implements SoapClient {
         .transform(this::applyCircuitBreakerProtection);
     }
 
+    /**
+     * Invokes an operation on the dynamic client. Per-call headers and timeouts are passed
+     * in an invocation context, so that concurrent calls do not share them.
+     */
+    private Object[] invokeDynamic(String operationName, Object[] params,
+                                   Map<String, String> headers, Duration receiveTimeout) throws Exception {
+        if (headers.isEmpty() && Objects.equals(receiveTimeout, timeout)) {
+            return dynamicClient.invoke(operationName, params);
+        }
+
+        QName operationQName = new QName(
+            dynamicClient.getEndpoint().getService().getName().getNamespaceURI(), operationName);
+        BindingOperationInfo operation = dynamicClient.getEndpoint().getEndpointInfo().getBinding()
+            .getOperation(operationQName);
+        if (operation == null) {
+            // Let the client report the unknown operation
+            return dynamicClient.invoke(operationName, params);
+        }
+        if (operation.isUnwrappedCapable()) {
+            operation = operation.getUnwrappedOperation();
+        }
+
+        Map<String, Object> requestContext = new HashMap<>(dynamicClient.getRequestContext());
+        if (receiveTimeout != null) {
+            requestContext.put(Message.RECEIVE_TIMEOUT, receiveTimeout.toMillis());
+        }
+        if (!headers.isEmpty()) {
+            Map<String, List<String>> protocolHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            if (requestContext.get(Message.PROTOCOL_HEADERS) instanceof Map<?, ?> configured) {
+                configured.forEach((name, values) -> {
+                    if (name instanceof String header && values instanceof List<?> list) {
+                        protocolHeaders.put(header, list.stream().map(String::valueOf).toList());
+                    }
+                });
+            }
+            headers.forEach((name, value) -> protocolHeaders.put(name, List.of(value)));
+            requestContext.put(Message.PROTOCOL_HEADERS, protocolHeaders);
+        }
+
+        Map<String, Object> invocationContext = new HashMap<>();
+        invocationContext.put(Client.REQUEST_CONTEXT, requestContext);
+        invocationContext.put(Client.RESPONSE_CONTEXT, new HashMap<String, Object>());
+        return dynamicClient.invoke(operation, params, invocationContext);
+    }
+
     /**
      * Extracts parameters from a request object.
      * If the request is a JAXB object, extracts field values.
@@ -758,7 +837,7 @@ public class SoapServiceClientImpl implements SoapClient {
 
             // Build request object from parameters
             Object request = buildRequestFromParameters();
-            return invokeOperation(operationName, request, responseType);
+            return invokeOperation(operationName, request, responseType, Map.copyOf(headers), requestTimeout);
         }
 
         @Override
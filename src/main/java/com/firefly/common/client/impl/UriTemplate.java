@@ -0,0 +1,262 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-compiled endpoint template such as {@code /users/{id}/accounts/{accountId}}.
+ *
+ * <p>The template is parsed once into alternating literal and variable segments.
+ * Expansion writes the base URL, the segments and the query string into a single
+ * pre-sized buffer, percent-encoding path and query values according to RFC 3986.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class UriTemplate {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private static final boolean[] LITERAL = allowedChars(":/?#[]@!$&'()*+,;=%");
+    private static final boolean[] PATH_SEGMENT = allowedChars("!$&'()*+,;=:@");
+    private static final boolean[] QUERY_PARAM = allowedChars("!$'()*,;:@/?");
+
+    private final String template;
+    private final String[] literals;
+    private final String[] variables;
+    private final boolean absolute;
+    private final boolean hasQuery;
+    private final int literalLength;
+
+    private UriTemplate(String template, String[] literals, String[] variables) {
+        this.template = template;
+        this.literals = literals;
+        this.variables = variables;
+        this.absolute = template.startsWith("http://") || template.startsWith("https://");
+        this.hasQuery = template.indexOf('?') >= 0;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses an endpoint template into literal and variable segments.
+     *
+     * @param template the endpoint template
+     * @return the compiled template
+     */
+    static UriTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(template.length());
+
+        int start = 0;
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            int close = c == '{' ? closingBrace(template, i) : -1;
+            if (close > i + 1) {
+                String name = template.substring(i + 1, close);
+                // Spring-style "{name:regex}" variables: only the name is relevant here
+                int colon = name.indexOf(':');
+                variables.add((colon >= 0 ? name.substring(0, colon) : name).trim());
+                literals.add(encodeLiteral(literal, template.substring(start, i)));
+                start = close + 1;
+                i = start;
+            } else {
+                i++;
+            }
+        }
+        literals.add(encodeLiteral(literal, template.substring(start)));
+
+        return new UriTemplate(template, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the index of the brace closing the one at {@code open}, skipping nested
+     * pairs such as the quantifier in {@code {id:\d{3}}}, or -1 if it is not closed.
+     */
+    private static int closingBrace(String template, int open) {
+        int depth = 0;
+        for (int i = open; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Expands this template into an absolute URI string.
+     *
+     * @param baseUrl the base URL to prepend unless the template is already absolute,
+     *                joined with a {@code /} if neither side has one
+     * @param pathParams the path variable values
+     * @param queryParams the query parameters, appended in iteration order
+     * @return the expanded and encoded URI
+     * @throws IllegalArgumentException if a path variable has no value
+     */
+    String expand(String baseUrl, Map<String, Object> pathParams, Map<String, Object> queryParams) {
+        String base = absolute || baseUrl == null ? "" : baseUrl;
+        StringBuilder uri = new StringBuilder(
+            base.length() + 1 + literalLength + variables.length * 16 + queryParams.size() * 32);
+
+        uri.append(base);
+        if (needsSeparator(base)) {
+            uri.append('/');
+        }
+        for (int i = 0; i < variables.length; i++) {
+            uri.append(literals[i]);
+            Object value = pathParams.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                    "Missing value for path parameter '" + variables[i] + "' in endpoint '" + template + "'");
+            }
+            appendEncoded(uri, String.valueOf(value), PATH_SEGMENT);
+        }
+        uri.append(literals[variables.length]);
+
+        if (!queryParams.isEmpty()) {
+            char separator = hasQuery ? '&' : '?';
+            for (Map.Entry<String, Object> entry : queryParams.entrySet()) {
+                if (entry.getValue() instanceof Iterable<?> values) {
+                    for (Object value : values) {
+                        separator = appendQueryParam(uri, separator, entry.getKey(), value);
+                    }
+                } else {
+                    separator = appendQueryParam(uri, separator, entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        return uri.toString();
+    }
+
+    /**
+     * Returns whether a {@code /} must be inserted between the base URL and the template.
+     */
+    private boolean needsSeparator(String base) {
+        if (base.isEmpty() || base.charAt(base.length() - 1) == '/' || template.isEmpty()) {
+            return false;
+        }
+        char first = template.charAt(0);
+        return first != '/' && first != '?' && first != '#';
+    }
+
+    /**
+     * Returns the number of variables in this template.
+     */
+    int getVariableCount() {
+        return variables.length;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private static char appendQueryParam(StringBuilder uri, char separator, String name, Object value) {
+        uri.append(separator);
+        appendEncoded(uri, name, QUERY_PARAM);
+        if (value != null) {
+            uri.append('=');
+            appendEncoded(uri, String.valueOf(value), QUERY_PARAM);
+        }
+        return '&';
+    }
+
+    /**
+     * Encodes characters that are illegal anywhere in a URI, leaving existing escapes intact.
+     */
+    private static String encodeLiteral(StringBuilder buffer, String literal) {
+        buffer.setLength(0);
+        appendEncoded(buffer, literal, LITERAL);
+        return buffer.toString();
+    }
+
+    /**
+     * Appends {@code value} to {@code out}, percent-encoding every character that is
+     * not allowed by the given table as UTF-8.
+     */
+    private static void appendEncoded(StringBuilder out, String value, boolean[] allowed) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                if (allowed[c]) {
+                    out.append(c);
+                } else {
+                    appendByte(out, c);
+                }
+            } else if (c < 0x800) {
+                appendByte(out, 0xC0 | (c >> 6));
+                appendByte(out, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendByte(out, 0xF0 | (codePoint >> 18));
+                appendByte(out, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendByte(out, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendByte(out, 0x80 | (codePoint & 0x3F));
+            } else {
+                // Lone surrogates are not encodable; substitute U+FFFD like String.getBytes(UTF_8)
+                char encodable = Character.isSurrogate(c) ? '\uFFFD' : c;
+                appendByte(out, 0xE0 | (encodable >> 12));
+                appendByte(out, 0x80 | ((encodable >> 6) & 0x3F));
+                appendByte(out, 0x80 | (encodable & 0x3F));
+            }
+        }
+    }
+
+    private static void appendByte(StringBuilder out, int b) {
+        out.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+    }
+
+    /**
+     * Builds a lookup table of the RFC 3986 unreserved characters plus {@code extra}.
+     */
+    private static boolean[] allowedChars(String extra) {
+        boolean[] table = new boolean[128];
+        for (char c = 'a'; c <= 'z'; c++) {
+            table[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            table[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = true;
+        }
+        table['-'] = true;
+        table['.'] = true;
+        table['_'] = true;
+        table['~'] = true;
+        for (int i = 0; i < extra.length(); i++) {
+            table[extra.charAt(i)] = true;
+        }
+        return table;
+    }
+}
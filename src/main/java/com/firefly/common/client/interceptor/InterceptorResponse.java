@@ -22,6 +22,14 @@ import java.util.Map;
  * Represents a response in the interceptor chain.
  */
 public interface InterceptorResponse {
+
+    /**
+     * Attribute holding the {@link java.lang.reflect.Type} the body was decoded to, when
+     * known. Lets interceptors that serialize responses, such as an off-heap cache,
+     * restore generic bodies like {@code List<User>} with their element type.
+     */
+    String BODY_TYPE_ATTRIBUTE = "firefly.client.body-type";
+
     /**
      * Gets the response body.
      */
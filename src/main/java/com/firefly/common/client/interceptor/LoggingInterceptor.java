@@ -16,6 +16,8 @@
 
 package com.firefly.common.client.interceptor;
 
+import com.firefly.common.client.id.RequestIdGenerator;
+import com.firefly.common.client.id.RequestIdGenerators;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
@@ -45,6 +47,8 @@ import java.util.Set;
 @Slf4j
 public class LoggingInterceptor implements ServiceClientInterceptor {
 
+    private static final String REQUEST_ID_HEADER = "X-Request-ID";
+
     private final LogLevel logLevel;
     private final boolean logHeaders;
     private final boolean logBody;
@@ -52,6 +56,7 @@ public class LoggingInterceptor implements ServiceClientInterceptor {
     private final Duration slowRequestThreshold;
     private final Set<String> sensitiveHeaders;
     private final Set<String> excludedServices;
+    private final RequestIdGenerator requestIdGenerator;
 
     private LoggingInterceptor(Builder builder) {
         this.logLevel = builder.logLevel;
@@ -61,6 +66,9 @@ public class LoggingInterceptor implements ServiceClientInterceptor {
         this.slowRequestThreshold = builder.slowRequestThreshold;
         this.sensitiveHeaders = Set.copyOf(builder.sensitiveHeaders);
         this.excludedServices = Set.copyOf(builder.excludedServices);
+        this.requestIdGenerator = builder.requestIdGenerator != null
+            ? builder.requestIdGenerator
+            : RequestIdGenerators.shared();
     }
 
     @Override
@@ -70,11 +78,16 @@ public class LoggingInterceptor implements ServiceClientInterceptor {
         }
 
         long startTime = System.currentTimeMillis();
-        String requestId = generateRequestId();
+        String requestId = resolveRequestId(request);
 
         logRequest(request, requestId);
 
-        return chain.proceed(request)
+        // Send the logged ID, so that client and service logs can be correlated
+        InterceptorRequest tracked = request.getHeaders().containsKey(REQUEST_ID_HEADER)
+            ? request
+            : request.withHeader(REQUEST_ID_HEADER, requestId);
+
+        return chain.proceed(tracked)
             .doOnSuccess(response -> logResponse(request, response, requestId, startTime))
             .doOnError(error -> logError(request, error, requestId, startTime))
             .doFinally(signal -> {
@@ -201,8 +214,10 @@ public class LoggingInterceptor implements ServiceClientInterceptor {
         return bodyStr;
     }
 
-    private String generateRequestId() {
-        return "REQ-" + System.currentTimeMillis() + "-" + Thread.currentThread().getId();
+    private String resolveRequestId(InterceptorRequest request) {
+        // Log under the ID sent to the service when the client has already assigned one
+        String requestId = request.getHeaders().get(REQUEST_ID_HEADER);
+        return requestId != null ? requestId : requestIdGenerator.generate();
     }
 
     public static Builder builder() {
@@ -223,6 +238,7 @@ public class LoggingInterceptor implements ServiceClientInterceptor {
             "authorization", "x-api-key", "cookie", "set-cookie", "x-auth-token"
         );
         private java.util.Set<String> excludedServices = java.util.Set.of();
+        private RequestIdGenerator requestIdGenerator;
 
         public Builder logLevel(LogLevel logLevel) {
             this.logLevel = logLevel;
@@ -259,6 +275,11 @@ public class LoggingInterceptor implements ServiceClientInterceptor {
             return this;
         }
 
+        public Builder requestIdGenerator(RequestIdGenerator requestIdGenerator) {
+            this.requestIdGenerator = requestIdGenerator;
+            return this;
+        }
+
         public LoggingInterceptor build() {
             return new LoggingInterceptor(this);
         }
@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
 
 /**
  * Advanced performance metrics collector for ServiceClient.
@@ -67,6 +68,7 @@ public class PerformanceMetricsCollector {
     
     private final MeterRegistry meterRegistry;
     private final Map<String, ServicePerformanceMetrics> metricsMap;
+    private final Map<String, ConnectionPoolGauges> connectionPools = new ConcurrentHashMap<>();
     private final Instant startTime;
 
     /**
@@ -196,6 +198,8 @@ public class PerformanceMetricsCollector {
     /**
      * Records connection pool usage.
      *
+     * <p>The gauges keep the recorded values until the next call for the same service.
+     *
      * @param serviceName the service name
      * @param activeConnections number of active connections
      * @param idleConnections number of idle connections
@@ -203,20 +207,30 @@ public class PerformanceMetricsCollector {
      */
     public void recordConnectionPool(String serviceName, int activeConnections, 
                                     int idleConnections, int maxConnections) {
-        Gauge.builder(METRIC_PREFIX + ".connection.pool.active", () -> activeConnections)
-            .tag("service", serviceName)
-            .description("Active connections in pool")
-            .register(meterRegistry);
-        
-        Gauge.builder(METRIC_PREFIX + ".connection.pool.idle", () -> idleConnections)
-            .tag("service", serviceName)
-            .description("Idle connections in pool")
-            .register(meterRegistry);
-        
-        Gauge.builder(METRIC_PREFIX + ".connection.pool.max", () -> maxConnections)
-            .tag("service", serviceName)
-            .description("Maximum connections in pool")
-            .register(meterRegistry);
+        recordConnectionPool(serviceName, () -> activeConnections, () -> idleConnections, () -> 0, maxConnections);
+    }
+
+    /**
+     * Binds the connection pool gauges of a service to a live pool.
+     *
+     * <p>The suppliers are read whenever the registry is scraped, replacing the values or
+     * suppliers recorded before for the same service.
+     *
+     * @param serviceName the service name
+     * @param activeConnections supplies the number of active connections
+     * @param idleConnections supplies the number of idle connections
+     * @param pendingAcquires supplies the number of requests waiting for a connection
+     * @param maxConnections maximum connections
+     */
+    public void recordConnectionPool(String serviceName, IntSupplier activeConnections,
+                                     IntSupplier idleConnections, IntSupplier pendingAcquires,
+                                     int maxConnections) {
+        ConnectionPoolGauges gauges = connectionPools.computeIfAbsent(serviceName,
+            name -> new ConnectionPoolGauges(name, meterRegistry));
+        gauges.active = activeConnections;
+        gauges.idle = idleConnections;
+        gauges.pending = pendingAcquires;
+        gauges.max = maxConnections;
     }
 
     /**
@@ -341,6 +355,38 @@ public class PerformanceMetricsCollector {
         }
     }
 
+    /**
+     * Connection pool gauges of a service, registered once and reading the bound values.
+     */
+    private static class ConnectionPoolGauges {
+        private volatile IntSupplier active = () -> 0;
+        private volatile IntSupplier idle = () -> 0;
+        private volatile IntSupplier pending = () -> 0;
+        private volatile int max;
+
+        ConnectionPoolGauges(String serviceName, MeterRegistry meterRegistry) {
+            Gauge.builder(METRIC_PREFIX + ".connection.pool.active", this, gauges -> gauges.active.getAsInt())
+                .tag("service", serviceName)
+                .description("Active connections in pool")
+                .register(meterRegistry);
+
+            Gauge.builder(METRIC_PREFIX + ".connection.pool.idle", this, gauges -> gauges.idle.getAsInt())
+                .tag("service", serviceName)
+                .description("Idle connections in pool")
+                .register(meterRegistry);
+
+            Gauge.builder(METRIC_PREFIX + ".connection.pool.pending", this, gauges -> gauges.pending.getAsInt())
+                .tag("service", serviceName)
+                .description("Requests waiting for a connection")
+                .register(meterRegistry);
+
+            Gauge.builder(METRIC_PREFIX + ".connection.pool.max", this, gauges -> gauges.max)
+                .tag("service", serviceName)
+                .description("Maximum connections in pool")
+                .register(meterRegistry);
+        }
+    }
+
     /**
      * Performance metrics summary.
      */
@@ -17,14 +17,22 @@
 package com.firefly.common.client.metrics;
 
 import com.firefly.common.client.ClientType;
+import com.firefly.common.resilience.CircuitBreakerEvent;
+import com.firefly.common.resilience.CircuitBreakerManager;
+import com.firefly.common.resilience.CircuitBreakerManager.EnhancedCircuitBreaker;
 import com.firefly.common.resilience.CircuitBreakerState;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Gauge;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -36,6 +44,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  *   <li>Request counters (total, success, failure)</li>
  *   <li>Request duration timers</li>
  *   <li>Circuit breaker state gauges</li>
+ *   <li>Per-breaker gauges and counters of bound circuit breaker managers</li>
  *   <li>Error rate tracking</li>
  * </ul>
  *
@@ -49,6 +58,7 @@ public class ServiceClientMetrics {
     
     private final MeterRegistry meterRegistry;
     private final ConcurrentHashMap<String, ServiceMetrics> serviceMetricsMap;
+    private final ConcurrentHashMap<EnhancedCircuitBreaker, List<Meter>> circuitBreakerMeters = new ConcurrentHashMap<>();
     
     /**
      * Creates a new ServiceClientMetrics instance.
@@ -145,6 +155,84 @@ public class ServiceClientMetrics {
         log.info("Circuit breaker transition for service '{}': {} -> {}", serviceName, fromState, toState);
     }
     
+    /**
+     * Exports the circuit breakers of a manager.
+     *
+     * <p>The meters of a breaker are registered once, when it is created, and read its
+     * counters and sliding window when scraped, so that no {@code CircuitBreakerMetrics}
+     * snapshot is allocated per scrape. They are removed when the breaker is evicted.
+     * State transitions of service breakers are recorded through
+     * {@link #recordCircuitBreakerTransition}.
+     *
+     * @param circuitBreakerManager the circuit breaker manager
+     * @return the subscription to the events of the manager
+     */
+    public Disposable bindCircuitBreakers(CircuitBreakerManager circuitBreakerManager) {
+        Disposable subscription = circuitBreakerManager.events().subscribe(this::onCircuitBreakerEvent);
+        // Breakers created before the subscription
+        circuitBreakerManager.getCircuitBreakers().forEach(this::registerCircuitBreakerMeters);
+        return subscription;
+    }
+
+    private void onCircuitBreakerEvent(CircuitBreakerEvent event) {
+        switch (event.type()) {
+            case CREATED -> registerCircuitBreakerMeters(event.circuitBreaker());
+            case EVICTED -> removeCircuitBreakerMeters(event.circuitBreaker());
+            case STATE_TRANSITION -> {
+                // Endpoint and instance breakers would overwrite the state of their service
+                if (event.circuitBreakerName().equals(event.serviceName())) {
+                    recordCircuitBreakerTransition(event.serviceName(), event.fromState(), event.state());
+                }
+            }
+            default -> {
+                // Rejected, slow and failed calls are counted by the breaker itself
+            }
+        }
+    }
+
+    private void registerCircuitBreakerMeters(EnhancedCircuitBreaker circuitBreaker) {
+        circuitBreakerMeters.computeIfAbsent(circuitBreaker, breaker -> {
+            Tags tags = Tags.of("circuit.breaker", breaker.getName(), "service", breaker.getServiceName());
+            String prefix = METRIC_PREFIX + ".circuit.breaker";
+            return List.of(
+                Gauge.builder(prefix + ".current.state", breaker, b -> b.getState().ordinal())
+                    .tags(tags)
+                    .description("Circuit breaker state (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                    .register(meterRegistry),
+                Gauge.builder(prefix + ".failure.rate", breaker, EnhancedCircuitBreaker::getFailureRate)
+                    .tags(tags)
+                    .description("Failure rate of the sliding window, in percent")
+                    .register(meterRegistry),
+                Gauge.builder(prefix + ".slow.call.rate", breaker, EnhancedCircuitBreaker::getSlowCallRate)
+                    .tags(tags)
+                    .description("Slow call rate of the sliding window, in percent")
+                    .register(meterRegistry),
+                FunctionCounter.builder(prefix + ".calls", breaker, EnhancedCircuitBreaker::getSuccessfulCalls)
+                    .tags(tags.and("outcome", "successful"))
+                    .description("Calls through the circuit breaker")
+                    .register(meterRegistry),
+                FunctionCounter.builder(prefix + ".calls", breaker, EnhancedCircuitBreaker::getFailedCalls)
+                    .tags(tags.and("outcome", "failed"))
+                    .description("Calls through the circuit breaker")
+                    .register(meterRegistry),
+                FunctionCounter.builder(prefix + ".calls", breaker, EnhancedCircuitBreaker::getRejectedCalls)
+                    .tags(tags.and("outcome", "rejected"))
+                    .description("Calls through the circuit breaker")
+                    .register(meterRegistry),
+                FunctionCounter.builder(prefix + ".slow.calls", breaker, EnhancedCircuitBreaker::getSlowCalls)
+                    .tags(tags)
+                    .description("Calls slower than the slow call duration threshold")
+                    .register(meterRegistry));
+        });
+    }
+
+    private void removeCircuitBreakerMeters(EnhancedCircuitBreaker circuitBreaker) {
+        List<Meter> meters = circuitBreakerMeters.remove(circuitBreaker);
+        if (meters != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
     /**
      * Gets or creates metrics for a service.
      */
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.pool;
+
+import lombok.Builder;
+import lombok.Data;
+import reactor.netty.http.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the connection pool of a REST client.
+ *
+ * <p>Each REST client built without a custom WebClient or ConnectionProvider gets its own
+ * pool, sized by this configuration, so that a slow service cannot take the connections
+ * of every other service. The limits apply per remote host.
+ *
+ * <p>With {@link HttpProtocolVersion#H2} or {@link HttpProtocolVersion#H2C}, requests are
+ * multiplexed: {@code maxConnections} caps the TCP connections and each carries up to
+ * {@code maxConcurrentStreams} requests, so a burst of concurrent calls shares a few
+ * connections instead of opening one per call.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+public class ConnectionPoolConfig {
+
+    /**
+     * Maximum number of connections per remote host.
+     * Default: 100
+     */
+    @Builder.Default
+    private int maxConnections = 100;
+
+    /**
+     * HTTP protocol of the connections.
+     * Default: HTTP/1.1
+     */
+    @Builder.Default
+    private HttpProtocolVersion protocol = HttpProtocolVersion.HTTP_1_1;
+
+    /**
+     * Maximum number of concurrent requests per HTTP/2 connection. The lower of this and
+     * the limit announced by the server applies.
+     * Default: 100 streams
+     */
+    @Builder.Default
+    private int maxConcurrentStreams = 100;
+
+    /**
+     * HTTP/2 flow-control window, in bytes, announced for each stream. Larger windows let
+     * big responses stream without waiting for window updates.
+     * Default: 65535 bytes (protocol default)
+     */
+    private Integer initialWindowSize;
+
+    /**
+     * Maximum number of requests waiting for a connection, or -1 for no limit.
+     * Default: 2 × maxConnections, times maxConcurrentStreams for HTTP/2
+     */
+    private Integer pendingAcquireMaxCount;
+
+    /**
+     * Maximum time a request waits for a connection.
+     * Default: 10 seconds
+     */
+    @Builder.Default
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Time after which an idle connection is closed.
+     * Default: 5 minutes
+     */
+    @Builder.Default
+    private Duration maxIdleTime = Duration.ofMinutes(5);
+
+    /**
+     * Time after which a connection is closed once released.
+     * Default: 30 minutes
+     */
+    @Builder.Default
+    private Duration maxLifeTime = Duration.ofMinutes(30);
+
+    /**
+     * Interval at which idle and expired connections are evicted in the background.
+     * Default: 2 minutes
+     */
+    @Builder.Default
+    private Duration evictionInterval = Duration.ofMinutes(2);
+
+    /**
+     * Creates a default configuration.
+     */
+    public static ConnectionPoolConfig defaultConfig() {
+        return ConnectionPoolConfig.builder().build();
+    }
+
+    /**
+     * Creates a connection provider with this configuration.
+     *
+     * @param name the pool name, used in Reactor Netty logs and metrics
+     * @param meterRegistrar receives the pool of each remote host, may be {@code null}
+     * @return a new connection provider, to be disposed by the caller
+     */
+    public ConnectionProvider newConnectionProvider(String name, ConnectionProvider.MeterRegistrar meterRegistrar) {
+        validate();
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(name)
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount != null ? pendingAcquireMaxCount : defaultPendingAcquireMaxCount())
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .maxLifeTime(maxLifeTime)
+            .evictInBackground(evictionInterval);
+
+        if (protocol.isMultiplexed()) {
+            // Replaces the HTTP/1.1 connection limit, keep it after maxConnections(...)
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                .maxConnections(maxConnections)
+                .minConnections(1)
+                .maxConcurrentStreams(maxConcurrentStreams)
+                .build());
+        }
+
+        if (meterRegistrar != null) {
+            builder.metrics(true, () -> meterRegistrar);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns how many requests the pool can have in flight per remote host without queueing:
+     * {@code maxConnections}, times {@code maxConcurrentStreams} for HTTP/2.
+     *
+     * @return the number of concurrent requests the pool serves without waiting
+     */
+    public int maxInFlightRequests() {
+        long slots = protocol.isMultiplexed() ? (long) maxConnections * maxConcurrentStreams : maxConnections;
+        return (int) Math.min(Integer.MAX_VALUE, slots);
+    }
+
+    private int defaultPendingAcquireMaxCount() {
+        // Until its connection is established, every stream of an HTTP/2 connection waits
+        return (int) Math.min(Integer.MAX_VALUE, 2L * maxInFlightRequests());
+    }
+
+    /**
+     * Applies the protocol and HTTP/2 settings to an HTTP client.
+     *
+     * @param httpClient the HTTP client
+     * @return the configured HTTP client
+     */
+    public HttpClient configure(HttpClient httpClient) {
+        HttpClient configured = httpClient.protocol(protocol.toHttpProtocols());
+        if (protocol.isMultiplexed() && initialWindowSize != null) {
+            configured = configured.http2Settings(settings -> settings.initialWindowSize(initialWindowSize));
+        }
+        return configured;
+    }
+
+    /**
+     * Validates the configuration parameters.
+     */
+    public void validate() {
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("Max connections must be positive");
+        }
+
+        if (pendingAcquireMaxCount != null && pendingAcquireMaxCount != -1 && pendingAcquireMaxCount <= 0) {
+            throw new IllegalArgumentException("Pending acquire max count must be positive or -1");
+        }
+
+        if (protocol == null) {
+            throw new IllegalArgumentException("Protocol cannot be null");
+        }
+
+        if (maxConcurrentStreams <= 0) {
+            throw new IllegalArgumentException("Max concurrent streams must be positive");
+        }
+
+        if (initialWindowSize != null && initialWindowSize <= 0) {
+            throw new IllegalArgumentException("Initial window size must be positive");
+        }
+
+        if (pendingAcquireTimeout == null || pendingAcquireTimeout.isNegative() || pendingAcquireTimeout.isZero()) {
+            throw new IllegalArgumentException("Pending acquire timeout must be positive");
+        }
+    }
+}
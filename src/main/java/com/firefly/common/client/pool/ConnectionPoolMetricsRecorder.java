@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.pool;
+
+import com.firefly.common.client.metrics.PerformanceMetricsCollector;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Tracks the connection pools of a REST client for export through
+ * {@link PerformanceMetricsCollector#recordConnectionPool(String, IntSupplier, IntSupplier, IntSupplier, int)}.
+ *
+ * <p>Reactor Netty keeps one pool per remote host; this registrar collects them as they
+ * are created and reports the sum over all of them, read live from the pools.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public class ConnectionPoolMetricsRecorder implements ConnectionProvider.MeterRegistrar {
+
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(id + remoteAddress, metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(id + remoteAddress);
+    }
+
+    /**
+     * Returns the number of connections currently in use.
+     */
+    public int activeConnections() {
+        int total = 0;
+        for (ConnectionPoolMetrics pool : pools.values()) {
+            total += pool.acquiredSize();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of open connections waiting in the pool.
+     */
+    public int idleConnections() {
+        int total = 0;
+        for (ConnectionPoolMetrics pool : pools.values()) {
+            total += pool.idleSize();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of requests waiting for a connection.
+     */
+    public int pendingAcquires() {
+        int total = 0;
+        for (ConnectionPoolMetrics pool : pools.values()) {
+            total += pool.pendingAcquireSize();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.pool;
+
+import reactor.netty.http.HttpProtocol;
+
+/**
+ * HTTP protocol spoken by a REST client.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public enum HttpProtocolVersion {
+
+    /**
+     * HTTP/1.1, one in-flight request per connection.
+     */
+    HTTP_1_1(HttpProtocol.HTTP11),
+
+    /**
+     * HTTP/2 over TLS, negotiated through ALPN with fallback to HTTP/1.1.
+     */
+    H2(HttpProtocol.H2, HttpProtocol.HTTP11),
+
+    /**
+     * HTTP/2 over cleartext TCP with prior knowledge, for service meshes and sidecars.
+     */
+    H2C(HttpProtocol.H2C);
+
+    private final HttpProtocol[] protocols;
+
+    HttpProtocolVersion(HttpProtocol... protocols) {
+        this.protocols = protocols;
+    }
+
+    /**
+     * Returns whether requests are multiplexed as streams over shared connections.
+     */
+    public boolean isMultiplexed() {
+        return this != HTTP_1_1;
+    }
+
+    /**
+     * Returns the Reactor Netty protocols to configure on the HTTP client.
+     */
+    public HttpProtocol[] toHttpProtocols() {
+        return protocols.clone();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Executes idempotent requests according to a {@link HedgingPolicy}.
+ *
+ * <p>The first attempt is sent right away and a hedge follows after each delay, up to
+ * {@link HedgingPolicy#getMaxHedges()}, while no attempt has answered. The first
+ * response, successful or empty, wins and cancels the others. An error only ends the
+ * call when no other attempt is still running, so a fast failure is reported at once
+ * instead of being retried by a hedge.
+ *
+ * <p>Hedges are limited by a {@link TokenBudget}: each request earns
+ * {@code budgetPercent / 100} of a hedge and each hedge spends a whole one; hedges without
+ * budget are not sent. An idle period allows a burst of at most
+ * {@value #MAX_BUDGET_HEDGES} hedges.
+ *
+ * <p>With an adaptive delay, the latencies of the last {@value #LATENCY_SAMPLES} attempts
+ * of each endpoint are kept, and their percentile is recomputed every
+ * {@value #PERCENTILE_REFRESH} samples. An attempt cancelled because another one won is
+ * recorded with the time it had run, so that slow replicas still shape the delay.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Slf4j
+public final class HedgingExecutor {
+
+    static final int MAX_BUDGET_HEDGES = 10;
+    static final int LATENCY_SAMPLES = 128;
+    static final int PERCENTILE_REFRESH = 16;
+
+    /**
+     * Upper bound for the endpoints tracked, beyond which endpoints share one window.
+     */
+    private static final int MAX_ENDPOINTS = 1024;
+
+    private final HedgingPolicy policy;
+    private final TokenBudget budget;
+    private final AtomicLong hedgesSent = new AtomicLong();
+    private final ConcurrentHashMap<Object, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final LatencyWindow sharedLatencies = new LatencyWindow();
+
+    /**
+     * Creates an executor for the policy.
+     *
+     * @param policy the hedging policy
+     */
+    public HedgingExecutor(HedgingPolicy policy) {
+        policy.validate();
+        this.policy = policy;
+        this.budget = new TokenBudget(policy.getBudgetPercent(), MAX_BUDGET_HEDGES, false);
+    }
+
+    /**
+     * Executes a request with hedging.
+     *
+     * @param endpoint identifies the endpoint whose latencies determine an adaptive delay
+     * @param attempt creates one attempt of the request, invoked once per attempt
+     * @param <T> the response type
+     * @return the response of the first attempt to answer
+     */
+    public <T> Mono<T> execute(Object endpoint, Supplier<Mono<T>> attempt) {
+        return Mono.defer(() -> {
+            budget.deposit();
+            LatencyWindow window = latencyWindow(endpoint);
+            Duration delay = delay(window);
+
+            AtomicInteger started = new AtomicInteger(1);
+            AtomicInteger failed = new AtomicInteger();
+
+            List<Mono<Signal<T>>> attempts = new ArrayList<>(policy.getMaxHedges() + 1);
+            attempts.add(timed(attempt, window).materialize());
+            for (int hedge = 1; hedge <= policy.getMaxHedges(); hedge++) {
+                attempts.add(Mono.delay(delay.multipliedBy(hedge))
+                    .filter(tick -> spendBudget())
+                    .flatMap(tick -> {
+                        started.incrementAndGet();
+                        log.debug("Sending hedge after {}ms for endpoint {}", delay.toMillis(), endpoint);
+                        return timed(attempt, window).materialize();
+                    }));
+            }
+
+            // The first answer wins; an error only wins once no other attempt is running
+            return Flux.merge(attempts)
+                .filter(signal -> !signal.isOnError() || failed.incrementAndGet() >= started.get())
+                .next()
+                .flatMap(signal -> signal.isOnError()
+                    ? Mono.<T>error(signal.getThrowable())
+                    : Mono.justOrEmpty(signal.get()));
+        });
+    }
+
+    /**
+     * Returns the number of hedges sent so far.
+     */
+    public long getHedgesSent() {
+        return hedgesSent.get();
+    }
+
+    /**
+     * Returns the hedging delay currently used for the endpoint.
+     *
+     * @param endpoint the endpoint
+     * @return the delay
+     */
+    public Duration getDelay(Object endpoint) {
+        return delay(latencyWindow(endpoint));
+    }
+
+    private <T> Mono<T> timed(Supplier<Mono<T>> attempt, LatencyWindow window) {
+        if (window == null) {
+            return Mono.defer(attempt);
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return attempt.get()
+                .doOnSuccess(result -> window.record(System.nanoTime() - start))
+                .doOnCancel(() -> window.record(System.nanoTime() - start));
+        });
+    }
+
+    private Duration delay(LatencyWindow window) {
+        if (window == null) {
+            return policy.getDelay();
+        }
+        long nanos = window.percentile(policy.getDelayPercentile());
+        if (nanos < 0) {
+            return policy.getDelay();
+        }
+        return Duration.ofNanos(Math.max(nanos, policy.getMinDelay().toNanos()));
+    }
+
+    /**
+     * Returns the latency window of the endpoint, or {@code null} for a fixed delay.
+     */
+    private LatencyWindow latencyWindow(Object endpoint) {
+        if (policy.getDelayPercentile() == null) {
+            return null;
+        }
+        LatencyWindow window = latencies.get(endpoint);
+        if (window != null) {
+            return window;
+        }
+        if (latencies.size() >= MAX_ENDPOINTS) {
+            return sharedLatencies;
+        }
+        return latencies.computeIfAbsent(endpoint, key -> new LatencyWindow());
+    }
+
+    private boolean spendBudget() {
+        if (!budget.tryWithdraw()) {
+            log.debug("Hedging budget exhausted, not sending hedge");
+            return false;
+        }
+        hedgesSent.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Ring buffer of the latest latencies of one endpoint, with a cached percentile.
+     */
+    private static final class LatencyWindow {
+
+        private final AtomicLongArray samples = new AtomicLongArray(LATENCY_SAMPLES);
+        private final AtomicLong count = new AtomicLong();
+        private volatile long cachedAt = -1;
+        private volatile long cachedPercentile = -1;
+
+        void record(long nanos) {
+            long index = count.getAndIncrement();
+            samples.set((int) (index % LATENCY_SAMPLES), nanos);
+        }
+
+        /**
+         * Returns the percentile in nanoseconds, or -1 while the window is not full.
+         */
+        long percentile(double percentile) {
+            long recorded = count.get();
+            if (recorded < LATENCY_SAMPLES) {
+                return -1;
+            }
+            if (recorded - cachedAt < PERCENTILE_REFRESH) {
+                return cachedPercentile;
+            }
+
+            long[] sorted = new long[LATENCY_SAMPLES];
+            for (int i = 0; i < LATENCY_SAMPLES; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100 * LATENCY_SAMPLES) - 1;
+            long value = sorted[Math.max(0, Math.min(LATENCY_SAMPLES - 1, rank))];
+
+            // Racing threads compute from nearly the same samples, the last write wins
+            cachedPercentile = value;
+            cachedAt = recorded;
+            return value;
+        }
+    }
+}
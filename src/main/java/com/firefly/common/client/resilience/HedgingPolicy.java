@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.resilience;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration for hedging idempotent requests.
+ *
+ * <p>A hedged request that has not answered within the hedging delay is sent again; the
+ * first response wins and the other attempts are cancelled. This cuts the tail latency
+ * caused by a single slow replica. The budget limits hedges to a share of the traffic,
+ * so that hedging cannot amplify an overload.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * // Hedge after the observed p95 of each endpoint, at most 5% extra requests
+ * HedgingPolicy policy = HedgingPolicy.builder()
+ *     .delayPercentile(95.0)
+ *     .delay(Duration.ofMillis(100))
+ *     .maxHedges(1)
+ *     .budgetPercent(5.0)
+ *     .build();
+ * }</pre>
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+public class HedgingPolicy {
+
+    /**
+     * Delay after which a hedge is sent. With a {@code delayPercentile}, the delay used
+     * until enough latencies of an endpoint have been observed.
+     * Default: 50ms
+     */
+    @Builder.Default
+    private Duration delay = Duration.ofMillis(50);
+
+    /**
+     * Percentile of the observed latencies of an endpoint used as its hedging delay,
+     * e.g. {@code 95.0}. {@code null} keeps the delay fixed.
+     * Default: none
+     */
+    private Double delayPercentile;
+
+    /**
+     * Lower bound of an adaptive delay, so that a fast endpoint is not hedged right away.
+     * Default: 1ms
+     */
+    @Builder.Default
+    private Duration minDelay = Duration.ofMillis(1);
+
+    /**
+     * Maximum number of hedges per request, sent one delay apart.
+     * Default: 1
+     */
+    @Builder.Default
+    private int maxHedges = 1;
+
+    /**
+     * Maximum hedges as a percentage of requests. Each request earns this share of a
+     * hedge, and a hedge is only sent if a whole one has been earned.
+     * Default: 10
+     */
+    @Builder.Default
+    private double budgetPercent = 10.0;
+
+    /**
+     * Creates a policy hedging after a fixed delay.
+     *
+     * @param delay the hedging delay
+     * @return the policy
+     */
+    public static HedgingPolicy fixed(Duration delay) {
+        return HedgingPolicy.builder()
+            .delay(delay)
+            .build();
+    }
+
+    /**
+     * Creates a policy hedging after a percentile of the observed latency of each endpoint.
+     *
+     * @param percentile the percentile, e.g. {@code 95.0}
+     * @param initialDelay the delay until enough latencies have been observed
+     * @return the policy
+     */
+    public static HedgingPolicy adaptive(double percentile, Duration initialDelay) {
+        return HedgingPolicy.builder()
+            .delayPercentile(percentile)
+            .delay(initialDelay)
+            .build();
+    }
+
+    /**
+     * Validates the policy.
+     */
+    public void validate() {
+        if (delay == null || delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("Hedging delay must be positive");
+        }
+
+        if (delayPercentile != null && (delayPercentile <= 0 || delayPercentile >= 100)) {
+            throw new IllegalArgumentException("Hedging delay percentile must be between 0 and 100");
+        }
+
+        if (minDelay == null || minDelay.isNegative()) {
+            throw new IllegalArgumentException("Minimum hedging delay cannot be negative");
+        }
+
+        if (maxHedges <= 0) {
+            throw new IllegalArgumentException("Max hedges must be positive");
+        }
+
+        if (budgetPercent <= 0 || budgetPercent > 100) {
+            throw new IllegalArgumentException("Hedging budget must be between 0 and 100 percent");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.resilience;
+
+import com.firefly.common.client.deadline.Deadline;
+import com.firefly.common.client.exception.CircuitBreakerOpenException;
+import com.firefly.common.client.exception.ErrorCategory;
+import com.firefly.common.client.exception.RetryableError;
+import com.firefly.common.client.exception.ServiceClientException;
+import com.firefly.common.client.exception.ServiceRateLimitException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries failed requests according to a {@link RetryPolicy}.
+ *
+ * <p>A {@link ServiceClientException} is retried when its {@link ErrorCategory} points
+ * at the network, the service or its load (network, server, timeout, rate limit and
+ * circuit breaker errors) and it reports itself retryable through {@link RetryableError}.
+ * Other errors are retried when they were caused by an {@link IOException}, i.e. the
+ * connection failed. A {@link CircuitBreakerOpenException} is never retried: the breaker
+ * is protecting the service, and every attempt passes through it anyway.
+ *
+ * <p>With jitter, each delay is drawn between the base delay and three times the previous
+ * one, capped at the maximum delay ("decorrelated jitter"), so that clients failing at the
+ * same moment do not retry in lockstep. A rate limit response's {@code Retry-After} is
+ * used as the minimum delay; if it exceeds {@link RetryPolicy#getMaxRetryAfter()}, the
+ * request is not retried.
+ *
+ * <p>A request is not retried when its {@link Deadline} passes before the retry would be
+ * sent.
+ *
+ * <p>Retries are limited by a {@link TokenBudget} shared by all requests of the executor:
+ * each request earns {@code budgetPercent / 100} of a retry and each retry spends a whole
+ * one. The budget starts full, so that a quiet client can still retry a few errors, and
+ * holds at most {@value #MAX_BUDGET_RETRIES} retries.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Slf4j
+public final class RetryExecutor {
+
+    static final int MAX_BUDGET_RETRIES = 10;
+
+    private final RetryPolicy policy;
+    private final TokenBudget budget;
+    private final AtomicLong retriesSent = new AtomicLong();
+    private final AtomicLong retriesDenied = new AtomicLong();
+
+    /**
+     * Creates an executor for the policy.
+     *
+     * @param policy the retry policy
+     */
+    public RetryExecutor(RetryPolicy policy) {
+        policy.validate();
+        this.policy = policy;
+        this.budget = new TokenBudget(policy.getBudgetPercent(), MAX_BUDGET_RETRIES, true);
+    }
+
+    /**
+     * Executes a request with retries.
+     *
+     * @param attempt the request, subscribed once per attempt
+     * @param idempotent whether the request may safely be sent more than once; other
+     *                   requests are only retried with {@link RetryPolicy#isRetryNonIdempotent()}
+     * @param <T> the response type
+     * @return the response of the first successful attempt, or the last error
+     */
+    public <T> Mono<T> execute(Mono<T> attempt, boolean idempotent) {
+        if (policy.getMaxAttempts() == 1 || (!idempotent && !policy.isRetryNonIdempotent())) {
+            return Mono.defer(() -> {
+                budget.deposit();
+                return attempt;
+            });
+        }
+
+        return Mono.deferContextual(context -> {
+            budget.deposit();
+            Deadline deadline = Deadline.current(context).orElse(null);
+            AtomicLong previousDelay = new AtomicLong(policy.getBaseDelay().toNanos());
+
+            return attempt.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                Throwable failure = signal.failure();
+                Duration delay = retryDelay(failure, signal.totalRetries(), previousDelay, deadline);
+                if (delay == null) {
+                    return Mono.<Long>error(failure);
+                }
+                log.debug("Retrying after {}ms (retry {} of {}): {}",
+                    delay.toMillis(), signal.totalRetries() + 1, policy.getMaxAttempts() - 1, failure.getMessage());
+                return Mono.delay(delay);
+            })));
+        });
+    }
+
+    /**
+     * Returns the number of retries sent so far.
+     */
+    public long getRetriesSent() {
+        return retriesSent.get();
+    }
+
+    /**
+     * Returns the number of retryable errors that were not retried because the budget was
+     * exhausted.
+     */
+    public long getRetriesDenied() {
+        return retriesDenied.get();
+    }
+
+    /**
+     * Returns whether an error is worth retrying.
+     *
+     * @param error the error
+     * @return whether the error is retryable
+     */
+    public static boolean isRetryable(Throwable error) {
+        if (error instanceof CircuitBreakerOpenException) {
+            return false;
+        }
+        if (error instanceof ServiceClientException serviceError) {
+            // Errors caused by the request itself fail again, whatever they report
+            return switch (serviceError.getErrorCategory()) {
+                case NETWORK_ERROR, SERVER_ERROR, TIMEOUT_ERROR, RATE_LIMIT_ERROR, CIRCUIT_BREAKER_ERROR ->
+                    serviceError instanceof RetryableError retryable && retryable.isRetryable();
+                default -> false;
+            };
+        }
+        if (error instanceof RetryableError retryable) {
+            return retryable.isRetryable();
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the delay before the next retry, or {@code null} if the request must not be
+     * retried.
+     */
+    private Duration retryDelay(Throwable error, long retries, AtomicLong previousDelay, Deadline deadline) {
+        if (retries + 1 >= policy.getMaxAttempts() || !isRetryable(error)) {
+            return null;
+        }
+
+        Duration retryAfter = retryAfter(error);
+        if (retryAfter != null && retryAfter.compareTo(policy.getMaxRetryAfter()) > 0) {
+            log.debug("Not retrying, Retry-After of {}s exceeds the maximum of {}s",
+                retryAfter.toSeconds(), policy.getMaxRetryAfter().toSeconds());
+            return null;
+        }
+
+        long backoff = backoff(retries, previousDelay);
+        Duration delay = retryAfter != null && retryAfter.toNanos() > backoff ? retryAfter : Duration.ofNanos(backoff);
+        if (deadline != null && delay.compareTo(deadline.remaining()) >= 0) {
+            log.debug("Not retrying, the deadline passes within the retry delay of {}ms", delay.toMillis());
+            return null;
+        }
+
+        if (!budget.tryWithdraw()) {
+            retriesDenied.incrementAndGet();
+            log.debug("Retry budget exhausted, not retrying: {}", error.getMessage());
+            return null;
+        }
+        retriesSent.incrementAndGet();
+        return delay;
+    }
+
+    private long backoff(long retries, AtomicLong previousDelay) {
+        long base = policy.getBaseDelay().toNanos();
+        long max = policy.getMaxDelay().toNanos();
+
+        long delay;
+        if (policy.isJitter()) {
+            long previous = previousDelay.get();
+            long upper = previous > max / 3 ? max : previous * 3;
+            delay = upper > base ? ThreadLocalRandom.current().nextLong(base, upper + 1) : base;
+        } else {
+            delay = (long) Math.min(max, base * Math.pow(policy.getMultiplier(), retries));
+        }
+        previousDelay.set(delay);
+        return delay;
+    }
+
+    /**
+     * Returns the {@code Retry-After} the service sent with a rate limit response, if any.
+     */
+    private static Duration retryAfter(Throwable error) {
+        if (error instanceof ServiceRateLimitException rateLimit && rateLimit.getRetryAfterSeconds() != null) {
+            return Duration.ofSeconds(rateLimit.getRetryAfterSeconds());
+        }
+        return null;
+    }
+}
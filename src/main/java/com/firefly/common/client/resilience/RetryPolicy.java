@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.resilience;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration for retrying failed requests.
+ *
+ * <p>Only errors classified as retryable through
+ * {@link com.firefly.common.client.exception.RetryableError} are retried, after an
+ * exponential backoff with decorrelated jitter. A {@code Retry-After} sent with a rate
+ * limit response is honoured. The budget limits retries to a share of the traffic, so
+ * that retries cannot turn a partial outage into a retry storm.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * // Up to two retries, starting around 100ms, at most 10% extra requests
+ * RetryPolicy policy = RetryPolicy.builder()
+ *     .maxAttempts(3)
+ *     .baseDelay(Duration.ofMillis(100))
+ *     .maxDelay(Duration.ofSeconds(5))
+ *     .budgetPercent(10.0)
+ *     .build();
+ * }</pre>
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+public class RetryPolicy {
+
+    /**
+     * Maximum number of attempts per request, including the first one.
+     * Default: 3
+     */
+    @Builder.Default
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before the first retry, and the lower bound of every jittered delay.
+     * Default: 100ms
+     */
+    @Builder.Default
+    private Duration baseDelay = Duration.ofMillis(100);
+
+    /**
+     * Upper bound of the backoff delay.
+     * Default: 10s
+     */
+    @Builder.Default
+    private Duration maxDelay = Duration.ofSeconds(10);
+
+    /**
+     * Whether delays are drawn with decorrelated jitter, between the base delay and three
+     * times the previous delay. Without jitter, delays grow by the multiplier.
+     * Default: true
+     */
+    @Builder.Default
+    private boolean jitter = true;
+
+    /**
+     * Growth factor of the delay without jitter.
+     * Default: 2.0
+     */
+    @Builder.Default
+    private double multiplier = 2.0;
+
+    /**
+     * Longest {@code Retry-After} honoured. A rate limited request asked to wait longer
+     * is not retried.
+     * Default: 30s
+     */
+    @Builder.Default
+    private Duration maxRetryAfter = Duration.ofSeconds(30);
+
+    /**
+     * Maximum retries as a percentage of requests. Each request earns this share of a
+     * retry, and a retry is only sent if a whole one has been earned.
+     * Default: 10
+     */
+    @Builder.Default
+    private double budgetPercent = 10.0;
+
+    /**
+     * Whether POST and PATCH requests are retried as well. They are not idempotent, so a
+     * retry may repeat an operation the service already performed.
+     * Default: false
+     */
+    @Builder.Default
+    private boolean retryNonIdempotent = false;
+
+    /**
+     * Creates a policy with the defaults and the given number of attempts.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @return the policy
+     */
+    public static RetryPolicy ofAttempts(int maxAttempts) {
+        return RetryPolicy.builder()
+            .maxAttempts(maxAttempts)
+            .build();
+    }
+
+    /**
+     * Validates the policy.
+     */
+    public void validate() {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Retry max attempts must be positive");
+        }
+
+        if (baseDelay == null || baseDelay.isNegative() || baseDelay.isZero()) {
+            throw new IllegalArgumentException("Retry base delay must be positive");
+        }
+
+        if (maxDelay == null || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Retry max delay must not be shorter than the base delay");
+        }
+
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("Retry backoff multiplier must be >= 1.0");
+        }
+
+        if (maxRetryAfter == null || maxRetryAfter.isNegative()) {
+            throw new IllegalArgumentException("Max Retry-After cannot be negative");
+        }
+
+        if (budgetPercent <= 0 || budgetPercent > 100) {
+            throw new IllegalArgumentException("Retry budget must be between 0 and 100 percent");
+        }
+    }
+}
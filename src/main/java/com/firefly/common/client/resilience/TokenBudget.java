@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that lets extra attempts, such as retries or hedges, be at most a fraction
+ * of the requests.
+ *
+ * <p>Each request deposits {@code percent / 100} of a token and each extra attempt
+ * withdraws a whole one. The balance is capped at {@code capacity} tokens, so an idle
+ * period allows a burst of at most that many extra attempts. Tokens are kept in
+ * thousandths and updated with a CAS loop.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+final class TokenBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * Creates a budget.
+     *
+     * @param percent the extra attempts allowed per 100 requests
+     * @param capacity the maximum balance, in tokens
+     * @param initiallyFull whether the budget starts at its capacity rather than empty
+     */
+    TokenBudget(double percent, int capacity, boolean initiallyFull) {
+        this.deposit = Math.max(1, Math.round(percent / 100 * TOKEN));
+        this.capacity = capacity * TOKEN;
+        this.balance = new AtomicLong(initiallyFull ? this.capacity : 0);
+    }
+
+    /**
+     * Records a request.
+     */
+    void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /**
+     * Withdraws a token for an extra attempt.
+     *
+     * @return whether the attempt may be made
+     */
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * Returns the whole tokens currently available.
+     */
+    long available() {
+        return balance.get() / TOKEN;
+    }
+}
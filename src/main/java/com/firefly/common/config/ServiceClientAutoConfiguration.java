@@ -16,22 +16,36 @@
 
 package com.firefly.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.firefly.common.client.ServiceClient;
 import com.firefly.common.client.builder.GrpcClientBuilder;
 import com.firefly.common.client.builder.RestClientBuilder;
+import com.firefly.common.client.deadline.DeadlineWebFilter;
+import com.firefly.common.client.id.RequestIdGenerator;
+import com.firefly.common.client.id.RequestIdGenerators;
+import com.firefly.common.client.metrics.PerformanceMetricsCollector;
 import com.firefly.common.client.metrics.ServiceClientMetrics;
+import com.firefly.common.client.pool.ConnectionPoolConfig;
+import com.firefly.common.client.resilience.RetryPolicy;
 import com.firefly.common.resilience.CircuitBreakerConfig;
 import com.firefly.common.resilience.CircuitBreakerManager;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
@@ -71,7 +85,7 @@ public class ServiceClientAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public WebClient.Builder webClientBuilder() {
+    public WebClient.Builder webClientBuilder(ObjectProvider<ObjectMapper> objectMapper) {
         log.info("Configuring enhanced WebClient builder for REST service clients");
 
         ServiceClientProperties.Rest restConfig = properties.getRest();
@@ -99,6 +113,11 @@ public class ServiceClientAutoConfiguration {
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> {
                     configurer.defaultCodecs().maxInMemorySize(restConfig.getMaxInMemorySize());
+                    // Share the application's ObjectMapper with the JSON codecs when there is one
+                    objectMapper.ifAvailable(mapper -> {
+                        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
+                        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper));
+                    });
                 });
 
         // Add default headers
@@ -133,6 +152,7 @@ public class ServiceClientAutoConfiguration {
         return CircuitBreakerConfig.builder()
             .failureRateThreshold(circuitBreakerProps.getFailureRateThreshold())
             .minimumNumberOfCalls(circuitBreakerProps.getMinimumNumberOfCalls())
+            .slidingWindowType(circuitBreakerProps.getSlidingWindowType())
             .slidingWindowSize(circuitBreakerProps.getSlidingWindowSize())
             .waitDurationInOpenState(circuitBreakerProps.getWaitDurationInOpenState())
             .permittedNumberOfCallsInHalfOpenState(circuitBreakerProps.getPermittedNumberOfCallsInHalfOpenState())
@@ -141,6 +161,8 @@ public class ServiceClientAutoConfiguration {
             .slowCallDurationThreshold(circuitBreakerProps.getSlowCallDurationThreshold())
             .slowCallRateThreshold(circuitBreakerProps.getSlowCallRateThreshold())
             .automaticTransitionFromOpenToHalfOpenEnabled(circuitBreakerProps.isAutomaticTransitionFromOpenToHalfOpenEnabled())
+            .maxScopedCircuitBreakers(circuitBreakerProps.getMaxScopedCircuitBreakers())
+            .scopedCircuitBreakerIdleTimeout(circuitBreakerProps.getScopedCircuitBreakerIdleTimeout())
             .build();
     }
 
@@ -154,15 +176,51 @@ public class ServiceClientAutoConfiguration {
         return new CircuitBreakerManager(config);
     }
 
+    /**
+     * Creates the request ID generator configured under {@code firefly.service-client.request-id}.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RequestIdGenerator requestIdGenerator(ObjectProvider<Tracer> tracer) {
+        var requestIdProps = properties.getRequestId();
+        log.info("Configuring {} request ID generator", requestIdProps.getStrategy());
+
+        return createRequestIdGenerator(requestIdProps.getStrategy(), requestIdProps.getFallbackStrategy(),
+            tracer.getIfAvailable());
+    }
+
+    /**
+     * Shares the request ID generator with clients built outside of Spring while this
+     * context is open.
+     */
+    @Bean
+    public SharedRequestIdGeneratorRegistrar sharedRequestIdGeneratorRegistrar(RequestIdGenerator requestIdGenerator) {
+        return new SharedRequestIdGeneratorRegistrar(requestIdGenerator);
+    }
+
     /**
      * Creates a default REST client builder if none is provided.
      */
     @Bean
     @ConditionalOnMissingBean
-    public RestClientBuilder restClientBuilder(CircuitBreakerManager circuitBreakerManager) {
+    public RestClientBuilder restClientBuilder(RestClientBuilderFactory restClientBuilderFactory) {
         log.info("Configuring default REST client builder with enhanced circuit breaker");
-        return new RestClientBuilder("default")
-            .circuitBreakerManager(circuitBreakerManager);
+        return restClientBuilderFactory.create("default");
+    }
+
+    /**
+     * Creates a default REST client builder factory if none is provided.
+     * Builders created by it get the connection pool configured for their service.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RestClientBuilderFactory restClientBuilderFactory(CircuitBreakerManager circuitBreakerManager,
+                                                             ObjectProvider<ObjectMapper> objectMapper,
+                                                             RequestIdGenerator requestIdGenerator,
+                                                             ObjectProvider<PerformanceMetricsCollector> metricsCollector) {
+        log.info("Configuring REST client builder factory with per-service connection pools");
+        return new RestClientBuilderFactory(properties.getRest(), properties.getRetry(), circuitBreakerManager,
+            objectMapper.getIfAvailable(), requestIdGenerator, metricsCollector.getIfAvailable());
     }
 
     /**
@@ -171,15 +229,33 @@ public class ServiceClientAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean(name = "grpcClientBuilderFactory")
-    public GrpcClientBuilderFactory grpcClientBuilderFactory(CircuitBreakerManager circuitBreakerManager) {
+    public GrpcClientBuilderFactory grpcClientBuilderFactory(CircuitBreakerManager circuitBreakerManager,
+                                                             RequestIdGenerator requestIdGenerator) {
         log.info("Configuring gRPC client builder factory with enhanced circuit breaker");
-        return new GrpcClientBuilderFactory(circuitBreakerManager);
+        return new GrpcClientBuilderFactory(circuitBreakerManager, requestIdGenerator);
+    }
+
+    /**
+     * Continues the deadline sent by callers in the {@code X-Request-Timeout} header, so
+     * that the service clients used while handling a request share the caller's budget.
+     *
+     * @return the DeadlineWebFilter bean
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "firefly.service-client.deadline", name = "propagation-enabled", havingValue = "true", matchIfMissing = true)
+    public DeadlineWebFilter deadlineWebFilter() {
+        log.info("Configuring deadline propagation for incoming requests");
+        return new DeadlineWebFilter(properties.getDeadline().getDefaultTimeout());
     }
 
     /**
-     * Configures ServiceClient metrics integration with Micrometer.
+     * Configures ServiceClient metrics integration with Micrometer, exporting the circuit
+     * breakers of the circuit breaker manager.
      *
      * @param meterRegistry the Micrometer meter registry
+     * @param circuitBreakerManager the circuit breaker manager, if any
      * @return the ServiceClientMetrics bean
      */
     @Bean
@@ -187,9 +263,166 @@ public class ServiceClientAutoConfiguration {
     @ConditionalOnBean(MeterRegistry.class)
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "firefly.service-client.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public ServiceClientMetrics serviceClientMetrics(MeterRegistry meterRegistry) {
+    public ServiceClientMetrics serviceClientMetrics(MeterRegistry meterRegistry,
+                                                     ObjectProvider<CircuitBreakerManager> circuitBreakerManager) {
         log.info("Configuring ServiceClient metrics integration with Micrometer");
-        return new ServiceClientMetrics(meterRegistry);
+        ServiceClientMetrics metrics = new ServiceClientMetrics(meterRegistry);
+        circuitBreakerManager.ifAvailable(metrics::bindCircuitBreakers);
+        return metrics;
+    }
+
+    /**
+     * Configures the performance metrics collector, which exports connection pool usage.
+     *
+     * @param meterRegistry the Micrometer meter registry
+     * @return the PerformanceMetricsCollector bean
+     */
+    @Bean
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "firefly.service-client.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public PerformanceMetricsCollector performanceMetricsCollector(MeterRegistry meterRegistry) {
+        log.info("Configuring ServiceClient performance metrics collector");
+        return new PerformanceMetricsCollector(meterRegistry);
+    }
+
+    private static RequestIdGenerator createRequestIdGenerator(ServiceClientProperties.RequestIdStrategy strategy,
+                                                               ServiceClientProperties.RequestIdStrategy fallbackStrategy,
+                                                               Tracer tracer) {
+        return switch (strategy) {
+            case RANDOM_UUID -> RequestIdGenerators.randomUuid();
+            case SECURE_UUID -> RequestIdGenerators.secureUuid();
+            case ULID -> RequestIdGenerators.ulid();
+            case TRACE_CONTEXT -> {
+                RequestIdGenerator fallback = fallbackStrategy == ServiceClientProperties.RequestIdStrategy.TRACE_CONTEXT
+                    ? RequestIdGenerators.randomUuid()
+                    : createRequestIdGenerator(fallbackStrategy, null, null);
+                if (tracer == null) {
+                    log.warn("No Tracer available for TRACE_CONTEXT request IDs, using {} instead", fallbackStrategy);
+                    yield fallback;
+                }
+                yield RequestIdGenerators.traceContext(tracer, fallback);
+            }
+        };
+    }
+
+    /**
+     * Factory for creating REST client builders with auto-configured circuit breaker and
+     * connection pool.
+     */
+    public static class RestClientBuilderFactory {
+        private final ServiceClientProperties.Rest restProperties;
+        private final ServiceClientProperties.Retry retryProperties;
+        private final CircuitBreakerManager circuitBreakerManager;
+        private final ObjectMapper objectMapper;
+        private final RequestIdGenerator requestIdGenerator;
+        private final PerformanceMetricsCollector metricsCollector;
+
+        public RestClientBuilderFactory(ServiceClientProperties.Rest restProperties,
+                                        ServiceClientProperties.Retry retryProperties,
+                                        CircuitBreakerManager circuitBreakerManager,
+                                        ObjectMapper objectMapper,
+                                        RequestIdGenerator requestIdGenerator,
+                                        PerformanceMetricsCollector metricsCollector) {
+            this.restProperties = restProperties;
+            this.retryProperties = retryProperties;
+            this.circuitBreakerManager = circuitBreakerManager;
+            this.objectMapper = objectMapper;
+            this.requestIdGenerator = requestIdGenerator;
+            this.metricsCollector = metricsCollector;
+        }
+
+        /**
+         * Creates a new REST client builder with auto-configured circuit breaker and the
+         * connection pool configured for the service under
+         * {@code firefly.service-client.rest.pools.<serviceName>}.
+         *
+         * @param serviceName the service name
+         * @return a configured REST client builder
+         */
+        public RestClientBuilder create(String serviceName) {
+            return new RestClientBuilder(serviceName)
+                .circuitBreakerManager(circuitBreakerManager)
+                .objectMapper(objectMapper)
+                .requestIdGenerator(requestIdGenerator)
+                .metricsCollector(metricsCollector)
+                .coalesceGetRequests(restProperties.isCoalesceGetRequests())
+                .retry(retryPolicy())
+                .connectionPool(connectionPool(serviceName));
+        }
+
+        /**
+         * Builds the retry policy of REST clients from {@code firefly.service-client.retry},
+         * limited to {@code firefly.service-client.rest.max-retries} retries.
+         *
+         * @return the retry policy, or {@code null} if retries are disabled
+         */
+        public RetryPolicy retryPolicy() {
+            int maxAttempts = Math.min(retryProperties.getMaxAttempts(), restProperties.getMaxRetries() + 1);
+            if (!retryProperties.isEnabled() || maxAttempts <= 1) {
+                return null;
+            }
+
+            return RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .baseDelay(retryProperties.getWaitDuration())
+                .maxDelay(retryProperties.getMaxWaitDuration())
+                .jitter(retryProperties.isJitterEnabled())
+                .multiplier(retryProperties.getExponentialBackoffMultiplier())
+                .budgetPercent(retryProperties.getBudgetPercent())
+                .build();
+        }
+
+        /**
+         * Resolves the connection pool of a service, falling back to the REST defaults.
+         *
+         * @param serviceName the service name
+         * @return the connection pool configuration
+         */
+        public ConnectionPoolConfig connectionPool(String serviceName) {
+            ServiceClientProperties.Rest.Pool pool = restProperties.getPools()
+                .getOrDefault(serviceName, new ServiceClientProperties.Rest.Pool());
+
+            return ConnectionPoolConfig.builder()
+                .maxConnections(pool.getMaxConnections() != null
+                    ? pool.getMaxConnections() : restProperties.getMaxConnections())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout() != null
+                    ? pool.getPendingAcquireTimeout() : restProperties.getPendingAcquireTimeout())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount() != null
+                    ? pool.getPendingAcquireMaxCount() : restProperties.getPendingAcquireMaxCount())
+                .protocol(pool.getProtocol() != null
+                    ? pool.getProtocol() : restProperties.getProtocol())
+                .maxConcurrentStreams(pool.getMaxConcurrentStreams() != null
+                    ? pool.getMaxConcurrentStreams() : restProperties.getMaxConcurrentStreams())
+                .initialWindowSize(restProperties.getInitialWindowSize())
+                .maxIdleTime(restProperties.getMaxIdleTime())
+                .maxLifeTime(restProperties.getMaxLifeTime())
+                .build();
+        }
+    }
+
+    /**
+     * Makes the context's request ID generator the one shared by all clients once the
+     * context is initialized, and restores the default when the context closes. Beans of
+     * the context are given the generator directly and do not depend on it.
+     */
+    public static class SharedRequestIdGeneratorRegistrar implements SmartInitializingSingleton, DisposableBean {
+        private final RequestIdGenerator requestIdGenerator;
+
+        public SharedRequestIdGeneratorRegistrar(RequestIdGenerator requestIdGenerator) {
+            this.requestIdGenerator = requestIdGenerator;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            RequestIdGenerators.setShared(requestIdGenerator);
+        }
+
+        @Override
+        public void destroy() {
+            RequestIdGenerators.resetShared(requestIdGenerator);
+        }
     }
 
     /**
@@ -197,9 +430,16 @@ public class ServiceClientAutoConfiguration {
      */
     public static class GrpcClientBuilderFactory {
         private final CircuitBreakerManager circuitBreakerManager;
+        private final RequestIdGenerator requestIdGenerator;
 
         public GrpcClientBuilderFactory(CircuitBreakerManager circuitBreakerManager) {
+            this(circuitBreakerManager, RequestIdGenerators.shared());
+        }
+
+        public GrpcClientBuilderFactory(CircuitBreakerManager circuitBreakerManager,
+                                        RequestIdGenerator requestIdGenerator) {
             this.circuitBreakerManager = circuitBreakerManager;
+            this.requestIdGenerator = requestIdGenerator;
         }
 
         /**
@@ -212,7 +452,8 @@ public class ServiceClientAutoConfiguration {
          */
         public <T> GrpcClientBuilder<T> create(String serviceName, Class<T> stubType) {
             return new GrpcClientBuilder<>(serviceName, stubType)
-                .circuitBreakerManager(circuitBreakerManager);
+                .circuitBreakerManager(circuitBreakerManager)
+                .requestIdGenerator(requestIdGenerator);
         }
     }
 }
\ No newline at end of file
@@ -185,6 +185,10 @@ public class ServiceClientConfigurationValidator {
             throw new IllegalArgumentException("Retry exponential backoff multiplier must be >= 1.0");
         }
 
+        if (retry.getBudgetPercent() <= 0 || retry.getBudgetPercent() > 100) {
+            throw new IllegalArgumentException("Retry budget must be between 0 and 100 percent, got: " + retry.getBudgetPercent());
+        }
+
         log.debug("Retry configuration validation passed");
     }
 
@@ -16,6 +16,8 @@
 
 package com.firefly.common.config;
 
+import com.firefly.common.client.pool.HttpProtocolVersion;
+import com.firefly.common.resilience.SlidingWindow;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -86,6 +88,11 @@ public class ServiceClientProperties {
      */
     private Retry retry = new Retry();
 
+    /**
+     * Deadline propagation configuration.
+     */
+    private Deadline deadline = new Deadline();
+
     /**
      * Metrics and monitoring configuration.
      */
@@ -96,6 +103,11 @@ public class ServiceClientProperties {
      */
     private Security security = new Security();
 
+    /**
+     * Request ID generation configuration.
+     */
+    private RequestId requestId = new RequestId();
+
     @Data
     public static class Rest {
         /**
@@ -118,6 +130,34 @@ public class ServiceClientProperties {
          */
         private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
 
+        /**
+         * Maximum number of requests waiting for a connection, or -1 for no limit.
+         * Defaults to twice the maximum number of connections.
+         */
+        private Integer pendingAcquireMaxCount;
+
+        /**
+         * HTTP protocol: HTTP_1_1, H2 (TLS with ALPN) or H2C (cleartext, prior knowledge).
+         */
+        private HttpProtocolVersion protocol = HttpProtocolVersion.HTTP_1_1;
+
+        /**
+         * Maximum number of concurrent requests per HTTP/2 connection.
+         */
+        private int maxConcurrentStreams = 100;
+
+        /**
+         * HTTP/2 flow-control window announced for each stream, in bytes.
+         * Defaults to the protocol default of 65535 bytes.
+         */
+        private Integer initialWindowSize;
+
+        /**
+         * Per-service connection pool settings, keyed by service name.
+         * Unset values fall back to the settings above.
+         */
+        private Map<String, Pool> pools = new HashMap<>();
+
         /**
          * Response timeout for HTTP requests.
          */
@@ -164,10 +204,48 @@ public class ServiceClientProperties {
         private boolean loggingEnabled = false;
 
         /**
-         * Maximum number of retries for connection failures.
+         * Maximum number of retries of a failed request, further limited by
+         * {@code retry.max-attempts}. Retries are disabled with {@code retry.enabled}.
          */
         private int maxRetries = 3;
 
+        /**
+         * Whether identical GET requests issued while one of them is in flight share its
+         * response instead of each calling the service.
+         */
+        private boolean coalesceGetRequests = false;
+
+        /**
+         * Connection pool settings of a single service.
+         */
+        @Data
+        public static class Pool {
+            /**
+             * Maximum number of connections in the pool.
+             */
+            private Integer maxConnections;
+
+            /**
+             * Timeout for acquiring a connection from the pool.
+             */
+            private Duration pendingAcquireTimeout;
+
+            /**
+             * Maximum number of requests waiting for a connection, or -1 for no limit.
+             */
+            private Integer pendingAcquireMaxCount;
+
+            /**
+             * HTTP protocol.
+             */
+            private HttpProtocolVersion protocol;
+
+            /**
+             * Maximum number of concurrent requests per HTTP/2 connection.
+             */
+            private Integer maxConcurrentStreams;
+        }
+
         /**
          * Environment-specific settings.
          * Only applies defaults if values haven't been explicitly configured.
@@ -481,7 +559,14 @@ public class ServiceClientProperties {
         private Duration waitDurationInOpenState = Duration.ofSeconds(60);
 
         /**
-         * Sliding window size for failure rate calculation.
+         * Sliding window type: the last calls, or the calls of the last seconds.
+         */
+
+        private SlidingWindow.Type slidingWindowType = SlidingWindow.Type.COUNT_BASED;
+
+        /**
+         * Sliding window size for failure rate calculation, in calls or, for a time-based
+         * window, in seconds.
          */
         
         private int slidingWindowSize = 10;
@@ -528,6 +613,19 @@ public class ServiceClientProperties {
 
         private boolean automaticTransitionFromOpenToHalfOpenEnabled = true;
 
+        /**
+         * Maximum number of endpoint- and instance-scoped circuit breakers.
+         */
+
+        private int maxScopedCircuitBreakers = 1000;
+
+        /**
+         * Time without calls after which an endpoint- or instance-scoped circuit breaker is
+         * evicted.
+         */
+
+        private Duration scopedCircuitBreakerIdleTimeout = Duration.ofMinutes(10);
+
         /**
          * Environment-specific settings.
          * Only applies defaults if values haven't been explicitly configured.
@@ -599,6 +697,11 @@ public class ServiceClientProperties {
          */
         private boolean jitterEnabled = true;
 
+        /**
+         * Maximum retries as a percentage of the requests of a client.
+         */
+        private double budgetPercent = 10.0;
+
         /**
          * Environment-specific settings.
          * Only applies defaults if values haven't been explicitly configured.
@@ -633,6 +736,20 @@ public class ServiceClientProperties {
         }
     }
 
+    @Data
+    public static class Deadline {
+        /**
+         * Whether incoming requests of a reactive web application continue the deadline
+         * sent by the caller in the X-Request-Timeout header.
+         */
+        private boolean propagationEnabled = true;
+
+        /**
+         * Deadline of incoming requests without the header. None by default.
+         */
+        private Duration defaultTimeout;
+    }
+
     @Data
     
     public static class Metrics {
@@ -735,6 +852,19 @@ public class ServiceClientProperties {
         }
     }
 
+    @Data
+    public static class RequestId {
+        /**
+         * Strategy used to generate request IDs for all clients.
+         */
+        private RequestIdStrategy strategy = RequestIdStrategy.RANDOM_UUID;
+
+        /**
+         * Strategy used by TRACE_CONTEXT when no trace is active.
+         */
+        private RequestIdStrategy fallbackStrategy = RequestIdStrategy.RANDOM_UUID;
+    }
+
     /**
      * Environment types for configuration profiles.
      */
@@ -755,6 +885,28 @@ public class ServiceClientProperties {
         CUSTOM
     }
 
+    /**
+     * Request ID generation strategies.
+     */
+    public enum RequestIdStrategy {
+        /**
+         * Random UUIDs drawn from ThreadLocalRandom.
+         */
+        RANDOM_UUID,
+        /**
+         * Random UUIDs drawn from SecureRandom.
+         */
+        SECURE_UUID,
+        /**
+         * Monotonic, time-sortable ULIDs.
+         */
+        ULID,
+        /**
+         * The W3C trace ID of the current span plus a random suffix.
+         */
+        TRACE_CONTEXT
+    }
+
     /**
      * Applies environment-specific defaults to all configuration sections.
      */
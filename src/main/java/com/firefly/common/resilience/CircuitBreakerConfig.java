@@ -50,7 +50,15 @@ public class CircuitBreakerConfig {
     private int minimumNumberOfCalls = 5;
     
     /**
-     * Size of the sliding window for failure rate calculation.
+     * Type of the sliding window for failure and slow call rate calculation.
+     * Default: COUNT_BASED
+     */
+    @Builder.Default
+    private SlidingWindow.Type slidingWindowType = SlidingWindow.Type.COUNT_BASED;
+
+    /**
+     * Size of the sliding window for failure rate calculation: the number of calls of a
+     * count-based window, or the seconds of a time-based window (one bucket per second).
      * Default: 10 calls
      */
     @Builder.Default
@@ -71,11 +79,12 @@ public class CircuitBreakerConfig {
     private int permittedNumberOfCallsInHalfOpenState = 3;
     
     /**
-     * Maximum duration to wait in HALF_OPEN state.
-     * Default: 30 seconds
+     * Maximum duration to wait in HALF_OPEN state for the trial calls to close the
+     * circuit, after which it opens again. Zero waits indefinitely.
+     * Default: 0 (wait indefinitely)
      */
     @Builder.Default
-    private Duration maxWaitDurationInHalfOpenState = Duration.ofSeconds(30);
+    private Duration maxWaitDurationInHalfOpenState = Duration.ZERO;
     
     /**
      * Timeout for individual calls through the circuit breaker.
@@ -92,7 +101,8 @@ public class CircuitBreakerConfig {
     private Duration slowCallDurationThreshold = Duration.ofSeconds(5);
     
     /**
-     * Slow call rate threshold (percentage) that triggers circuit opening.
+     * Slow call rate threshold (percentage) that triggers circuit opening. Values of 100%
+     * and above disable opening on slow calls.
      * Default: 100.0% (disabled)
      */
     @Builder.Default
@@ -104,6 +114,22 @@ public class CircuitBreakerConfig {
      */
     @Builder.Default
     private boolean automaticTransitionFromOpenToHalfOpenEnabled = true;
+
+    /**
+     * Maximum number of endpoint- and instance-scoped circuit breakers kept by a manager.
+     * Once reached, calls for new keys go through one overflow breaker per service.
+     * Default: 1000
+     */
+    @Builder.Default
+    private int maxScopedCircuitBreakers = 1000;
+
+    /**
+     * Time without calls after which an endpoint- or instance-scoped circuit breaker is
+     * evicted. Service-level breakers are never evicted.
+     * Default: 10 minutes
+     */
+    @Builder.Default
+    private Duration scopedCircuitBreakerIdleTimeout = Duration.ofMinutes(10);
     
     /**
      * Creates a default configuration.
@@ -155,10 +181,18 @@ public class CircuitBreakerConfig {
         if (slidingWindowSize <= 0) {
             throw new IllegalArgumentException("Sliding window size must be positive");
         }
+
+        if (slidingWindowType == null) {
+            throw new IllegalArgumentException("Sliding window type cannot be null");
+        }
         
         if (permittedNumberOfCallsInHalfOpenState <= 0) {
             throw new IllegalArgumentException("Permitted number of calls in half-open state must be positive");
         }
+
+        if (maxWaitDurationInHalfOpenState.isNegative()) {
+            throw new IllegalArgumentException("Max wait duration in half-open state cannot be negative");
+        }
         
         if (waitDurationInOpenState.isNegative() || waitDurationInOpenState.isZero()) {
             throw new IllegalArgumentException("Wait duration in open state must be positive");
@@ -171,5 +205,17 @@ public class CircuitBreakerConfig {
         if (slowCallRateThreshold < 0 || slowCallRateThreshold > 100) {
             throw new IllegalArgumentException("Slow call rate threshold must be between 0 and 100");
         }
+
+        if (slowCallDurationThreshold.isNegative() || slowCallDurationThreshold.isZero()) {
+            throw new IllegalArgumentException("Slow call duration threshold must be positive");
+        }
+
+        if (maxScopedCircuitBreakers < 0) {
+            throw new IllegalArgumentException("Max scoped circuit breakers cannot be negative");
+        }
+
+        if (scopedCircuitBreakerIdleTimeout.isNegative() || scopedCircuitBreakerIdleTimeout.isZero()) {
+            throw new IllegalArgumentException("Scoped circuit breaker idle timeout must be positive");
+        }
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.resilience;
+
+import com.firefly.common.resilience.CircuitBreakerManager.EnhancedCircuitBreaker;
+
+import java.time.Instant;
+
+/**
+ * Event published by the circuit breakers of a {@link CircuitBreakerManager}.
+ *
+ * <p>Events are delivered through {@link CircuitBreakerManager#events()}. Fields that do
+ * not apply to the event type are {@code null}, or {@code 0} for the duration.
+ *
+ * @param type the type of the event
+ * @param circuitBreaker the circuit breaker that published the event
+ * @param fromState the state before a transition
+ * @param state the state after a transition, or the state that rejected a call
+ * @param error the error of a failed call
+ * @param durationMillis the duration of a slow or failed call
+ * @param timestamp when the event occurred
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public record CircuitBreakerEvent(Type type,
+                                  EnhancedCircuitBreaker circuitBreaker,
+                                  CircuitBreakerState fromState,
+                                  CircuitBreakerState state,
+                                  Throwable error,
+                                  long durationMillis,
+                                  Instant timestamp) {
+
+    /**
+     * Type of a circuit breaker event.
+     */
+    public enum Type {
+        /** A circuit breaker was created by the manager. */
+        CREATED,
+        /** An idle endpoint or instance circuit breaker was evicted. */
+        EVICTED,
+        /** The circuit breaker changed state. */
+        STATE_TRANSITION,
+        /** A call was rejected because the circuit is open or its trial calls are taken. */
+        CALL_REJECTED,
+        /** A call took longer than the slow call duration threshold. */
+        SLOW_CALL,
+        /** A call failed. */
+        ERROR
+    }
+
+    /**
+     * Returns the name of the circuit breaker, see {@link CircuitBreakerKey#toString()}.
+     */
+    public String circuitBreakerName() {
+        return circuitBreaker.getName();
+    }
+
+    /**
+     * Returns the service of the circuit breaker.
+     */
+    public String serviceName() {
+        return circuitBreaker.getServiceName();
+    }
+
+    static CircuitBreakerEvent created(EnhancedCircuitBreaker circuitBreaker) {
+        return new CircuitBreakerEvent(Type.CREATED, circuitBreaker,
+            null, CircuitBreakerState.CLOSED, null, 0, Instant.now());
+    }
+
+    static CircuitBreakerEvent evicted(EnhancedCircuitBreaker circuitBreaker, CircuitBreakerState state) {
+        return new CircuitBreakerEvent(Type.EVICTED, circuitBreaker,
+            null, state, null, 0, Instant.now());
+    }
+
+    static CircuitBreakerEvent transition(EnhancedCircuitBreaker circuitBreaker,
+                                          CircuitBreakerState fromState, CircuitBreakerState toState) {
+        return new CircuitBreakerEvent(Type.STATE_TRANSITION, circuitBreaker,
+            fromState, toState, null, 0, Instant.now());
+    }
+
+    static CircuitBreakerEvent rejected(EnhancedCircuitBreaker circuitBreaker, CircuitBreakerState state) {
+        return new CircuitBreakerEvent(Type.CALL_REJECTED, circuitBreaker,
+            null, state, null, 0, Instant.now());
+    }
+
+    static CircuitBreakerEvent slowCall(EnhancedCircuitBreaker circuitBreaker, long durationMillis) {
+        return new CircuitBreakerEvent(Type.SLOW_CALL, circuitBreaker,
+            null, null, null, durationMillis, Instant.now());
+    }
+
+    static CircuitBreakerEvent error(EnhancedCircuitBreaker circuitBreaker, Throwable error,
+                                     long durationMillis) {
+        return new CircuitBreakerEvent(Type.ERROR, circuitBreaker,
+            null, null, error, durationMillis, Instant.now());
+    }
+}
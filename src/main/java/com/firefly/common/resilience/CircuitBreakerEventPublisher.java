@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multicasts {@link CircuitBreakerEvent}s to the subscribers of a manager.
+ *
+ * <p>Publishing threads never block or spin: each event is offered to a lock-free queue,
+ * and whichever thread finds the queue idle drains it into a direct multicast sink, so
+ * the sink only ever sees one emitting thread at a time. Every subscriber gets its own
+ * bounded buffer that drops the oldest events when the subscriber falls behind, so a slow
+ * subscriber neither holds back the others nor the calls that publish.
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+@Slf4j
+final class CircuitBreakerEventPublisher {
+
+    /**
+     * Publisher of standalone breakers, which never has subscribers.
+     */
+    static final CircuitBreakerEventPublisher NONE = new CircuitBreakerEventPublisher();
+
+    private final Sinks.Many<CircuitBreakerEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final Queue<CircuitBreakerEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /**
+     * Checks if anyone listens, so that callers can skip creating events.
+     */
+    boolean hasSubscribers() {
+        return sink.currentSubscriberCount() > 0;
+    }
+
+    void publish(CircuitBreakerEvent event) {
+        queue.offer(event);
+        if (wip.getAndIncrement() != 0) {
+            // The draining thread will emit the event
+            return;
+        }
+
+        int missed = 1;
+        do {
+            CircuitBreakerEvent next;
+            while ((next = queue.poll()) != null) {
+                sink.tryEmitNext(next);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Returns the events published after subscription, buffering up to
+     * {@code bufferSize} events per subscriber and dropping the oldest beyond that.
+     */
+    Flux<CircuitBreakerEvent> events(int bufferSize) {
+        return sink.asFlux()
+            .onBackpressureBuffer(bufferSize,
+                dropped -> log.debug("Dropped circuit breaker event {} of '{}' for a slow subscriber",
+                    dropped.type(), dropped.circuitBreakerName()),
+                BufferOverflowStrategy.DROP_OLDEST);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.resilience;
+
+/**
+ * Identifies a circuit breaker of a {@link CircuitBreakerManager}.
+ *
+ * <p>A key is scoped to a whole service, to one endpoint template of a service (for
+ * example {@code GET /reports/{id}}) or to one instance of a service (for example
+ * {@code reports-1:8080}). Endpoint and instance breakers are children of the breaker of
+ * their service: they isolate a single bad endpoint or replica, while their outcomes also
+ * feed the service-level failure and slow call rates, which open the service breaker when
+ * the service as a whole is unhealthy.
+ *
+ * @param serviceName the name of the service
+ * @param scope the scope of the breaker
+ * @param qualifier the endpoint template or instance ID, {@code null} for the service scope
+ *
+ * @author Firefly Software Solutions Inc
+ * @since 2.0.0
+ */
+public record CircuitBreakerKey(String serviceName, Scope scope, String qualifier) {
+
+    /**
+     * Scope of a circuit breaker.
+     */
+    public enum Scope {
+        /** One breaker for all calls to a service. */
+        SERVICE,
+        /** One breaker per endpoint template of a service. */
+        ENDPOINT,
+        /** One breaker per instance of a service. */
+        INSTANCE
+    }
+
+    public CircuitBreakerKey {
+        if (serviceName == null || serviceName.isEmpty()) {
+            throw new IllegalArgumentException("Service name cannot be null or empty");
+        }
+        if (scope == null) {
+            throw new IllegalArgumentException("Scope cannot be null");
+        }
+        if (scope == Scope.SERVICE) {
+            qualifier = null;
+        } else if (qualifier == null || qualifier.isEmpty()) {
+            throw new IllegalArgumentException("Qualifier cannot be null or empty for scope " + scope);
+        }
+    }
+
+    /**
+     * Creates the key of the breaker of a whole service.
+     */
+    public static CircuitBreakerKey service(String serviceName) {
+        return new CircuitBreakerKey(serviceName, Scope.SERVICE, null);
+    }
+
+    /**
+     * Creates the key of the breaker of one endpoint of a service.
+     *
+     * @param serviceName the name of the service
+     * @param method the HTTP method or RPC method type
+     * @param endpoint the endpoint template, with path variables unexpanded
+     */
+    public static CircuitBreakerKey endpoint(String serviceName, String method, String endpoint) {
+        return new CircuitBreakerKey(serviceName, Scope.ENDPOINT, method + " " + endpoint);
+    }
+
+    /**
+     * Creates the key of the breaker of one instance of a service.
+     *
+     * @param serviceName the name of the service
+     * @param instanceId the instance ID, for example {@code host:port}
+     */
+    public static CircuitBreakerKey instance(String serviceName, String instanceId) {
+        return new CircuitBreakerKey(serviceName, Scope.INSTANCE, instanceId);
+    }
+
+    /**
+     * Returns the key of the service-level breaker this breaker reports to, or
+     * {@code null} if this is a service-level key.
+     */
+    public CircuitBreakerKey parent() {
+        return scope == Scope.SERVICE ? null : service(serviceName);
+    }
+
+    /**
+     * Returns the breaker name used in logs and metrics: {@code service},
+     * {@code service[GET /reports/{id}]} or {@code service@reports-1:8080}.
+     */
+    @Override
+    public String toString() {
+        return switch (scope) {
+            case SERVICE -> serviceName;
+            case ENDPOINT -> serviceName + "[" + qualifier + "]";
+            case INSTANCE -> serviceName + "@" + qualifier;
+        };
+    }
+}
@@ -19,14 +19,22 @@ package com.firefly.common.resilience;
 import com.firefly.common.client.exception.CircuitBreakerOpenException;
 import com.firefly.common.client.exception.CircuitBreakerTimeoutException;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -36,9 +44,11 @@ import java.util.function.Supplier;
  * <ul>
  *   <li>Real-time state management (CLOSED, OPEN, HALF_OPEN)</li>
  *   <li>Configurable failure detection and recovery</li>
- *   <li>Sliding window failure rate calculation</li>
+ *   <li>Count- or time-based sliding window of failure and slow call rates</li>
+ *   <li>Service-, endpoint- and instance-scoped breakers (see {@link CircuitBreakerKey})</li>
  *   <li>Automatic state transitions</li>
  *   <li>Health monitoring and metrics</li>
+ *   <li>Non-blocking stream of {@link CircuitBreakerEvent}s</li>
  *   <li>Reactive programming support</li>
  * </ul>
  *
@@ -48,7 +58,26 @@ import java.util.function.Supplier;
 @Slf4j
 public class CircuitBreakerManager {
 
+    /**
+     * Minimum interval between sweeps for idle scoped breakers while the limit is reached.
+     */
+    private static final long FULL_EVICTION_INTERVAL_MILLIS = 1000;
+
+    /**
+     * Events buffered per subscriber of {@link #events()}.
+     */
+    private static final int DEFAULT_EVENT_BUFFER_SIZE = 256;
+
+    /**
+     * Name suffix of the breaker shared by the scoped keys of a service beyond the limit.
+     */
+    private static final String OVERFLOW_SUFFIX = "[overflow]";
+
     private final ConcurrentHashMap<String, EnhancedCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<CircuitBreakerKey, EnhancedCircuitBreaker> scopedCircuitBreakers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, EnhancedCircuitBreaker> overflowCircuitBreakers = new ConcurrentHashMap<>();
+    private final AtomicLong lastEviction = new AtomicLong(System.currentTimeMillis());
+    private final CircuitBreakerEventPublisher events = new CircuitBreakerEventPublisher();
     private final CircuitBreakerConfig defaultConfig;
 
     public CircuitBreakerManager(CircuitBreakerConfig defaultConfig) {
@@ -59,16 +88,140 @@ public class CircuitBreakerManager {
      * Gets or creates a circuit breaker for the specified service.
      */
     public EnhancedCircuitBreaker getCircuitBreaker(String serviceName) {
-        return circuitBreakers.computeIfAbsent(serviceName, 
-            name -> new EnhancedCircuitBreaker(name, defaultConfig));
+        return getOrCreate(circuitBreakers, serviceName,
+            name -> new EnhancedCircuitBreaker(name, defaultConfig, null, events));
     }
 
     /**
      * Gets or creates a circuit breaker with custom configuration.
      */
     public EnhancedCircuitBreaker getCircuitBreaker(String serviceName, CircuitBreakerConfig config) {
-        return circuitBreakers.computeIfAbsent(serviceName, 
-            name -> new EnhancedCircuitBreaker(name, config));
+        return getOrCreate(circuitBreakers, serviceName,
+            name -> new EnhancedCircuitBreaker(name, config, null, events));
+    }
+
+    /**
+     * Gets or creates the circuit breaker for the specified key.
+     *
+     * <p>Endpoint and instance breakers are children of the breaker of their service:
+     * only calls made through them are rejected when they open, and their outcomes also
+     * feed the service breaker, which opens when the service as a whole is unhealthy.
+     * Children are never gated by the service breaker. Children unused for
+     * {@code scopedCircuitBreakerIdleTimeout} are evicted. While
+     * {@code maxScopedCircuitBreakers} children exist, new keys share one overflow child of
+     * their service, named {@code service[overflow]}, rather than the service breaker.
+     */
+    public EnhancedCircuitBreaker getCircuitBreaker(CircuitBreakerKey key) {
+        if (key.scope() == CircuitBreakerKey.Scope.SERVICE) {
+            return getCircuitBreaker(key.serviceName());
+        }
+        EnhancedCircuitBreaker circuitBreaker = scopedCircuitBreakers.get(key);
+        if (circuitBreaker != null) {
+            return circuitBreaker;
+        }
+
+        EnhancedCircuitBreaker parent = getCircuitBreaker(key.serviceName());
+        int maxScoped = defaultConfig.getMaxScopedCircuitBreakers();
+        long now = System.currentTimeMillis();
+        long last = lastEviction.get();
+        long interval = scopedCircuitBreakers.size() >= maxScoped
+            ? FULL_EVICTION_INTERVAL_MILLIS
+            : defaultConfig.getScopedCircuitBreakerIdleTimeout().toMillis();
+        if (now - last >= interval && lastEviction.compareAndSet(last, now)) {
+            evictIdleCircuitBreakers();
+        }
+
+        if (scopedCircuitBreakers.size() >= maxScoped) {
+            EnhancedCircuitBreaker overflow = getOrCreate(overflowCircuitBreakers, key.serviceName(),
+                name -> new EnhancedCircuitBreaker(name + OVERFLOW_SUFFIX, defaultConfig, parent, events));
+            log.debug("Limit of {} scoped circuit breakers reached, using circuit breaker '{}' for '{}'",
+                maxScoped, overflow.getName(), key);
+            return overflow;
+        }
+        return getOrCreate(scopedCircuitBreakers, key,
+            k -> new EnhancedCircuitBreaker(k.toString(), defaultConfig, parent, events));
+    }
+
+    /**
+     * Gets the breaker of a key, or creates it and publishes a CREATED event. The breaker
+     * is created outside of the map, so that event subscribers never run inside it.
+     */
+    private <K> EnhancedCircuitBreaker getOrCreate(ConcurrentHashMap<K, EnhancedCircuitBreaker> breakers, K key,
+                                                   Function<K, EnhancedCircuitBreaker> factory) {
+        EnhancedCircuitBreaker circuitBreaker = breakers.get(key);
+        if (circuitBreaker != null) {
+            return circuitBreaker;
+        }
+
+        EnhancedCircuitBreaker created = factory.apply(key);
+        circuitBreaker = breakers.putIfAbsent(key, created);
+        if (circuitBreaker != null) {
+            return circuitBreaker;
+        }
+        if (events.hasSubscribers()) {
+            events.publish(CircuitBreakerEvent.created(created));
+        }
+        return created;
+    }
+
+    /**
+     * Gets all circuit breakers of the manager: those of the services, then those of
+     * endpoints and instances, then the overflow breakers.
+     */
+    public Collection<EnhancedCircuitBreaker> getCircuitBreakers() {
+        List<EnhancedCircuitBreaker> all = new ArrayList<>(circuitBreakers.values());
+        all.addAll(scopedCircuitBreakers.values());
+        all.addAll(overflowCircuitBreakers.values());
+        return all;
+    }
+
+    /**
+     * Returns the events of all circuit breakers of the manager: creations, evictions,
+     * state transitions, rejected calls, slow calls and errors.
+     *
+     * <p>Only events published after subscription are received. Each subscriber buffers
+     * up to 256 events and drops the oldest ones when it falls behind, so subscribers
+     * never slow down the calls going through the breakers.
+     */
+    public Flux<CircuitBreakerEvent> events() {
+        return events(DEFAULT_EVENT_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the events of all circuit breakers of the manager, buffering up to
+     * {@code bufferSize} events per subscriber.
+     *
+     * @see #events()
+     */
+    public Flux<CircuitBreakerEvent> events(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        return events.events(bufferSize);
+    }
+
+    /**
+     * Evicts the endpoint and instance breakers that have not been called for
+     * {@code scopedCircuitBreakerIdleTimeout}.
+     *
+     * @return the number of evicted breakers
+     */
+    public int evictIdleCircuitBreakers() {
+        long idleSince = System.currentTimeMillis() - defaultConfig.getScopedCircuitBreakerIdleTimeout().toMillis();
+        int evicted = 0;
+        for (Map.Entry<CircuitBreakerKey, EnhancedCircuitBreaker> entry : scopedCircuitBreakers.entrySet()) {
+            EnhancedCircuitBreaker circuitBreaker = entry.getValue();
+            if (circuitBreaker.isIdleSince(idleSince) && scopedCircuitBreakers.remove(entry.getKey(), circuitBreaker)) {
+                evicted++;
+                if (events.hasSubscribers()) {
+                    events.publish(CircuitBreakerEvent.evicted(circuitBreaker, circuitBreaker.getState()));
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle scoped circuit breakers", evicted);
+        }
+        return evicted;
     }
 
     /**
@@ -78,6 +231,27 @@ public class CircuitBreakerManager {
         return getCircuitBreaker(serviceName).execute(operation);
     }
 
+    /**
+     * Executes an operation with the protection of the circuit breaker of the key.
+     */
+    public <T> Mono<T> executeWithCircuitBreaker(CircuitBreakerKey key, Supplier<Mono<T>> operation) {
+        return getCircuitBreaker(key).execute(operation);
+    }
+
+    /**
+     * Executes a streaming operation with circuit breaker protection.
+     */
+    public <T> Flux<T> executeStreamWithCircuitBreaker(String serviceName, Supplier<Flux<T>> operation) {
+        return getCircuitBreaker(serviceName).executeStream(operation);
+    }
+
+    /**
+     * Executes a streaming operation with the protection of the circuit breaker of the key.
+     */
+    public <T> Flux<T> executeStreamWithCircuitBreaker(CircuitBreakerKey key, Supplier<Flux<T>> operation) {
+        return getCircuitBreaker(key).executeStream(operation);
+    }
+
     /**
      * Gets the current state of a circuit breaker.
      */
@@ -86,6 +260,27 @@ public class CircuitBreakerManager {
         return circuitBreaker != null ? circuitBreaker.getState() : CircuitBreakerState.CLOSED;
     }
 
+    /**
+     * Gets the current state of the circuit breaker of a key.
+     */
+    public CircuitBreakerState getState(CircuitBreakerKey key) {
+        EnhancedCircuitBreaker circuitBreaker = findCircuitBreaker(key);
+        return circuitBreaker != null ? circuitBreaker.getState() : CircuitBreakerState.CLOSED;
+    }
+
+    /**
+     * Gets the states of the endpoint and instance breakers of a service.
+     */
+    public Map<CircuitBreakerKey, CircuitBreakerState> getScopedStates(String serviceName) {
+        Map<CircuitBreakerKey, CircuitBreakerState> states = new HashMap<>();
+        scopedCircuitBreakers.forEach((key, circuitBreaker) -> {
+            if (key.serviceName().equals(serviceName)) {
+                states.put(key, circuitBreaker.getState());
+            }
+        });
+        return states;
+    }
+
     /**
      * Gets metrics for a circuit breaker.
      */
@@ -94,6 +289,15 @@ public class CircuitBreakerManager {
         return circuitBreaker != null ? circuitBreaker.getMetrics() : null;
     }
 
+    /**
+     * Gets metrics for the circuit breaker of a key. The metrics of a service breaker
+     * include the calls made through its endpoint and instance breakers.
+     */
+    public CircuitBreakerMetrics getMetrics(CircuitBreakerKey key) {
+        EnhancedCircuitBreaker circuitBreaker = findCircuitBreaker(key);
+        return circuitBreaker != null ? circuitBreaker.getMetrics() : null;
+    }
+
     /**
      * Manually transitions a circuit breaker to a specific state.
      */
@@ -114,24 +318,65 @@ public class CircuitBreakerManager {
         }
     }
 
+    private EnhancedCircuitBreaker findCircuitBreaker(CircuitBreakerKey key) {
+        return key.scope() == CircuitBreakerKey.Scope.SERVICE
+            ? circuitBreakers.get(key.serviceName())
+            : scopedCircuitBreakers.get(key);
+    }
+
     /**
      * Enhanced Circuit Breaker implementation with real state management.
+     *
+     * <p>The state, the time it was entered and, in HALF_OPEN, the trial permits are
+     * replaced together, so every transition is a single CAS and only the caller that wins
+     * it acts on it. Calls remember the state they were admitted in: only trial calls
+     * admitted in HALF_OPEN decide whether the circuit closes or reopens.
+     *
+     * <p>A breaker with a parent also records the outcome of each of its calls in the
+     * parent's counters and sliding window, without being gated by the parent's state. The
+     * parent evaluates its thresholds on these outcomes as on its own calls, so it opens
+     * when its children fail as a whole. Once {@code waitDurationInOpenState} has elapsed,
+     * the calls of its children also act as its trial calls: a failure reopens it, and
+     * {@code permittedNumberOfCallsInHalfOpenState} successes close it, so it recovers even
+     * when all calls go through children.
      */
     public static class EnhancedCircuitBreaker {
         private final String name;
         private final CircuitBreakerConfig config;
-        private final AtomicReference<CircuitBreakerState> state = new AtomicReference<>(CircuitBreakerState.CLOSED);
-        private final AtomicLong lastStateTransition = new AtomicLong(System.currentTimeMillis());
+        private final EnhancedCircuitBreaker parent;
+        private final String serviceName;
+        private final CircuitBreakerEventPublisher events;
+        private final AtomicReference<Phase> phase;
         private final SlidingWindow slidingWindow;
-        private final AtomicInteger halfOpenSuccessCount = new AtomicInteger(0);
-        private final AtomicLong totalCalls = new AtomicLong(0);
-        private final AtomicLong successfulCalls = new AtomicLong(0);
-        private final AtomicLong failedCalls = new AtomicLong(0);
+        private final LongAdder totalCalls = new LongAdder();
+        private final LongAdder successfulCalls = new LongAdder();
+        private final LongAdder failedCalls = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final LongAdder rejectedCalls = new LongAdder();
+        private volatile long lastCallTime = System.currentTimeMillis();
 
         public EnhancedCircuitBreaker(String name, CircuitBreakerConfig config) {
+            this(name, config, null);
+        }
+
+        /**
+         * Creates a circuit breaker whose calls are also recorded by {@code parent}.
+         */
+        public EnhancedCircuitBreaker(String name, CircuitBreakerConfig config, EnhancedCircuitBreaker parent) {
+            this(name, config, parent, CircuitBreakerEventPublisher.NONE);
+        }
+
+        EnhancedCircuitBreaker(String name, CircuitBreakerConfig config, EnhancedCircuitBreaker parent,
+                               CircuitBreakerEventPublisher events) {
             this.name = name;
             this.config = config;
-            this.slidingWindow = new SlidingWindow(config.getSlidingWindowSize());
+            this.parent = parent;
+            this.serviceName = parent != null ? parent.name : name;
+            this.events = events;
+            this.phase = new AtomicReference<>(newPhase(CircuitBreakerState.CLOSED));
+            this.slidingWindow = config.getSlidingWindowType() == SlidingWindow.Type.TIME_BASED
+                ? SlidingWindow.timeBased(Duration.ofSeconds(config.getSlidingWindowSize()), config.getSlidingWindowSize())
+                : SlidingWindow.countBased(config.getSlidingWindowSize());
             log.info("Created circuit breaker '{}' with config: {}", name, config);
         }
 
@@ -140,60 +385,124 @@ public class CircuitBreakerManager {
          */
         public <T> Mono<T> execute(Supplier<Mono<T>> operation) {
             return Mono.defer(() -> {
-                if (!canExecute()) {
+                touch();
+                Phase admitted = acquirePermission();
+                if (admitted == null) {
+                    onRejected();
                     return Mono.error(new CircuitBreakerOpenException(
                         String.format("Circuit breaker '%s' is OPEN", name)));
                 }
 
                 long startTime = System.currentTimeMillis();
-                totalCalls.incrementAndGet();
+                totalCalls.increment();
 
-                return operation.get()
-                    .doOnSuccess(result -> onSuccess(startTime))
-                    .doOnError(error -> onError(error, startTime))
+                // Timeouts are recorded as failures
+                Mono<T> call = operation.get()
                     .timeout(config.getCallTimeout())
-                    .onErrorMap(java.util.concurrent.TimeoutException.class, 
+                    .onErrorMap(java.util.concurrent.TimeoutException.class,
                         ex -> new CircuitBreakerTimeoutException(
-                            String.format("Circuit breaker '%s' call timeout", name), ex));
+                            String.format("Circuit breaker '%s' call timeout", name), ex))
+                    .doOnSuccess(result -> onSuccess(startTime, admitted))
+                    .doOnError(error -> onError(error, startTime, admitted));
+                // A trial permit is returned on completion, error or cancellation
+                return admitted.trial != null ? call.doFinally(signal -> admitted.trial.release()) : call;
             });
         }
 
         /**
-         * Checks if the circuit breaker allows execution.
+         * Executes a streaming operation with circuit breaker protection.
+         *
+         * <p>The call timeout only bounds the wait for the first element, so long-running
+         * streams are not cut off. The call is recorded as a success when the stream
+         * completes and as a failure when it errors.
          */
-        private boolean canExecute() {
-            CircuitBreakerState currentState = state.get();
+        public <T> Flux<T> executeStream(Supplier<Flux<T>> operation) {
+            return Flux.defer(() -> {
+                touch();
+                Phase admitted = acquirePermission();
+                if (admitted == null) {
+                    onRejected();
+                    return Flux.error(new CircuitBreakerOpenException(
+                        String.format("Circuit breaker '%s' is OPEN", name)));
+                }
 
-            switch (currentState) {
-                case CLOSED:
-                    return true;
-                case OPEN:
-                    if (shouldTransitionToHalfOpen()) {
-                        transitionTo(CircuitBreakerState.HALF_OPEN);
-                        return true;
-                    }
-                    return false;
-                case HALF_OPEN:
-                    return halfOpenSuccessCount.get() < config.getPermittedNumberOfCallsInHalfOpenState();
-                default:
-                    return false;
+                long startTime = System.currentTimeMillis();
+                totalCalls.increment();
+
+                Flux<T> call = operation.get()
+                    .timeout(Mono.delay(config.getCallTimeout()), element -> Mono.never())
+                    .onErrorMap(java.util.concurrent.TimeoutException.class,
+                        ex -> new CircuitBreakerTimeoutException(
+                            String.format("Circuit breaker '%s' call timeout", name), ex))
+                    .doOnComplete(() -> onSuccess(startTime, admitted))
+                    .doOnError(error -> onError(error, startTime, admitted));
+                return admitted.trial != null ? call.doFinally(signal -> admitted.trial.release()) : call;
+            });
+        }
+
+        /**
+         * Admits a call, returning the phase it was admitted in, or {@code null} if the
+         * circuit rejects it. In HALF_OPEN a call is admitted only with one of the
+         * {@code permittedNumberOfCallsInHalfOpenState} trial permits.
+         */
+        private Phase acquirePermission() {
+            while (true) {
+                Phase current = phase.get();
+                switch (current.state) {
+                    case CLOSED:
+                        return current;
+                    case OPEN:
+                        if (!shouldTransitionToHalfOpen(current)
+                                || !transition(current, CircuitBreakerState.HALF_OPEN)) {
+                            // Another caller may have moved to HALF_OPEN first
+                            if (phase.get() == current) {
+                                return null;
+                            }
+                        }
+                        break;
+                    case HALF_OPEN:
+                        if (halfOpenExpired(current)) {
+                            if (transition(current, CircuitBreakerState.OPEN)) {
+                                log.warn("Circuit breaker '{}' transitioned from HALF_OPEN to OPEN: no result within {}",
+                                    name, config.getMaxWaitDurationInHalfOpenState());
+                            }
+                            return null;
+                        }
+                        return current.trial.tryAcquire() ? current : null;
+                    default:
+                        return null;
+                }
+            }
+        }
+
+        /**
+         * Handles a call rejected by the circuit.
+         */
+        private void onRejected() {
+            rejectedCalls.increment();
+            if (events.hasSubscribers()) {
+                events.publish(CircuitBreakerEvent.rejected(this, getState()));
             }
         }
 
         /**
          * Handles successful operation completion.
          */
-        private void onSuccess(long startTime) {
+        private void onSuccess(long startTime, Phase admitted) {
             long duration = System.currentTimeMillis() - startTime;
-            successfulCalls.incrementAndGet();
-            slidingWindow.recordSuccess();
-
-            CircuitBreakerState currentState = state.get();
-            
-            if (currentState == CircuitBreakerState.HALF_OPEN) {
-                int successCount = halfOpenSuccessCount.incrementAndGet();
-                if (successCount >= config.getPermittedNumberOfCallsInHalfOpenState()) {
-                    transitionTo(CircuitBreakerState.CLOSED);
+            boolean slow = isSlow(duration);
+            successfulCalls.increment();
+            slidingWindow.record(false, slow);
+            if (parent != null) {
+                parent.recordChildCall(false, slow);
+            }
+
+            if (admitted.state == CircuitBreakerState.CLOSED && slow) {
+                openIfThresholdExceeded(admitted);
+            } else if (admitted.trial != null) {
+                int successCount = admitted.trial.succeeded();
+                if (successCount >= config.getPermittedNumberOfCallsInHalfOpenState()
+                        && transition(admitted, CircuitBreakerState.CLOSED)) {
                     log.info("Circuit breaker '{}' transitioned from HALF_OPEN to CLOSED after {} successful calls", 
                         name, successCount);
                 }
@@ -205,21 +514,25 @@ public class CircuitBreakerManager {
         /**
          * Handles operation failure.
          */
-        private void onError(Throwable error, long startTime) {
+        private void onError(Throwable error, long startTime, Phase admitted) {
             long duration = System.currentTimeMillis() - startTime;
-            failedCalls.incrementAndGet();
-            slidingWindow.recordFailure();
-
-            CircuitBreakerState currentState = state.get();
-
-            if (currentState == CircuitBreakerState.HALF_OPEN) {
-                transitionTo(CircuitBreakerState.OPEN);
-                log.warn("Circuit breaker '{}' transitioned from HALF_OPEN to OPEN due to failure: {}", 
-                    name, error.getMessage());
-            } else if (currentState == CircuitBreakerState.CLOSED && shouldOpenCircuit()) {
-                transitionTo(CircuitBreakerState.OPEN);
-                log.warn("Circuit breaker '{}' transitioned from CLOSED to OPEN due to failure rate: {}%", 
-                    name, slidingWindow.getFailureRate());
+            boolean slow = isSlow(duration);
+            failedCalls.increment();
+            slidingWindow.record(true, slow);
+            if (parent != null) {
+                parent.recordChildCall(true, slow);
+            }
+            if (events.hasSubscribers()) {
+                events.publish(CircuitBreakerEvent.error(this, error, duration));
+            }
+
+            if (admitted.trial != null) {
+                if (transition(admitted, CircuitBreakerState.OPEN)) {
+                    log.warn("Circuit breaker '{}' transitioned from HALF_OPEN to OPEN due to failure: {}", 
+                        name, error.getMessage());
+                }
+            } else if (admitted.state == CircuitBreakerState.CLOSED) {
+                openIfThresholdExceeded(admitted);
             }
 
             log.debug("Circuit breaker '{}' recorded failure in {}ms: {}", 
@@ -227,41 +540,166 @@ public class CircuitBreakerManager {
         }
 
         /**
-         * Checks if the circuit should open based on failure rate.
+         * Records a call made through a child breaker and updates the state from it, as
+         * for a call of this breaker admitted in the current state.
          */
-        private boolean shouldOpenCircuit() {
-            if (slidingWindow.getTotalCalls() < config.getMinimumNumberOfCalls()) {
-                return false;
+        private void recordChildCall(boolean failed, boolean slow) {
+            totalCalls.increment();
+            (failed ? failedCalls : successfulCalls).increment();
+            if (slow) {
+                slowCalls.increment();
+            }
+            slidingWindow.record(failed, slow);
+
+            Phase current = phase.get();
+            if (current.state == CircuitBreakerState.OPEN && shouldTransitionToHalfOpen(current)
+                    && transition(current, CircuitBreakerState.HALF_OPEN)) {
+                current = phase.get();
+            }
+            switch (current.state) {
+                case CLOSED:
+                    if (failed || slow) {
+                        openIfThresholdExceeded(current);
+                    }
+                    break;
+                case HALF_OPEN:
+                    if (failed) {
+                        if (transition(current, CircuitBreakerState.OPEN)) {
+                            log.warn("Circuit breaker '{}' transitioned from HALF_OPEN to OPEN due to a failed call of a child",
+                                name);
+                        }
+                    } else if (current.trial.succeeded() >= config.getPermittedNumberOfCallsInHalfOpenState()
+                            && transition(current, CircuitBreakerState.CLOSED)) {
+                        log.info("Circuit breaker '{}' transitioned from HALF_OPEN to CLOSED after successful calls of its children",
+                            name);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Marks the breaker as used. The time is refreshed at most once per second, so
+         * busy breakers are not written to on every call.
+         */
+        private void touch() {
+            long now = System.currentTimeMillis();
+            if (now - lastCallTime >= 1000) {
+                lastCallTime = now;
+            }
+        }
+
+        /**
+         * Checks if the breaker has not been called since the given time and has no trial
+         * calls in flight.
+         */
+        boolean isIdleSince(long time) {
+            return lastCallTime < time && getHalfOpenCallsInFlight() == 0;
+        }
+
+        /**
+         * Checks if a call was slow, counting it towards the slow call rate.
+         */
+        private boolean isSlow(long durationMillis) {
+            boolean slow = durationMillis > config.getSlowCallDurationThreshold().toMillis();
+            if (slow) {
+                slowCalls.increment();
+                if (events.hasSubscribers()) {
+                    events.publish(CircuitBreakerEvent.slowCall(this, durationMillis));
+                }
+            }
+            return slow;
+        }
+
+        /**
+         * Opens the circuit if the failure rate or the slow call rate of the sliding window
+         * has reached its threshold, unless it has left the given CLOSED phase meanwhile.
+         */
+        private void openIfThresholdExceeded(Phase closed) {
+            SlidingWindow.Snapshot window = slidingWindow.snapshot();
+            if (window.calls() < config.getMinimumNumberOfCalls()) {
+                return;
             }
 
-            double failureRate = slidingWindow.getFailureRate();
-            return failureRate >= config.getFailureRateThreshold();
+            if (window.failureRate() >= config.getFailureRateThreshold()) {
+                if (transition(closed, CircuitBreakerState.OPEN)) {
+                    log.warn("Circuit breaker '{}' transitioned from CLOSED to OPEN due to failure rate: {}%",
+                        name, window.failureRate());
+                }
+            } else if (config.getSlowCallRateThreshold() < 100.0
+                    && window.slowCallRate() >= config.getSlowCallRateThreshold()) {
+                if (transition(closed, CircuitBreakerState.OPEN)) {
+                    log.warn("Circuit breaker '{}' transitioned from CLOSED to OPEN due to slow call rate: {}%",
+                        name, window.slowCallRate());
+                }
+            }
         }
 
         /**
          * Checks if the circuit should transition from OPEN to HALF_OPEN.
          */
-        private boolean shouldTransitionToHalfOpen() {
-            long timeSinceLastTransition = System.currentTimeMillis() - lastStateTransition.get();
+        private boolean shouldTransitionToHalfOpen(Phase open) {
+            long timeSinceLastTransition = System.currentTimeMillis() - open.since;
             return timeSinceLastTransition >= config.getWaitDurationInOpenState().toMillis();
         }
 
+        /**
+         * Checks if HALF_OPEN has lasted longer than {@code maxWaitDurationInHalfOpenState}
+         * without the trial calls deciding the state. A zero duration waits indefinitely.
+         */
+        private boolean halfOpenExpired(Phase halfOpen) {
+            Duration maxWait = config.getMaxWaitDurationInHalfOpenState();
+            if (maxWait == null || maxWait.isZero() || maxWait.isNegative()) {
+                return false;
+            }
+            return System.currentTimeMillis() - halfOpen.since >= maxWait.toMillis();
+        }
+
+        /**
+         * Moves from the expected phase to a new state, if no other transition happened
+         * first.
+         *
+         * @return whether this caller made the transition
+         */
+        private boolean transition(Phase expected, CircuitBreakerState newState) {
+            if (!phase.compareAndSet(expected, newPhase(newState))) {
+                return false;
+            }
+            if (newState == CircuitBreakerState.CLOSED) {
+                slidingWindow.reset();
+            }
+            log.info("Circuit breaker '{}' state transition: {} -> {}", name, expected.state, newState);
+            publishTransition(expected.state, newState);
+            return true;
+        }
+
+        private Phase newPhase(CircuitBreakerState newState) {
+            HalfOpenTrial trial = newState == CircuitBreakerState.HALF_OPEN
+                ? new HalfOpenTrial(config.getPermittedNumberOfCallsInHalfOpenState())
+                : null;
+            return new Phase(newState, System.currentTimeMillis(), trial);
+        }
+
         /**
          * Transitions the circuit breaker to a new state.
          */
         public void transitionTo(CircuitBreakerState newState) {
-            CircuitBreakerState oldState = state.getAndSet(newState);
-            lastStateTransition.set(System.currentTimeMillis());
+            Phase oldPhase = phase.getAndSet(newPhase(newState));
 
             if (newState == CircuitBreakerState.CLOSED) {
-                halfOpenSuccessCount.set(0);
                 slidingWindow.reset();
-            } else if (newState == CircuitBreakerState.HALF_OPEN) {
-                halfOpenSuccessCount.set(0);
             }
 
-            if (oldState != newState) {
-                log.info("Circuit breaker '{}' state transition: {} -> {}", name, oldState, newState);
+            if (oldPhase.state != newState) {
+                log.info("Circuit breaker '{}' state transition: {} -> {}", name, oldPhase.state, newState);
+                publishTransition(oldPhase.state, newState);
+            }
+        }
+
+        private void publishTransition(CircuitBreakerState fromState, CircuitBreakerState toState) {
+            if (events.hasSubscribers()) {
+                events.publish(CircuitBreakerEvent.transition(this, fromState, toState));
             }
         }
 
@@ -271,92 +709,147 @@ public class CircuitBreakerManager {
         public void reset() {
             transitionTo(CircuitBreakerState.CLOSED);
             slidingWindow.reset();
-            halfOpenSuccessCount.set(0);
-            totalCalls.set(0);
-            successfulCalls.set(0);
-            failedCalls.set(0);
+            totalCalls.reset();
+            successfulCalls.reset();
+            failedCalls.reset();
+            slowCalls.reset();
+            rejectedCalls.reset();
             log.info("Circuit breaker '{}' has been reset", name);
         }
 
+        /**
+         * Gets the name of the circuit breaker.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the name of the service the circuit breaker belongs to.
+         */
+        public String getServiceName() {
+            return serviceName;
+        }
+
         /**
          * Gets the current state of the circuit breaker.
          */
         public CircuitBreakerState getState() {
-            return state.get();
+            return phase.get().state;
         }
 
         /**
-         * Gets metrics for the circuit breaker.
+         * Gets the number of calls admitted since the last reset.
          */
-        public CircuitBreakerMetrics getMetrics() {
-            return CircuitBreakerMetrics.builder()
-                .name(name)
-                .state(state.get())
-                .totalCalls(totalCalls.get())
-                .successfulCalls(successfulCalls.get())
-                .failedCalls(failedCalls.get())
-                .failureRate(slidingWindow.getFailureRate())
-                .lastStateTransition(Instant.ofEpochMilli(lastStateTransition.get()))
-                .build();
+        public long getTotalCalls() {
+            return totalCalls.sum();
         }
-    }
 
-    /**
-     * Sliding window implementation for tracking call results.
-     */
-    private static class SlidingWindow {
-        private final int windowSize;
-        private final boolean[] results;
-        private final AtomicInteger index = new AtomicInteger(0);
-        private final AtomicLong totalCalls = new AtomicLong(0);
-        private final AtomicInteger failures = new AtomicInteger(0);
+        /**
+         * Gets the number of successful calls since the last reset.
+         */
+        public long getSuccessfulCalls() {
+            return successfulCalls.sum();
+        }
 
-        public SlidingWindow(int windowSize) {
-            this.windowSize = windowSize;
-            this.results = new boolean[windowSize];
+        /**
+         * Gets the number of failed calls since the last reset.
+         */
+        public long getFailedCalls() {
+            return failedCalls.sum();
         }
 
-        public void recordSuccess() {
-            recordResult(true);
+        /**
+         * Gets the number of slow calls since the last reset.
+         */
+        public long getSlowCalls() {
+            return slowCalls.sum();
         }
 
-        public void recordFailure() {
-            recordResult(false);
+        /**
+         * Gets the number of calls rejected by the circuit since the last reset.
+         */
+        public long getRejectedCalls() {
+            return rejectedCalls.sum();
         }
 
-        private void recordResult(boolean success) {
-            int currentIndex = index.getAndIncrement() % windowSize;
-            long totalCallsValue = totalCalls.incrementAndGet();
+        /**
+         * Gets the failure rate of the sliding window, in percent.
+         */
+        public double getFailureRate() {
+            return slidingWindow.getFailureRate();
+        }
 
-            // If overwriting an existing entry, adjust failure count
-            if (totalCallsValue > windowSize && !results[currentIndex]) {
-                failures.decrementAndGet();
-            }
+        /**
+         * Gets the slow call rate of the sliding window, in percent.
+         */
+        public double getSlowCallRate() {
+            return slidingWindow.getSlowCallRate();
+        }
 
-            results[currentIndex] = success;
-            if (!success) {
-                failures.incrementAndGet();
-            }
+        /**
+         * Gets the number of trial calls currently in flight, {@code 0} outside HALF_OPEN.
+         */
+        public int getHalfOpenCallsInFlight() {
+            HalfOpenTrial trial = phase.get().trial;
+            return trial != null ? trial.inFlight.get() : 0;
         }
 
-        public double getFailureRate() {
-            long callsInWindow = Math.min(totalCalls.get(), windowSize);
-            if (callsInWindow == 0) {
-                return 0.0;
-            }
-            return (double) failures.get() / callsInWindow * 100.0;
+        /**
+         * Gets metrics for the circuit breaker.
+         */
+        public CircuitBreakerMetrics getMetrics() {
+            Phase current = phase.get();
+            SlidingWindow.Snapshot window = slidingWindow.snapshot();
+            return CircuitBreakerMetrics.builder()
+                .name(name)
+                .state(current.state)
+                .totalCalls(totalCalls.sum())
+                .successfulCalls(successfulCalls.sum())
+                .failedCalls(failedCalls.sum())
+                .failureRate(window.failureRate())
+                .slowCalls(slowCalls.sum())
+                .slowCallRate(window.slowCallRate())
+                .lastStateTransition(Instant.ofEpochMilli(current.since))
+                .build();
         }
 
-        public long getTotalCalls() {
-            return Math.min(totalCalls.get(), windowSize);
+        /**
+         * A state, the time it was entered and, in HALF_OPEN, its trial permits.
+         */
+        private record Phase(CircuitBreakerState state, long since, HalfOpenTrial trial) {
         }
 
-        public void reset() {
-            index.set(0);
-            totalCalls.set(0);
-            failures.set(0);
-            for (int i = 0; i < windowSize; i++) {
-                results[i] = false;
+        /**
+         * Trial permits of one HALF_OPEN phase: at most {@code permitted} trial calls in
+         * flight at a time, and the count of those that succeeded.
+         */
+        private static final class HalfOpenTrial {
+            private final int permitted;
+            private final AtomicInteger inFlight = new AtomicInteger();
+            private final AtomicInteger successes = new AtomicInteger();
+
+            HalfOpenTrial(int permitted) {
+                this.permitted = permitted;
+            }
+
+            boolean tryAcquire() {
+                int current;
+                do {
+                    current = inFlight.get();
+                    if (current + successes.get() >= permitted) {
+                        return false;
+                    }
+                } while (!inFlight.compareAndSet(current, current + 1));
+                return true;
+            }
+
+            void release() {
+                inFlight.decrementAndGet();
+            }
+
+            int succeeded() {
+                return successes.incrementAndGet();
             }
         }
     }
@@ -16,99 +16,163 @@
 
 package com.firefly.common.resilience;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
- * Sliding window implementation for tracking call success/failure rates.
- * 
- * <p>This implementation uses a circular buffer approach to maintain
- * a sliding window of the most recent calls for failure rate calculation.
- * It's thread-safe and optimized for high-throughput scenarios.
+ * Sliding window implementation for tracking call failure and slow call rates.
+ *
+ * <p>Two kinds of window are available:
+ * <ul>
+ *   <li><b>Count-based</b> ({@link #countBased(int)}): the outcomes of the last N calls,
+ *       kept in a ring buffer.</li>
+ *   <li><b>Time-based</b> ({@link #timeBased(Duration, int)}): the calls of the last period,
+ *       aggregated into buckets that are recycled as time moves on.</li>
+ * </ul>
+ *
+ * <p>The window is lock-free, as it is updated on every call made through a circuit
+ * breaker. The call and failure counts are packed into a single {@code long}, so that a
+ * {@link #snapshot()} is always a consistent pair. Recording a call in a count-based
+ * window is one increment of the ring cursor, one swap of the slot and, only when the
+ * outcome differs from the one it evicts, one addition to the packed counts; once the
+ * window is full and outcomes are stable, concurrent callers no longer write to shared
+ * counters at all. Slow calls are counted separately; a snapshot never reports more slow
+ * calls than calls. Calls recorded concurrently with {@link #reset()} may be dropped.
  *
  * @author Firefly Software Solutions Inc
  * @since 2.0.0
  */
 public class SlidingWindow {
-    
+
+    /**
+     * The kind of window.
+     */
+    public enum Type {
+        /** The last N calls. */
+        COUNT_BASED,
+        /** The calls of the last period. */
+        TIME_BASED
+    }
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+    private static final int SLOW = 4;
+
+    // Calls are counted in the high 32 bits, failures in the low 32 bits
+    private static final long ONE_CALL = 1L << 32;
+    private static final long ONE_FAILURE = 1L;
+
+    private final Type type;
     private final int windowSize;
-    private final boolean[] callResults; // true = success, false = failure
-    private final AtomicInteger currentIndex = new AtomicInteger(0);
-    private final AtomicLong totalCalls = new AtomicLong(0);
-    private final AtomicInteger successCount = new AtomicInteger(0);
-    private final AtomicInteger failureCount = new AtomicInteger(0);
-    private final Object lock = new Object();
-    
+    private final Window window;
+
     /**
-     * Creates a new sliding window with the specified size.
+     * Creates a new count-based sliding window with the specified size.
      *
      * @param windowSize the maximum number of calls to track
      */
     public SlidingWindow(int windowSize) {
-        if (windowSize <= 0) {
+        this(Type.COUNT_BASED, windowSize, new CountWindow(validateSize(windowSize)));
+    }
+
+    private SlidingWindow(Type type, int windowSize, Window window) {
+        this.type = type;
+        this.windowSize = windowSize;
+        this.window = window;
+    }
+
+    /**
+     * Creates a window over the last {@code windowSize} calls.
+     *
+     * @param windowSize the maximum number of calls to track
+     * @return the window
+     */
+    public static SlidingWindow countBased(int windowSize) {
+        return new SlidingWindow(windowSize);
+    }
+
+    /**
+     * Creates a window over the calls of the last {@code windowDuration}, divided into
+     * {@code buckets} buckets. The window moves on one bucket at a time, so a call stops
+     * counting between {@code windowDuration - windowDuration / buckets} and
+     * {@code windowDuration} after it was recorded.
+     *
+     * @param windowDuration the period covered by the window
+     * @param buckets the number of buckets
+     * @return the window
+     */
+    public static SlidingWindow timeBased(Duration windowDuration, int buckets) {
+        return timeBased(windowDuration, buckets, System::nanoTime);
+    }
+
+    static SlidingWindow timeBased(Duration windowDuration, int buckets, LongSupplier nanoClock) {
+        if (windowDuration == null || windowDuration.isNegative() || windowDuration.isZero()) {
+            throw new IllegalArgumentException("Window duration must be positive");
+        }
+        validateSize(buckets);
+        long bucketNanos = windowDuration.toNanos() / buckets;
+        if (bucketNanos <= 0) {
+            throw new IllegalArgumentException("Window duration is too short for " + buckets + " buckets");
+        }
+        return new SlidingWindow(Type.TIME_BASED, buckets, new TimeWindow(buckets, bucketNanos, nanoClock));
+    }
+
+    private static int validateSize(int size) {
+        if (size <= 0) {
             throw new IllegalArgumentException("Window size must be positive");
         }
-        this.windowSize = windowSize;
-        this.callResults = new boolean[windowSize];
+        return size;
     }
-    
+
     /**
      * Records a successful call.
      */
     public void recordSuccess() {
-        recordCall(true);
+        window.record(SUCCESS);
     }
-    
+
     /**
      * Records a failed call.
      */
     public void recordFailure() {
-        recordCall(false);
-    }
-    
-    /**
-     * Records a call result in the sliding window.
-     */
-    private void recordCall(boolean success) {
-        synchronized (lock) {
-            int index = currentIndex.getAndIncrement() % windowSize;
-            long totalCallsValue = totalCalls.incrementAndGet();
-            
-            // If we're overwriting an existing entry, adjust the counters
-            if (totalCallsValue > windowSize) {
-                boolean oldResult = callResults[index];
-                if (oldResult) {
-                    successCount.decrementAndGet();
-                } else {
-                    failureCount.decrementAndGet();
-                }
-            }
-            
-            // Record the new result
-            callResults[index] = success;
-            if (success) {
-                successCount.incrementAndGet();
-            } else {
-                failureCount.incrementAndGet();
-            }
-        }
+        window.record(FAILURE);
     }
-    
+
+    /**
+     * Records a call.
+     *
+     * @param failed whether the call failed
+     * @param slow whether the call was slow
+     */
+    public void record(boolean failed, boolean slow) {
+        window.record((failed ? FAILURE : SUCCESS) | (slow ? SLOW : 0));
+    }
+
+    /**
+     * Returns the calls, failures and slow calls currently in the window. Calls and
+     * failures are read atomically.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        return window.snapshot();
+    }
+
     /**
      * Gets the current failure rate as a percentage.
      *
      * @return failure rate (0.0 to 100.0)
      */
     public double getFailureRate() {
-        synchronized (lock) {
-            long totalCallsInWindow = Math.min(totalCalls.get(), windowSize);
-            if (totalCallsInWindow == 0) {
-                return 0.0;
-            }
-            return (double) failureCount.get() / totalCallsInWindow * 100.0;
-        }
+        return snapshot().failureRate();
     }
-    
+
     /**
      * Gets the current success rate as a percentage.
      *
@@ -117,68 +181,79 @@ public class SlidingWindow {
     public double getSuccessRate() {
         return 100.0 - getFailureRate();
     }
-    
+
     /**
-     * Gets the total number of calls recorded.
+     * Gets the total number of calls recorded since creation or the last reset.
      *
-     * @return total calls (may exceed window size)
+     * @return total calls (may exceed the calls in the window)
      */
     public long getTotalCalls() {
-        return totalCalls.get();
+        return window.totalCalls();
     }
-    
+
     /**
      * Gets the number of calls currently in the window.
      *
-     * @return calls in window (0 to windowSize)
+     * @return calls in window
      */
     public int getCallsInWindow() {
-        return (int) Math.min(totalCalls.get(), windowSize);
+        return snapshot().calls();
     }
-    
+
     /**
      * Gets the number of successful calls in the window.
      *
      * @return successful calls count
      */
     public int getSuccessCount() {
-        return successCount.get();
+        Snapshot snapshot = snapshot();
+        return snapshot.calls() - snapshot.failures();
     }
-    
+
     /**
      * Gets the number of failed calls in the window.
      *
      * @return failed calls count
      */
     public int getFailureCount() {
-        return failureCount.get();
+        return snapshot().failures();
     }
-    
+
+    /**
+     * Gets the current slow call rate as a percentage.
+     *
+     * @return slow call rate (0.0 to 100.0)
+     */
+    public double getSlowCallRate() {
+        return snapshot().slowCallRate();
+    }
+
     /**
      * Resets the sliding window to its initial state.
      */
     public void reset() {
-        synchronized (lock) {
-            currentIndex.set(0);
-            totalCalls.set(0);
-            successCount.set(0);
-            failureCount.set(0);
-            // Clear the array
-            for (int i = 0; i < windowSize; i++) {
-                callResults[i] = false;
-            }
-        }
+        window.reset();
+    }
+
+    /**
+     * Gets the kind of window.
+     *
+     * @return the window type
+     */
+    public Type getType() {
+        return type;
     }
-    
+
     /**
-     * Gets the window size.
+     * Gets the window size: the number of calls tracked by a count-based window, or the
+     * number of buckets of a time-based window.
      *
      * @return window size
      */
     public int getWindowSize() {
         return windowSize;
     }
-    
+
     /**
      * Checks if the window has enough data for reliable failure rate calculation.
      *
@@ -188,12 +263,224 @@ public class SlidingWindow {
     public boolean hasSufficientData(int minimumCalls) {
         return getCallsInWindow() >= minimumCalls;
     }
-    
+
     @Override
     public String toString() {
+        Snapshot snapshot = snapshot();
         return String.format(
-            "SlidingWindow[size=%d, calls=%d, success=%d, failure=%d, failureRate=%.1f%%]",
-            windowSize, getCallsInWindow(), successCount.get(), failureCount.get(), getFailureRate()
+            "SlidingWindow[type=%s, size=%d, calls=%d, success=%d, failure=%d, slow=%d, failureRate=%.1f%%]",
+            type, windowSize, snapshot.calls(), snapshot.calls() - snapshot.failures(),
+            snapshot.failures(), snapshot.slowCalls(), snapshot.failureRate()
         );
     }
+
+    /**
+     * Calls, failures and slow calls in the window at one point in time.
+     *
+     * @param calls the calls in the window
+     * @param failures the failed calls in the window
+     * @param slowCalls the slow calls in the window, failed or not
+     */
+    public record Snapshot(int calls, int failures, int slowCalls) {
+
+        /**
+         * Returns the failure rate as a percentage, {@code 0.0} if the window is empty.
+         */
+        public double failureRate() {
+            return calls == 0 ? 0.0 : (double) failures / calls * 100.0;
+        }
+
+        /**
+         * Returns the slow call rate as a percentage, {@code 0.0} if the window is empty.
+         */
+        public double slowCallRate() {
+            return calls == 0 ? 0.0 : (double) slowCalls / calls * 100.0;
+        }
+    }
+
+    private static long weight(int outcome) {
+        if (outcome == EMPTY) {
+            return 0L;
+        }
+        return (outcome & FAILURE) != 0 ? ONE_CALL + ONE_FAILURE : ONE_CALL;
+    }
+
+    private static long slowWeight(int outcome) {
+        return (outcome & SLOW) != 0 ? 1L : 0L;
+    }
+
+    /**
+     * Decodes packed counts. Slow calls must have been read before the counts, so that
+     * every slow call read is also among the calls read.
+     */
+    private static Snapshot snapshot(long counts, long slowCalls) {
+        // Evictions may transiently run ahead of the additions they offset
+        int failures = (int) counts;
+        int calls = Math.max(0, (int) ((counts - failures) >> 32));
+        return new Snapshot(calls,
+            Math.max(0, Math.min(failures, calls)),
+            (int) Math.max(0, Math.min(slowCalls, calls)));
+    }
+
+    private interface Window {
+
+        void record(int outcome);
+
+        Snapshot snapshot();
+
+        long totalCalls();
+
+        void reset();
+    }
+
+    /**
+     * Ring buffer of the last N outcomes. Each slot is swapped atomically, so every
+     * outcome is removed from the counts exactly once, by the call that evicts it.
+     */
+    private static final class CountWindow implements Window {
+
+        private final int size;
+        private final AtomicReference<Ring> ring;
+
+        CountWindow(int size) {
+            this.size = size;
+            this.ring = new AtomicReference<>(new Ring(size));
+        }
+
+        @Override
+        public void record(int outcome) {
+            Ring current = ring.get();
+            int slot = (int) (current.cursor.getAndIncrement() % size);
+            int evicted = current.slots.getAndSet(slot, outcome);
+            long delta = weight(outcome) - weight(evicted);
+            if (delta != 0) {
+                current.counts.getAndAdd(delta);
+            }
+            long slowDelta = slowWeight(outcome) - slowWeight(evicted);
+            if (slowDelta != 0) {
+                current.slowCalls.getAndAdd(slowDelta);
+            }
+        }
+
+        @Override
+        public Snapshot snapshot() {
+            Ring current = ring.get();
+            long slowCalls = current.slowCalls.get();
+            return SlidingWindow.snapshot(current.counts.get(), slowCalls);
+        }
+
+        @Override
+        public long totalCalls() {
+            return ring.get().cursor.get();
+        }
+
+        @Override
+        public void reset() {
+            ring.set(new Ring(size));
+        }
+
+        private static final class Ring {
+            final AtomicIntegerArray slots;
+            final AtomicLong cursor = new AtomicLong();
+            final AtomicLong counts = new AtomicLong();
+            final AtomicLong slowCalls = new AtomicLong();
+
+            Ring(int size) {
+                this.slots = new AtomicIntegerArray(size);
+            }
+        }
+    }
+
+    /**
+     * Ring of time buckets. A bucket belongs to one epoch of {@code bucketNanos}; the first
+     * call of a new epoch replaces the expired bucket in its slot with a CAS.
+     */
+    private static final class TimeWindow implements Window {
+
+        private static final Bucket EXPIRED = new Bucket(Long.MIN_VALUE);
+
+        private final int buckets;
+        private final long bucketNanos;
+        private final LongSupplier nanoClock;
+        private final AtomicReference<Buckets> state;
+
+        TimeWindow(int buckets, long bucketNanos, LongSupplier nanoClock) {
+            this.buckets = buckets;
+            this.bucketNanos = bucketNanos;
+            this.nanoClock = nanoClock;
+            this.state = new AtomicReference<>(new Buckets(buckets));
+        }
+
+        @Override
+        public void record(int outcome) {
+            Buckets current = state.get();
+            long epoch = Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+            int index = (int) Math.floorMod(epoch, (long) buckets);
+
+            Bucket bucket = current.ring.get(index);
+            while (bucket.epoch != epoch) {
+                if (bucket.epoch > epoch) {
+                    // A newer epoch has claimed the slot: this call is already out of the window
+                    current.recorded.increment();
+                    return;
+                }
+                Bucket fresh = new Bucket(epoch);
+                Bucket witness = current.ring.compareAndExchange(index, bucket, fresh);
+                bucket = witness == bucket ? fresh : witness;
+            }
+            bucket.counts.getAndAdd(weight(outcome));
+            if ((outcome & SLOW) != 0) {
+                bucket.slowCalls.getAndIncrement();
+            }
+            current.recorded.increment();
+        }
+
+        @Override
+        public Snapshot snapshot() {
+            Buckets current = state.get();
+            long oldest = Math.floorDiv(nanoClock.getAsLong(), bucketNanos) - buckets;
+            long counts = 0;
+            long slowCalls = 0;
+            for (int i = 0; i < buckets; i++) {
+                Bucket bucket = current.ring.get(i);
+                if (bucket.epoch > oldest) {
+                    slowCalls += bucket.slowCalls.get();
+                    counts += bucket.counts.get();
+                }
+            }
+            return SlidingWindow.snapshot(counts, slowCalls);
+        }
+
+        @Override
+        public long totalCalls() {
+            return state.get().recorded.sum();
+        }
+
+        @Override
+        public void reset() {
+            state.set(new Buckets(buckets));
+        }
+
+        private static final class Buckets {
+            final AtomicReferenceArray<Bucket> ring;
+            final LongAdder recorded = new LongAdder();
+
+            Buckets(int size) {
+                this.ring = new AtomicReferenceArray<>(size);
+                for (int i = 0; i < size; i++) {
+                    ring.set(i, EXPIRED);
+                }
+            }
+        }
+
+        private static final class Bucket {
+            final long epoch;
+            final AtomicLong counts = new AtomicLong();
+            final AtomicLong slowCalls = new AtomicLong();
+
+            Bucket(long epoch) {
+                this.epoch = epoch;
+            }
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link CacheWeighers}.
+ */
+@DisplayName("Cache Weigher Tests")
+class CacheWeighersTest {
+
+    private final CacheWeigher weigher = CacheWeighers.estimatedSize();
+
+    @Test
+    @DisplayName("Should weigh strings by their length")
+    void shouldWeighStringsByLength() {
+        // When
+        int empty = weigher.weigh("key", "");
+        int large = weigher.weigh("key", "x".repeat(1_000));
+
+        // Then
+        assertThat(empty).isPositive();
+        assertThat(large - empty).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("Should walk collections, maps and arrays")
+    void shouldWalkContainers() {
+        // When
+        int list = weigher.weigh("key", List.of(new byte[1_000], new byte[1_000]));
+        int map = weigher.weigh("key", Map.of("a", new long[100]));
+
+        // Then
+        assertThat(list).isGreaterThan(2_000);
+        assertThat(map).isGreaterThan(800);
+    }
+
+    @Test
+    @DisplayName("Should weigh the body and headers of cached responses")
+    void shouldWeighInterceptorResponses() {
+        // Given
+        InterceptorResponse response = mock(InterceptorResponse.class);
+        when(response.getBody()).thenReturn("x".repeat(5_000));
+        when(response.getHeaders()).thenReturn(Map.of("ETag", "\"v1\""));
+
+        // When
+        int weight = weigher.weigh("key", response);
+
+        // Then
+        assertThat(weight).isGreaterThan(5_000);
+    }
+
+    @Test
+    @DisplayName("Should weigh other objects by their JSON form")
+    void shouldWeighObjectsBySerializedSize() {
+        // Given
+        CacheWeigher serialized = CacheWeighers.serializedSize(new ObjectMapper());
+
+        // When
+        int empty = serialized.weigh("key", null);
+        int item = serialized.weigh("key", new Item("widget", 3));
+
+        // Then
+        assertThat(item - empty).isEqualTo("{\"name\":\"widget\",\"quantity\":3}".length());
+        assertThat(weigher.weigh("key", new Item("widget", 3))).isEqualTo(item);
+    }
+
+    @Test
+    @DisplayName("Should give a fixed weight to objects that cannot be serialized")
+    void shouldWeighUnserializableObjects() {
+        // When
+        int weight = weigher.weigh("key", new Unserializable());
+
+        // Then
+        assertThat(weight).isGreaterThan(weigher.weigh("key", null));
+    }
+
+    record Item(String name, int quantity) {
+    }
+
+    static class Unserializable {
+        public String getValue() {
+            throw new IllegalStateException("Not serializable");
+        }
+    }
+}
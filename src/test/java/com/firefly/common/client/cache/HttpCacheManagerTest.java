@@ -16,16 +16,30 @@
 
 package com.firefly.common.client.cache;
 
+import com.firefly.common.client.cache.HttpCacheManager.CacheEntry;
 import com.firefly.common.client.cache.HttpCacheManager.CacheStatistics;
+import com.firefly.common.client.cache.HttpCacheManager.Revalidation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 /**
  * Tests for HttpCacheManager.
@@ -279,5 +293,468 @@ class HttpCacheManagerTest {
         // Then
         assertThat(smallCache.getStatistics().size()).isLessThanOrEqualTo(2);
     }
-}
 
+    @Test
+    void shouldKeepFrequentlyUsedEntriesDuringScan() {
+        // Given
+        HttpCacheManager smallCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .defaultTtl(Duration.ofMinutes(5))
+            .maxCacheSize(100)
+            .build());
+        for (int i = 0; i < 20; i++) {
+            smallCache.put("hot" + i, "value" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 20; i++) {
+                smallCache.get("hot" + i);
+            }
+        }
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            smallCache.put("scan" + i, "value" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 20; i++) {
+            assertThat(smallCache.get("hot" + i)).isPresent();
+        }
+        CacheStatistics stats = smallCache.getStatistics();
+        assertThat(stats.size()).isLessThanOrEqualTo(100);
+        assertThat(stats.evictions()).isGreaterThan(0);
+    }
+
+    @Test
+    void shouldBoundCacheByEstimatedBytes() {
+        // Given
+        HttpCacheManager boundedCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .maxCacheSize(1000)
+            .maxCacheBytes(10_000)
+            .build());
+        String body = "x".repeat(2_000);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            boundedCache.put("key" + i, body);
+        }
+
+        // Then
+        CacheStatistics stats = boundedCache.getStatistics();
+        assertThat(stats.weight()).isPositive().isLessThanOrEqualTo(10_000);
+        assertThat(stats.size()).isBetween(1, 4);
+        assertThat(stats.evictions()).isEqualTo(10 - stats.size());
+    }
+
+    @Test
+    void shouldNotRetainEntryLargerThanMaxCacheBytes() {
+        // Given
+        HttpCacheManager boundedCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .maxCacheBytes(10_000)
+            .weigher((key, value) -> value instanceof byte[] bytes ? bytes.length : 100)
+            .build());
+        boundedCache.put("small", "value");
+
+        // When
+        boundedCache.put("large", new byte[20_000]);
+
+        // Then
+        assertThat(boundedCache.get("large")).isEmpty();
+        assertThat(boundedCache.get("small")).isPresent();
+        assertThat(boundedCache.getStatistics().weight()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldRenewExpiredEntryWhenNotModified() throws InterruptedException {
+        // Given
+        HttpCacheManager shortTtlCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .defaultTtl(Duration.ofMillis(100))
+            .build());
+        ConditionalFetch fetch = new ConditionalFetch(Mono.just("value-v1"));
+        StepVerifier.create(shortTtlCache.getOrRevalidate("key", fetch))
+            .expectNext("value-v1")
+            .verifyComplete();
+        Thread.sleep(150);
+
+        // When
+        fetch.response = Mono.just(ConditionalFetch.NOT_MODIFIED);
+
+        // Then
+        StepVerifier.create(shortTtlCache.getOrRevalidate("key", fetch))
+            .expectNext("value-v1")
+            .verifyComplete();
+        assertThat(fetch.lastStale.get().getEtag()).isEqualTo("\"value-v1\"");
+        assertThat(shortTtlCache.get("key")).map(CacheEntry::getValue).contains("value-v1");
+        assertThat(shortTtlCache.getStatistics().revalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeStaleValueWhileRevalidating() throws InterruptedException {
+        // Given
+        HttpCacheManager staleCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .defaultTtl(Duration.ofMillis(100))
+            .staleWhileRevalidate(Duration.ofMinutes(1))
+            .build());
+        staleCache.put("key", "value-v1");
+        Thread.sleep(150);
+        ConditionalFetch fetch = new ConditionalFetch(Mono.just("value-v2").delayElement(Duration.ofMillis(50)));
+
+        // When
+        StepVerifier.create(staleCache.getOrRevalidate("key", fetch))
+            .expectNext("value-v1")
+            .verifyComplete();
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+            assertThat(staleCache.get("key")).map(CacheEntry::getValue).contains("value-v2"));
+        assertThat(fetch.calls.get()).isEqualTo(1);
+        assertThat(staleCache.getStatistics().staleHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeStaleValueOnError() throws InterruptedException {
+        // Given
+        HttpCacheManager staleCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .defaultTtl(Duration.ofMillis(100))
+            .staleIfError(Duration.ofMinutes(1))
+            .build());
+        staleCache.put("key", "value-v1");
+        Thread.sleep(150);
+
+        // When
+        Mono<String> result = staleCache.getOrExecute("key", Mono.error(new IllegalStateException("down")));
+
+        // Then
+        StepVerifier.create(result)
+            .expectNext("value-v1")
+            .verifyComplete();
+        assertThat(staleCache.getStatistics().staleHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPropagateErrorWithoutStaleIfError() throws InterruptedException {
+        // Given
+        HttpCacheManager shortTtlCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .defaultTtl(Duration.ofMillis(100))
+            .build());
+        shortTtlCache.put("key", "value-v1");
+        Thread.sleep(150);
+
+        // When
+        Mono<String> result = shortTtlCache.getOrExecute("key", Mono.error(new IllegalStateException("down")));
+
+        // Then
+        StepVerifier.create(result)
+            .expectError(IllegalStateException.class)
+            .verify();
+    }
+
+    @Test
+    void shouldDropExpiredEntryWithoutValidatorsWhenLoadFails() throws InterruptedException {
+        // Given
+        HttpCacheManager shortTtlCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .defaultTtl(Duration.ofMillis(100))
+            .build());
+        shortTtlCache.put("key", "value-v1");
+        Thread.sleep(150);
+
+        // When
+        StepVerifier.create(shortTtlCache.getOrExecute("key", Mono.<String>error(new IllegalStateException("down"))))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        // Then
+        assertThat(shortTtlCache.getStatistics().size()).isZero();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMisses() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Mono<Integer> request = Mono.fromCallable(calls::incrementAndGet).delayElement(Duration.ofMillis(100));
+
+        // When
+        Flux<Integer> results = Flux.range(0, 10)
+            .flatMap(i -> cacheManager.getOrExecute("key", request));
+
+        // Then
+        StepVerifier.create(results.collectList())
+            .assertNext(values -> assertThat(values).hasSize(10).containsOnly(1))
+            .verifyComplete();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cacheManager.get("key")).map(CacheEntry::getValue).contains(1);
+    }
+
+    @Test
+    void shouldNotCacheFailedLoads() {
+        // Given
+        StepVerifier.create(cacheManager.getOrExecute("key", Mono.error(new IllegalStateException("down"))))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        // When
+        Mono<String> result = cacheManager.getOrExecute("key", Mono.just("value"));
+
+        // Then
+        StepVerifier.create(result)
+            .expectNext("value")
+            .verifyComplete();
+        assertThat(cacheManager.getStatistics().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRefreshHotEntryBeforeExpiry() {
+        // Given
+        HttpCacheManager earlyRefreshCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .defaultTtl(Duration.ofSeconds(1))
+            .earlyRefreshBeta(1_000_000)
+            .build());
+        AtomicInteger calls = new AtomicInteger();
+        Mono<Integer> request = Mono.fromCallable(calls::incrementAndGet).delayElement(Duration.ofMillis(20));
+        StepVerifier.create(earlyRefreshCache.getOrExecute("key", request))
+            .expectNext(1)
+            .verifyComplete();
+
+        // When
+        StepVerifier.create(earlyRefreshCache.getOrExecute("key", request))
+            .expectNext(1)
+            .verifyComplete();
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+            assertThat(earlyRefreshCache.get("key")).map(CacheEntry::getValue).contains(2));
+        assertThat(earlyRefreshCache.getStatistics().earlyRefreshes()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStoreSerializedEntriesOffHeap() {
+        // Given
+        HttpCacheManager offHeapCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .storageType(HttpCacheConfig.CacheStorageType.OFF_HEAP)
+            .maxCacheBytes(1_000_000)
+            .build());
+        Map<String, Object> value = Map.of("id", 42, "tags", List.of("a", "b"));
+
+        // When
+        offHeapCache.put("key", value, "\"v1\"", null);
+
+        // Then
+        Optional<CacheEntry> cached = offHeapCache.get("key");
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getValue()).isEqualTo(value).isNotSameAs(value);
+        assertThat(cached.get().getEtag()).isEqualTo("\"v1\"");
+        assertThat(offHeapCache.getStatistics().weight()).isPositive();
+    }
+
+    @Test
+    void shouldBoundOffHeapStorageBySerializedBytes() {
+        // Given
+        HttpCacheManager offHeapCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .storageType(HttpCacheConfig.CacheStorageType.OFF_HEAP)
+            .maxCacheBytes(10_000)
+            .slabSize(1_024)
+            .build());
+        String body = "x".repeat(2_000);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            offHeapCache.put("key" + i, body);
+        }
+
+        // Then
+        CacheStatistics stats = offHeapCache.getStatistics();
+        assertThat(stats.weight()).isPositive().isLessThanOrEqualTo(10_000);
+        assertThat(stats.size()).isBetween(1, 4);
+        for (int i = 0; i < 10; i++) {
+            offHeapCache.get("key" + i).ifPresent(entry -> assertThat(entry.getValue()).isEqualTo(body));
+        }
+    }
+
+    @Test
+    void shouldServeHotOffHeapEntriesWithoutDeserializing() {
+        // Given
+        HttpCacheManager offHeapCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .storageType(HttpCacheConfig.CacheStorageType.OFF_HEAP)
+            .maxCacheBytes(1_000_000)
+            .hotTierSize(10)
+            .build());
+        offHeapCache.put("key", List.of("a", "b"));
+
+        // When
+        Object first = offHeapCache.get("key").map(CacheEntry::getValue).orElseThrow();
+        Object second = offHeapCache.get("key").map(CacheEntry::getValue).orElseThrow();
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldRequireMaxCacheBytesForOffHeapStorage() {
+        // Given
+        HttpCacheConfig offHeapConfig = HttpCacheConfig.builder()
+            .enabled(true)
+            .storageType(HttpCacheConfig.CacheStorageType.OFF_HEAP)
+            .build();
+
+        // When & Then
+        assertThatThrownBy(() -> new HttpCacheManager(offHeapConfig))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxCacheBytes");
+    }
+
+    @Test
+    void shouldReloadDiskEntriesAfterRestart(@TempDir Path directory) {
+        // Given
+        HttpCacheConfig diskConfig = diskConfig(directory, 64 * 1024);
+        HttpCacheManager before = new HttpCacheManager(diskConfig);
+        before.put("kept", "value", "\"v1\"", null);
+        before.put("invalidated", "value");
+        before.invalidate("invalidated");
+        before.shutdown();
+
+        // When
+        HttpCacheManager after = new HttpCacheManager(diskConfig);
+
+        // Then
+        Optional<CacheEntry> cached = after.get("kept");
+        assertThat(cached).map(CacheEntry::getValue).contains("value");
+        assertThat(cached).map(CacheEntry::getEtag).contains("\"v1\"");
+        assertThat(after.get("invalidated")).isEmpty();
+        after.shutdown();
+    }
+
+    @Test
+    void shouldSkipCorruptDiskRecordsOnReload(@TempDir Path directory) throws IOException {
+        // Given
+        HttpCacheConfig diskConfig = diskConfig(directory, 64 * 1024);
+        HttpCacheManager before = new HttpCacheManager(diskConfig);
+        before.put("first", "value");
+        before.put("second", "value");
+        before.shutdown();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.toString().endsWith(".segment")).findFirst().orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        int last = bytes.length - 1;
+        while (bytes[last] == 0) {
+            last--;
+        }
+        bytes[last] ^= 1;
+        Files.write(segment, bytes);
+
+        // When
+        HttpCacheManager after = new HttpCacheManager(diskConfig);
+
+        // Then
+        assertThat(after.get("first")).map(CacheEntry::getValue).contains("value");
+        assertThat(after.get("second")).isEmpty();
+        after.shutdown();
+    }
+
+    @Test
+    void shouldBoundDiskSegmentsByCompacting(@TempDir Path directory) throws IOException {
+        // Given
+        HttpCacheManager diskCache = new HttpCacheManager(diskConfig(directory, 4_096));
+        String body = "x".repeat(500);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            diskCache.put("key" + (i % 10), body + i);
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.filter(file -> file.toString().endsWith(".segment")).count()).isLessThanOrEqualTo(5);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(diskCache.get("key" + i)).map(CacheEntry::getValue).contains(body + (190 + i));
+        }
+        diskCache.shutdown();
+    }
+
+    @Test
+    void shouldKeepCachingWhenLargeRecordsFillDiskSegments(@TempDir Path directory) throws IOException {
+        // Given - Two records fit in a segment, leaving a quarter of it unused
+        HttpCacheManager diskCache = new HttpCacheManager(HttpCacheConfig.builder()
+            .enabled(true)
+            .storageType(HttpCacheConfig.CacheStorageType.DISK)
+            .diskDirectory(directory)
+            .segmentSize(4_096)
+            .maxCacheBytes(40_000)
+            .build());
+        String body = "x".repeat(1_400);
+
+        // When - More keys than fit in the segments are written over and over
+        int cached = 0;
+        for (int i = 0; i < 2_000; i++) {
+            String key = "key" + (i % 40);
+            diskCache.put(key, body + i);
+            if (diskCache.get(key).map(CacheEntry::getValue).filter((body + i)::equals).isPresent()) {
+                cached++;
+            }
+        }
+
+        // Then - Puts are still written, evicting entries instead of failing
+        assertThat(cached).isGreaterThan(1_950);
+        assertThat(diskCache.getStatistics().size()).isGreaterThanOrEqualTo(20);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.filter(file -> file.toString().endsWith(".segment")).count()).isLessThanOrEqualTo(14);
+        }
+        diskCache.shutdown();
+    }
+
+    private static HttpCacheConfig diskConfig(Path directory, int segmentSize) {
+        return HttpCacheConfig.builder()
+            .enabled(true)
+            .storageType(HttpCacheConfig.CacheStorageType.DISK)
+            .diskDirectory(directory)
+            .segmentSize(segmentSize)
+            .maxCacheBytes(10_000)
+            .build();
+    }
+
+    /**
+     * Revalidation whose responses are their own ETags, answering {@link #NOT_MODIFIED} for a 304.
+     */
+    private static final class ConditionalFetch implements Revalidation<String> {
+        static final String NOT_MODIFIED = "304";
+
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicReference<CacheEntry> lastStale = new AtomicReference<>();
+        volatile Mono<String> response;
+
+        ConditionalFetch(Mono<String> response) {
+            this.response = response;
+        }
+
+        @Override
+        public Mono<String> fetch(CacheEntry stale) {
+            calls.incrementAndGet();
+            lastStale.set(stale);
+            return response;
+        }
+
+        @Override
+        public boolean isNotModified(String response) {
+            return NOT_MODIFIED.equals(response);
+        }
+
+        @Override
+        public String etag(String response) {
+            return "\"" + response + "\"";
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.firefly.common.client.dynamic.DynamicJsonResponse;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CacheSerializers#json()}.
+ */
+@DisplayName("Cache Serializer Tests")
+class JacksonCacheSerializerTest {
+
+    private final CacheSerializer serializer = CacheSerializers.json();
+
+    @Test
+    @DisplayName("Should restore values as their own type")
+    void shouldRestoreValuesAsTheirType() throws IOException {
+        // Given
+        Item item = new Item("widget", 3);
+
+        // When
+        Object restored = serializer.deserialize(serializer.serialize(item));
+
+        // Then
+        assertThat(restored).isEqualTo(item).isNotSameAs(item);
+    }
+
+    @Test
+    @DisplayName("Should restore responses with the declared generic body type")
+    void shouldRestoreResponsesWithDeclaredBodyType() throws IOException {
+        // Given
+        Type bodyType = new TypeReference<List<Item>>() { }.getType();
+        InterceptorResponse response = CachedResponse.of(
+                List.of(new Item("widget", 3)), 200, Map.of("ETag", "\"v1\""), null)
+            .withAttribute(InterceptorResponse.BODY_TYPE_ATTRIBUTE, bodyType);
+
+        // When
+        Object restored = serializer.deserialize(serializer.serialize(response));
+
+        // Then
+        assertThat(restored).isInstanceOf(InterceptorResponse.class);
+        InterceptorResponse restoredResponse = (InterceptorResponse) restored;
+        assertThat(restoredResponse.getStatusCode()).isEqualTo(200);
+        assertThat(restoredResponse.getHeaders()).containsEntry("etag", "\"v1\"");
+        assertThat(restoredResponse.getBody()).asList().containsExactly(new Item("widget", 3));
+    }
+
+    @Test
+    @DisplayName("Should restore dynamic JSON bodies")
+    void shouldRestoreDynamicJsonBodies() throws IOException {
+        // Given
+        DynamicJsonResponse body = DynamicJsonResponse.fromJson("{\"user\":{\"name\":\"Ada\",\"tags\":[\"a\",\"b\"]}}");
+        InterceptorResponse response = CachedResponse.of(body, 200, Map.of(), null)
+            .withAttribute(InterceptorResponse.BODY_TYPE_ATTRIBUTE, DynamicJsonResponse.class);
+
+        // When
+        Object restored = serializer.deserialize(serializer.serialize(response));
+
+        // Then
+        Object restoredBody = ((InterceptorResponse) restored).getBody();
+        assertThat(restoredBody).isInstanceOf(DynamicJsonResponse.class);
+        assertThat(((DynamicJsonResponse) restoredBody).getString("user.name")).isEqualTo("Ada");
+        assertThat(((DynamicJsonResponse) restoredBody).getJsonNode()).isEqualTo(body.getJsonNode());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed entries")
+    void shouldRejectMalformedEntries() {
+        // Given
+        byte[] malformed = "[1, 2]".getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertThatThrownBy(() -> serializer.deserialize(malformed)).isInstanceOf(IOException.class);
+    }
+
+    record Item(String name, int quantity) {
+    }
+}
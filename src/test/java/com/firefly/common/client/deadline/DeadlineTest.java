@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.deadline;
+
+import com.firefly.common.client.exception.ServiceTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Deadline}.
+ */
+@DisplayName("Deadline Tests")
+class DeadlineTest {
+
+    @Test
+    @DisplayName("Should carry the deadline in the Reactor context")
+    void shouldCarryDeadlineInContext() {
+        // Given
+        Mono<Duration> remaining = Mono.deferContextual(context ->
+            Mono.justOrEmpty(Deadline.current(context).map(Deadline::remaining)));
+
+        // When & Then
+        StepVerifier.create(remaining.contextWrite(Deadline.within(Duration.ofSeconds(2))))
+            .assertNext(duration -> assertThat(duration).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(2)))
+            .verifyComplete();
+        StepVerifier.create(remaining)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep the earlier of two deadlines")
+    void shouldKeepEarlierDeadline() {
+        // Given
+        Context context = Deadline.within(Duration.ofMillis(500)).apply(Context.empty());
+
+        // When
+        Context extended = Deadline.within(Duration.ofMinutes(1)).apply(context);
+        Context shortened = Deadline.within(Duration.ofMillis(100)).apply(context);
+
+        // Then
+        assertThat(Deadline.current(extended).orElseThrow().remaining())
+            .isLessThanOrEqualTo(Duration.ofMillis(500));
+        assertThat(Deadline.current(shortened).orElseThrow().remaining())
+            .isLessThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("Should parse the remaining time sent by an upstream service")
+    void shouldParseHeader() {
+        // When & Then
+        assertThat(Deadline.fromHeader("1500")).hasValueSatisfying(deadline ->
+            assertThat(deadline.remaining()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(1500)));
+        assertThat(Deadline.fromHeader(" 0 ")).hasValueSatisfying(deadline ->
+            assertThat(deadline.isExpired()).isTrue());
+        assertThat(Deadline.fromHeader(null)).isEmpty();
+        assertThat(Deadline.fromHeader("")).isEmpty();
+        assertThat(Deadline.fromHeader("-1")).isEmpty();
+        assertThat(Deadline.fromHeader("soon")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should limit a call timeout to the time remaining")
+    void shouldLimitTimeout() {
+        // Given
+        Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+
+        // When & Then
+        assertThat(deadline.limit(Duration.ofMillis(200))).isEqualTo(Duration.ofMillis(200));
+        assertThat(deadline.limit(Duration.ofSeconds(30))).isLessThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(deadline.limit(null)).isLessThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(Long.parseLong(deadline.toHeaderValue())).isBetween(0L, 1000L);
+    }
+
+    @Test
+    @DisplayName("Should report an expired deadline as a timeout")
+    void shouldReportExpiredDeadline() {
+        // Given
+        Deadline deadline = Deadline.after(Duration.ofMillis(-1));
+
+        // When
+        ServiceTimeoutException exception = deadline.exceeded("user-service");
+
+        // Then
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remaining()).isZero();
+        assertThat(deadline.toHeaderValue()).isEqualTo("0");
+        assertThat(exception.getMessage()).contains("user-service");
+    }
+}
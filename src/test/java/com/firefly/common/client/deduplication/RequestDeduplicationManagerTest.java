@@ -19,14 +19,18 @@ package com.firefly.common.client.deduplication;
 import com.firefly.common.client.deduplication.RequestDeduplicationManager.DeduplicationStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 /**
  * Tests for RequestDeduplicationManager.
@@ -140,5 +144,25 @@ class RequestDeduplicationManagerTest {
         assertThat(stats.completedRequests()).isEqualTo(2);
         assertThat(stats.inFlightRequests()).isZero();
     }
-}
 
+    @Test
+    void shouldShareOneRequestBetweenConcurrentCallers() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        Mono<String> request = Mono.fromCallable(executions::incrementAndGet)
+            .delayElement(Duration.ofMillis(100))
+            .map(count -> "result-" + count);
+
+        // When: 64 callers race for the same key
+        Flux<String> results = Flux.range(0, 64)
+            .flatMap(i -> manager.executeWithDeduplication("race-key", request)
+                .subscribeOn(Schedulers.parallel()));
+
+        // Then
+        StepVerifier.create(results)
+            .expectNextCount(64)
+            .verifyComplete();
+        assertThat(executions).hasValue(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> manager.getStatistics().inFlightRequests() == 0);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.deduplication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link SingleFlight}.
+ */
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Should share the call in flight")
+    void shouldShareCallInFlight() {
+        // Given: A call that completes when the sink emits
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> sink = Sinks.one();
+        Mono<String> first = singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return sink.asMono();
+        });
+        Mono<String> second = singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        // When: Both callers wait while the call is in flight
+        Flux<String> results = Flux.merge(first, second);
+
+        // Then
+        StepVerifier.create(results)
+            .then(() -> assertThat(singleFlight.isInFlight("key")).isTrue())
+            .then(() -> sink.tryEmitValue("shared"))
+            .expectNext("shared", "shared")
+            .verifyComplete();
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should start a new call once the previous one terminated")
+    void shouldNotCacheCompletedCalls() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Mono<Integer> call = singleFlight.execute("key", () -> Mono.fromCallable(calls::incrementAndGet));
+
+        // When & Then
+        StepVerifier.create(call).expectNext(1).verifyComplete();
+        StepVerifier.create(call).expectNext(2).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not share calls with different keys")
+    void shouldKeepKeysApart() {
+        // Given
+        Mono<String> first = singleFlight.execute("a", () -> Mono.just("a").delayElement(Duration.ofMillis(50)));
+        Mono<String> second = singleFlight.execute("b", () -> Mono.just("b").delayElement(Duration.ofMillis(50)));
+
+        // When & Then
+        StepVerifier.create(Flux.merge(first, second).sort())
+            .expectNext("a", "b")
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should share errors and forget the failed call")
+    void shouldShareErrors() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> call = singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return Mono.<String>error(new IllegalStateException("boom")).delaySubscription(Duration.ofMillis(50));
+        });
+
+        // When & Then
+        StepVerifier.create(Flux.merge(call, call))
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(5));
+        assertThat(calls).hasValue(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> singleFlight.size() == 0);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.dynamic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DynamicJsonResponseDecoder}.
+ */
+@DisplayName("DynamicJsonResponse Decoder Tests")
+class DynamicJsonResponseDecoderTest {
+
+    private static final ResolvableType DYNAMIC_TYPE = ResolvableType.forClass(DynamicJsonResponse.class);
+
+    private final DynamicJsonResponseDecoder decoder = new DynamicJsonResponseDecoder();
+
+    @Test
+    @DisplayName("Should only decode DynamicJsonResponse from JSON or mislabelled text")
+    void shouldDecodeOnlyDynamicJsonResponse() {
+        assertThat(decoder.canDecode(DYNAMIC_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(decoder.canDecode(DYNAMIC_TYPE, MediaType.TEXT_PLAIN)).isTrue();
+        assertThat(decoder.canDecode(DYNAMIC_TYPE, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(decoder.canDecode(ResolvableType.forClass(Map.class), MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should decode a body split across buffers into one response")
+    void shouldDecodeSplitBody() {
+        // Given
+        Flux<DataBuffer> body = Flux.just(buffer("{\"user\": {\"na"), buffer("me\": \"John\"}, \"age\": 30}"));
+
+        // When & Then
+        StepVerifier.create(decoder.decodeToMono(body, DYNAMIC_TYPE, MediaType.APPLICATION_JSON, Map.of()))
+            .assertNext(response -> {
+                assertThat(response.getString("user.name")).isEqualTo("John");
+                assertThat(response.getInt("age")).isEqualTo(30);
+                assertThat(response.toJson()).isEqualTo("{\"user\":{\"name\":\"John\"},\"age\":30}");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should emit one response per element of a JSON array")
+    void shouldDecodeArrayElements() {
+        // Given
+        Flux<DataBuffer> body = Flux.just(buffer("[{\"id\": 1}, {\"id\""), buffer(": 2}]"));
+
+        // When & Then
+        StepVerifier.create(decoder.decode(body, DYNAMIC_TYPE, MediaType.APPLICATION_JSON, Map.of())
+                .map(response -> response.getInt("id")))
+            .expectNext(1, 2)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should parse text/plain bodies as JSON")
+    void shouldDecodeTextPlain() {
+        // Given
+        Flux<DataBuffer> body = Flux.just(buffer("{\"status\": \"UP\"}"));
+
+        // When & Then
+        StepVerifier.create(decoder.decodeToMono(body, DYNAMIC_TYPE, MediaType.TEXT_PLAIN, Map.of()))
+            .assertNext(response -> assertThat(response.getString("status")).isEqualTo("UP"))
+            .verifyComplete();
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.id;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RequestIdGenerators}.
+ */
+@DisplayName("Request ID Generator Tests")
+class RequestIdGeneratorsTest {
+
+    @Test
+    @DisplayName("Should generate version 4 UUIDs from ThreadLocalRandom")
+    void shouldGenerateRandomUuids() {
+        // When
+        UUID uuid = UUID.fromString(RequestIdGenerators.randomUuid().generate());
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(4);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing ULIDs")
+    void shouldGenerateMonotonicUlids() {
+        // Given
+        RequestIdGenerator generator = RequestIdGenerators.ulid();
+        String previous = generator.generate();
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.generate();
+            assertThat(next).hasSize(26).matches("[0-9A-HJKMNP-TV-Z]{26}");
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate unique ULIDs across threads")
+    void shouldGenerateUniqueUlidsConcurrently() throws InterruptedException {
+        // Given
+        RequestIdGenerator generator = RequestIdGenerators.ulid();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    ids.add(generator.generate());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("Should reuse the active trace ID")
+    void shouldReuseActiveTraceId() {
+        // Given
+        Tracer tracer = mock(Tracer.class);
+        Span span = mock(Span.class);
+        TraceContext context = mock(TraceContext.class);
+        when(tracer.currentSpan()).thenReturn(span);
+        when(span.context()).thenReturn(context);
+        when(context.traceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+
+        RequestIdGenerator generator = RequestIdGenerators.traceContext(tracer, () -> "fallback");
+
+        // When
+        String first = generator.generate();
+        String second = generator.generate();
+
+        // Then
+        assertThat(first).matches("4bf92f3577b34da6a3ce929d0e0e4736-[0-9a-f]{16}");
+        assertThat(second).startsWith("4bf92f3577b34da6a3ce929d0e0e4736-").isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should fall back when no trace is active")
+    void shouldFallBackWithoutTrace() {
+        // Given
+        Tracer tracer = mock(Tracer.class);
+        when(tracer.currentSpan()).thenReturn(null);
+
+        RequestIdGenerator generator = RequestIdGenerators.traceContext(tracer, () -> "fallback");
+
+        // When & Then
+        assertThat(generator.generate()).isEqualTo("fallback");
+    }
+}
@@ -1,6 +1,8 @@
 package com.firefly.common.client.impl;
 
 import com.firefly.common.client.ClientType;
+import com.firefly.common.client.deadline.Deadline;
+import com.firefly.common.client.exception.ServiceTimeoutException;
 import com.firefly.common.resilience.CircuitBreakerConfig;
 import com.firefly.common.resilience.CircuitBreakerManager;
 import io.grpc.ManagedChannel;
@@ -13,6 +15,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -284,4 +288,39 @@ class GrpcServiceClientImplTest {
         // Clean up
         testClient.shutdown();
     }
+
+    @Test
+    void testUnaryCallUsesContextDeadline() {
+        // Given - A 30 second client timeout and a 2 second deadline in the Reactor context
+        Mono<Long> remainingMillis = grpcClient.unary(stub -> io.grpc.Context.current().getDeadline()
+                .timeRemaining(TimeUnit.MILLISECONDS))
+            .contextWrite(Deadline.within(Duration.ofSeconds(2)));
+
+        // When & Then - The gRPC deadline is the earlier of the two
+        StepVerifier.create(remainingMillis)
+            .assertNext(remaining -> assertThat(remaining).isBetween(1L, 2000L))
+            .verifyComplete();
+    }
+
+    @Test
+    void testUnaryCallFailsFastWhenDeadlineExpired() {
+        // Given
+        AtomicBoolean invoked = new AtomicBoolean();
+
+        // When
+        Mono<String> operation = grpcClient.unary(stub -> {
+                invoked.set(true);
+                return "unexpected";
+            })
+            .contextWrite(Deadline.within(Duration.ZERO));
+
+        // Then - The call is not made and not counted by the circuit breaker
+        StepVerifier.create(operation)
+            .expectError(ServiceTimeoutException.class)
+            .verify();
+        assertThat(invoked).isFalse();
+        assertThat(circuitBreakerManager.getMetrics("test-grpc-service")).satisfiesAnyOf(
+            metrics -> assertThat(metrics).isNull(),
+            metrics -> assertThat(metrics.getTotalCalls()).isZero());
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.impl;
+
+import com.firefly.common.client.interceptor.InterceptorChain;
+import com.firefly.common.client.interceptor.InterceptorRequest;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import com.firefly.common.client.interceptor.ServiceClientInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link InterceptorPipeline}.
+ */
+@DisplayName("Interceptor Pipeline Tests")
+class InterceptorPipelineTest {
+
+    private final InterceptorResponse terminalResponse = mock(InterceptorResponse.class);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should run interceptors by order, keeping registration order for ties")
+    void shouldRunInterceptorsByOrder() {
+        // Given
+        List<String> calls = new CopyOnWriteArrayList<>();
+        InterceptorPipeline pipeline = InterceptorPipeline.of(List.of(
+            recording("c", 50, calls),
+            recording("a", 10, calls),
+            recording("b1", 20, calls),
+            recording("b2", 20, calls)));
+
+        // When & Then
+        StepVerifier.create(pipeline.execute(request()))
+            .expectNext(terminalResponse)
+            .verifyComplete();
+
+        assertThat(calls).containsExactly("a", "b1", "b2", "c");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should skip interceptors that do not apply to the request")
+    void shouldSkipInterceptorsThatDoNotApply() {
+        // Given
+        List<String> calls = new CopyOnWriteArrayList<>();
+        ServiceClientInterceptor postOnly = new ServiceClientInterceptor() {
+            @Override
+            public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+                calls.add("postOnly");
+                return chain.proceed(request);
+            }
+
+            @Override
+            public boolean shouldIntercept(InterceptorRequest request) {
+                return "POST".equals(request.getMethod());
+            }
+        };
+        InterceptorPipeline pipeline = InterceptorPipeline.of(List.of(postOnly, recording("all", 10, calls)));
+
+        // When & Then
+        StepVerifier.create(pipeline.execute(request()))
+            .expectNext(terminalResponse)
+            .verifyComplete();
+
+        assertThat(calls).containsExactly("all");
+    }
+
+    @Test
+    @DisplayName("Should let an interceptor short-circuit the chain")
+    void shouldShortCircuit() {
+        // Given
+        InterceptorResponse cached = mock(InterceptorResponse.class);
+        List<String> calls = new CopyOnWriteArrayList<>();
+        InterceptorPipeline pipeline = InterceptorPipeline.of(List.of(
+            (request, chain) -> Mono.just(cached),
+            recording("later", 10, calls)));
+
+        // When & Then
+        StepVerifier.create(pipeline.execute(request()))
+            .expectNext(cached)
+            .verifyComplete();
+
+        assertThat(calls).isEmpty();
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should allow proceeding more than once through the same chain")
+    void shouldAllowRepeatedProceed() {
+        // Given
+        List<String> calls = new CopyOnWriteArrayList<>();
+        ServiceClientInterceptor retrying = (request, chain) ->
+            chain.proceed(request).then(chain.proceed(request.withHeader("X-Attempt", "2")));
+        ServiceClientInterceptor attempts = new ServiceClientInterceptor() {
+            @Override
+            public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+                calls.add(request.getHeaders().getOrDefault("x-attempt", "1"));
+                return chain.proceed(request);
+            }
+
+            @Override
+            public int getOrder() {
+                return 10;
+            }
+        };
+        InterceptorPipeline pipeline = InterceptorPipeline.of(List.of(retrying, attempts));
+
+        // When & Then
+        StepVerifier.create(pipeline.execute(request()))
+            .expectNext(terminalResponse)
+            .verifyComplete();
+
+        assertThat(calls).containsExactly("1", "2");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should expose the position of each chain link")
+    void shouldExposeChainPosition() {
+        // Given
+        ServiceClientInterceptor first = recording("first", 1, new CopyOnWriteArrayList<>());
+        List<Integer> indexes = new CopyOnWriteArrayList<>();
+        List<List<ServiceClientInterceptor>> remaining = new CopyOnWriteArrayList<>();
+        ServiceClientInterceptor second = new ServiceClientInterceptor() {
+            @Override
+            public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+                indexes.add(chain.getCurrentIndex());
+                remaining.add(chain.getRemainingInterceptors());
+                return chain.proceed(request);
+            }
+
+            @Override
+            public int getOrder() {
+                return 2;
+            }
+        };
+        InterceptorPipeline pipeline = InterceptorPipeline.of(List.of(second, first));
+
+        // When
+        pipeline.execute(request()).block();
+
+        // Then
+        assertThat(pipeline.getInterceptors()).containsExactly(first, second);
+        assertThat(indexes).containsExactly(2);
+        assertThat(remaining).containsExactly(List.of());
+    }
+
+    @Test
+    @DisplayName("Should reject requests that cannot be executed")
+    void shouldRejectForeignRequests() {
+        // Given
+        InterceptorRequest foreign = mock(InterceptorRequest.class);
+        InterceptorPipeline pipeline = InterceptorPipeline.of(List.of(
+            (request, chain) -> chain.proceed(foreign)));
+
+        // When & Then
+        StepVerifier.create(pipeline.execute(request()))
+            .expectError(IllegalStateException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should be empty without interceptors")
+    void shouldBeEmptyWithoutInterceptors() {
+        assertThat(InterceptorPipeline.of(null).isEmpty()).isTrue();
+        assertThat(InterceptorPipeline.of(List.of()).isEmpty()).isTrue();
+    }
+
+    private RestInterceptorRequest request() {
+        return new RestInterceptorRequest("user-service", "GET", "/users/{id}", null,
+            Map.of(), Map.of("id", 1), Map.of(), Duration.ofSeconds(5),
+            request -> Mono.fromSupplier(() -> {
+                executions.incrementAndGet();
+                return terminalResponse;
+            }));
+    }
+
+    private static ServiceClientInterceptor recording(String name, int order, List<String> calls) {
+        return new ServiceClientInterceptor() {
+            @Override
+            public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+                calls.add(name);
+                return chain.proceed(request);
+            }
+
+            @Override
+            public int getOrder() {
+                return order;
+            }
+        };
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link UriTemplate}.
+ */
+@DisplayName("URI Template Tests")
+class UriTemplateTest {
+
+    private static final String BASE_URL = "http://localhost:8080";
+
+    @Test
+    @DisplayName("Should expand path variables and prepend the base URL")
+    void shouldExpandPathVariables() {
+        // Given
+        UriTemplate template = UriTemplate.compile("/users/{id}/accounts/{accountId}");
+
+        // When
+        String uri = template.expand(BASE_URL, Map.of("id", 123, "accountId", "acc-42"), Map.of());
+
+        // Then
+        assertThat(uri).isEqualTo("http://localhost:8080/users/123/accounts/acc-42");
+        assertThat(template.getVariableCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should percent-encode path variable values")
+    void shouldEncodePathValues() {
+        // Given
+        UriTemplate template = UriTemplate.compile("/files/{name}");
+
+        // When
+        String uri = template.expand(BASE_URL, Map.of("name", "a b/ü"), Map.of());
+
+        // Then
+        assertThat(uri).isEqualTo("http://localhost:8080/files/a%20b%2F%C3%BC");
+    }
+
+    @Test
+    @DisplayName("Should percent-encode query parameters and expand iterables")
+    void shouldEncodeQueryParameters() {
+        // Given
+        UriTemplate template = UriTemplate.compile("/search");
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("q", "x&y=z+1 #");
+        query.put("tag", List.of("a", "b"));
+
+        // When
+        String uri = template.expand(BASE_URL, Map.of(), query);
+
+        // Then
+        assertThat(uri).isEqualTo("http://localhost:8080/search?q=x%26y%3Dz%2B1%20%23&tag=a&tag=b");
+    }
+
+    @Test
+    @DisplayName("Should append to a query string already present in the template")
+    void shouldAppendToExistingQuery() {
+        // Given
+        UriTemplate template = UriTemplate.compile("/users?active=true");
+
+        // When
+        String uri = template.expand(BASE_URL, Map.of(), Map.of("page", 2));
+
+        // Then
+        assertThat(uri).isEqualTo("http://localhost:8080/users?active=true&page=2");
+    }
+
+    @Test
+    @DisplayName("Should not prepend the base URL to absolute templates")
+    void shouldKeepAbsoluteTemplates() {
+        // Given
+        UriTemplate template = UriTemplate.compile("https://other-host/items/{id:\\d+}");
+
+        // When
+        String uri = template.expand(BASE_URL, Map.of("id", 7), Map.of());
+
+        // Then
+        assertThat(uri).isEqualTo("https://other-host/items/7");
+    }
+
+    @Test
+    @DisplayName("Should join the base URL and a template without a leading slash")
+    void shouldJoinRelativeTemplatesWithSlash() {
+        // Given
+        UriTemplate template = UriTemplate.compile("users/{id}");
+
+        // When
+        String joined = template.expand(BASE_URL, Map.of("id", 1), Map.of());
+        String notDoubled = template.expand(BASE_URL + "/api/", Map.of("id", 1), Map.of());
+
+        // Then
+        assertThat(joined).isEqualTo("http://localhost:8080/users/1");
+        assertThat(notDoubled).isEqualTo("http://localhost:8080/api/users/1");
+    }
+
+    @Test
+    @DisplayName("Should match nested braces in regex path variables")
+    void shouldMatchNestedBracesInRegexVariables() {
+        // Given
+        UriTemplate template = UriTemplate.compile("/users/{id:\\d{3}}/orders");
+
+        // When
+        String uri = template.expand(BASE_URL, Map.of("id", 123), Map.of());
+
+        // Then
+        assertThat(uri).isEqualTo("http://localhost:8080/users/123/orders");
+        assertThat(template.getVariableCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail when a path variable has no value")
+    void shouldFailOnMissingPathVariable() {
+        // Given
+        UriTemplate template = UriTemplate.compile("/users/{id}");
+
+        // When & Then
+        assertThatThrownBy(() -> template.expand(BASE_URL, Map.of(), Map.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'id'");
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.metrics;
+
+import com.firefly.common.resilience.CircuitBreakerConfig;
+import com.firefly.common.resilience.CircuitBreakerKey;
+import com.firefly.common.resilience.CircuitBreakerManager;
+import com.firefly.common.resilience.CircuitBreakerState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for the circuit breaker metrics of {@link ServiceClientMetrics}.
+ */
+@DisplayName("Service Client Metrics Tests")
+class ServiceClientMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceClientMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ServiceClientMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should register meters for existing and new circuit breakers")
+    void shouldRegisterCircuitBreakerMeters() {
+        // Given
+        CircuitBreakerManager manager = new CircuitBreakerManager(CircuitBreakerConfig.defaultConfig());
+        manager.getCircuitBreaker("existing-service");
+        Disposable binding = metrics.bindCircuitBreakers(manager);
+
+        // When
+        StepVerifier.create(manager.executeWithCircuitBreaker("new-service", () -> Mono.just("OK")))
+            .expectNext("OK")
+            .verifyComplete();
+
+        // Then
+        assertThat(meterRegistry.find("service.client.circuit.breaker.current.state")
+            .tag("circuit.breaker", "existing-service").gauge()).isNotNull();
+        assertThat(meterRegistry.find("service.client.circuit.breaker.calls")
+            .tag("circuit.breaker", "new-service").tag("outcome", "successful")
+            .functionCounter().count()).isEqualTo(1.0);
+
+        binding.dispose();
+    }
+
+    @Test
+    @DisplayName("Should record transitions of service circuit breakers")
+    void shouldRecordCircuitBreakerTransitions() {
+        // Given
+        CircuitBreakerManager manager = new CircuitBreakerManager(CircuitBreakerConfig.defaultConfig());
+        Disposable binding = metrics.bindCircuitBreakers(manager);
+
+        // When
+        manager.getCircuitBreaker("orders").transitionTo(CircuitBreakerState.OPEN);
+
+        // Then
+        assertThat(meterRegistry.find("service.client.circuit.breaker.transitions")
+            .tag("service", "orders").tag("from.state", "CLOSED").tag("to.state", "OPEN")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("service.client.circuit.breaker.current.state")
+            .tag("circuit.breaker", "orders").gauge().value())
+            .isEqualTo(CircuitBreakerState.OPEN.ordinal());
+
+        binding.dispose();
+    }
+
+    @Test
+    @DisplayName("Should remove the meters of evicted circuit breakers")
+    void shouldRemoveMetersOfEvictedCircuitBreakers() {
+        // Given
+        CircuitBreakerManager manager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .scopedCircuitBreakerIdleTimeout(Duration.ofMillis(50))
+            .build());
+        Disposable binding = metrics.bindCircuitBreakers(manager);
+        manager.getCircuitBreaker(CircuitBreakerKey.endpoint("search", "GET", "/search"));
+        assertThat(meterRegistry.find("service.client.circuit.breaker.current.state")
+            .tag("circuit.breaker", "search[GET /search]").gauge()).isNotNull();
+
+        // When
+        await().atMost(Duration.ofSeconds(1))
+            .untilAsserted(() -> assertThat(manager.evictIdleCircuitBreakers()).isEqualTo(1));
+
+        // Then
+        assertThat(meterRegistry.find("service.client.circuit.breaker.current.state")
+            .tag("circuit.breaker", "search[GET /search]").gauge()).isNull();
+        assertThat(meterRegistry.find("service.client.circuit.breaker.current.state")
+            .tag("circuit.breaker", "search").gauge()).isNotNull();
+
+        binding.dispose();
+    }
+}
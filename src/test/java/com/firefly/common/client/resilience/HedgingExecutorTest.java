@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link HedgingExecutor}.
+ */
+@DisplayName("Hedging Executor Tests")
+class HedgingExecutorTest {
+
+    private static final HedgingPolicy FULL_BUDGET = HedgingPolicy.builder()
+        .delay(Duration.ofMillis(50))
+        .budgetPercent(100.0)
+        .build();
+
+    @Test
+    @DisplayName("Should send a hedge after the delay and cancel the slow attempt")
+    void shouldHedgeSlowAttempt() {
+        // Given: A slow first attempt and a fast second one
+        HedgingExecutor executor = new HedgingExecutor(FULL_BUDGET);
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        Supplier<Mono<String>> attempts = attempts(
+            () -> Mono.delay(Duration.ofSeconds(5)).thenReturn("primary").doOnCancel(() -> primaryCancelled.set(true)),
+            () -> Mono.just("hedge"));
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> executor.execute("/users/{id}", attempts))
+            .expectSubscription()
+            .expectNoEvent(Duration.ofMillis(49))
+            .thenAwait(Duration.ofMillis(1))
+            .expectNext("hedge")
+            .verifyComplete();
+
+        assertThat(primaryCancelled).isTrue();
+        assertThat(executor.getHedgesSent()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not hedge attempts answering within the delay")
+    void shouldNotHedgeFastAttempt() {
+        // Given
+        HedgingExecutor executor = new HedgingExecutor(FULL_BUDGET);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> executor.execute("/users/{id}", () -> {
+                calls.incrementAndGet();
+                return Mono.delay(Duration.ofMillis(10)).thenReturn("primary");
+            }))
+            .thenAwait(Duration.ofMillis(10))
+            .expectNext("primary")
+            .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(executor.getHedgesSent()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report a failure at once when no other attempt is running")
+    void shouldFailFastWithoutHedge() {
+        // Given
+        HedgingExecutor executor = new HedgingExecutor(FULL_BUDGET);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> executor.execute("/users/{id}", () -> {
+                calls.incrementAndGet();
+                return Mono.<String>error(new IllegalStateException("not found"));
+            }))
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should wait for the hedge when the slow attempt fails after it was sent")
+    void shouldPreferHedgeOverLateFailure() {
+        // Given
+        HedgingExecutor executor = new HedgingExecutor(FULL_BUDGET);
+        Supplier<Mono<String>> attempts = attempts(
+            () -> Mono.delay(Duration.ofMillis(100)).then(Mono.error(new IllegalStateException("reset"))),
+            () -> Mono.delay(Duration.ofMillis(100)).thenReturn("hedge"));
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> executor.execute("/users/{id}", attempts))
+            .thenAwait(Duration.ofMillis(150))
+            .expectNext("hedge")
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not hedge beyond the budget")
+    void shouldRespectBudget() {
+        // Given: Each request earns a tenth of a hedge
+        HedgingExecutor executor = new HedgingExecutor(FULL_BUDGET.toBuilder().budgetPercent(10.0).build());
+        AtomicInteger calls = new AtomicInteger();
+
+        // When: A slow request before any budget has been earned
+        StepVerifier.withVirtualTime(() -> executor.execute("/users/{id}", () -> {
+                calls.incrementAndGet();
+                return Mono.delay(Duration.ofMillis(200)).thenReturn("primary");
+            }))
+            .thenAwait(Duration.ofMillis(200))
+            .expectNext("primary")
+            .verifyComplete();
+
+        // Then
+        assertThat(calls).hasValue(1);
+        assertThat(executor.getHedgesSent()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should derive the delay from the observed latencies of the endpoint")
+    void shouldAdaptDelay() {
+        // Given
+        HedgingExecutor executor = new HedgingExecutor(HedgingPolicy.builder()
+            .delayPercentile(95.0)
+            .delay(Duration.ofMillis(200))
+            .minDelay(Duration.ofMillis(5))
+            .build());
+        assertThat(executor.getDelay("/fast")).isEqualTo(Duration.ofMillis(200));
+
+        // When: The endpoint answers immediately for a full window
+        for (int i = 0; i < HedgingExecutor.LATENCY_SAMPLES; i++) {
+            executor.execute("/fast", () -> Mono.just("ok")).block();
+        }
+
+        // Then: The delay follows the endpoint, bounded below; other endpoints keep the default
+        assertThat(executor.getDelay("/fast")).isEqualTo(Duration.ofMillis(5));
+        assertThat(executor.getDelay("/slow")).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid policies")
+    void shouldRejectInvalidPolicy() {
+        assertThatThrownBy(() -> new HedgingExecutor(HedgingPolicy.builder().maxHedges(0).build()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HedgingExecutor(HedgingPolicy.builder().delayPercentile(100.0).build()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SafeVarargs
+    private static Supplier<Mono<String>> attempts(Supplier<Mono<String>>... attempts) {
+        AtomicInteger next = new AtomicInteger();
+        return () -> attempts[Math.min(next.getAndIncrement(), attempts.length - 1)].get();
+    }
+}
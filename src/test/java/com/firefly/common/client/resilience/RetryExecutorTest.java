@@ -0,0 +1,235 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.resilience;
+
+import com.firefly.common.client.exception.CircuitBreakerOpenException;
+import com.firefly.common.client.exception.CircuitBreakerTimeoutException;
+import com.firefly.common.client.exception.ServiceInternalErrorException;
+import com.firefly.common.client.exception.ServiceNotFoundException;
+import com.firefly.common.client.exception.ServiceRateLimitException;
+import com.firefly.common.client.exception.ServiceTemporarilyUnavailableException;
+import com.firefly.common.client.exception.ServiceValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link RetryExecutor}.
+ */
+@DisplayName("Retry Executor Tests")
+class RetryExecutorTest {
+
+    private static final RetryPolicy NO_JITTER = RetryPolicy.builder()
+        .maxAttempts(3)
+        .baseDelay(Duration.ofMillis(100))
+        .jitter(false)
+        .build();
+
+    @Test
+    @DisplayName("Should retry a retryable error after the backoff delay")
+    void shouldRetryRetryableError() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(NO_JITTER);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> executor.execute(failTimes(1, attempts), true))
+            .expectSubscription()
+            .expectNoEvent(Duration.ofMillis(99))
+            .thenAwait(Duration.ofMillis(1))
+            .expectNext("ok")
+            .verifyComplete();
+
+        assertThat(attempts).hasValue(2);
+        assertThat(executor.getRetriesSent()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up after the maximum number of attempts")
+    void shouldStopAfterMaxAttempts() {
+        // Given: Delays of 100ms and 200ms without jitter
+        RetryExecutor executor = new RetryExecutor(NO_JITTER);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> executor.execute(failTimes(Integer.MAX_VALUE, attempts), true))
+            .expectSubscription()
+            .expectNoEvent(Duration.ofMillis(299))
+            .thenAwait(Duration.ofMillis(1))
+            .expectError(ServiceTemporarilyUnavailableException.class)
+            .verify();
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should not retry errors caused by the request")
+    void shouldNotRetryClientErrors() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(NO_JITTER);
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> notFound = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new ServiceNotFoundException("User not found"));
+        });
+
+        // When & Then
+        StepVerifier.create(executor.execute(notFound, true))
+            .expectError(ServiceNotFoundException.class)
+            .verify(Duration.ofSeconds(1));
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry non-idempotent requests unless allowed")
+    void shouldNotRetryNonIdempotentRequests() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.create(new RetryExecutor(NO_JITTER).execute(failTimes(1, attempts), false))
+            .expectError(ServiceTemporarilyUnavailableException.class)
+            .verify(Duration.ofSeconds(1));
+        assertThat(attempts).hasValue(1);
+
+        RetryExecutor permissive = new RetryExecutor(NO_JITTER.toBuilder().retryNonIdempotent(true).build());
+        AtomicInteger permittedAttempts = new AtomicInteger();
+        StepVerifier.withVirtualTime(() -> permissive.execute(failTimes(1, permittedAttempts), false))
+            .thenAwait(Duration.ofMillis(100))
+            .expectNext("ok")
+            .verifyComplete();
+        assertThat(permittedAttempts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should wait for the Retry-After of a rate limit response")
+    void shouldHonourRetryAfter() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(NO_JITTER);
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> rateLimited = Mono.defer(() -> attempts.getAndIncrement() == 0
+            ? Mono.error(new ServiceRateLimitException("Too many requests", 2))
+            : Mono.just("ok"));
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> executor.execute(rateLimited, true))
+            .expectSubscription()
+            .expectNoEvent(Duration.ofMillis(1999))
+            .thenAwait(Duration.ofMillis(1))
+            .expectNext("ok")
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not retry when Retry-After exceeds the maximum")
+    void shouldNotWaitBeyondMaxRetryAfter() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(NO_JITTER.toBuilder().maxRetryAfter(Duration.ofSeconds(10)).build());
+        Mono<String> rateLimited = Mono.error(new ServiceRateLimitException("Too many requests", 60));
+
+        // When & Then
+        StepVerifier.create(executor.execute(rateLimited, true))
+            .expectError(ServiceRateLimitException.class)
+            .verify(Duration.ofSeconds(1));
+        assertThat(executor.getRetriesSent()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep delays between the base delay and the maximum with jitter")
+    void shouldBoundJitteredDelays() {
+        // Given: Base and maximum delay are equal, so every jittered delay is 100ms
+        RetryExecutor executor = new RetryExecutor(RetryPolicy.builder()
+            .maxAttempts(4)
+            .baseDelay(Duration.ofMillis(100))
+            .maxDelay(Duration.ofMillis(100))
+            .build());
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> executor.execute(failTimes(3, attempts), true))
+            .expectSubscription()
+            .expectNoEvent(Duration.ofMillis(299))
+            .thenAwait(Duration.ofMillis(1))
+            .expectNext("ok")
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stop retrying once the retry budget is spent")
+    void shouldEnforceRetryBudget() {
+        // Given: A budget of 10 retries, earning a tenth of a retry per request
+        RetryExecutor executor = new RetryExecutor(RetryPolicy.builder()
+            .maxAttempts(2)
+            .baseDelay(Duration.ofMillis(1))
+            .maxDelay(Duration.ofMillis(1))
+            .budgetPercent(10.0)
+            .build());
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new ServiceInternalErrorException("Internal error"));
+        });
+
+        // When: Every request of an outage fails
+        for (int i = 0; i < 20; i++) {
+            StepVerifier.create(executor.execute(failing, true))
+                .expectError(ServiceInternalErrorException.class)
+                .verify(Duration.ofSeconds(1));
+        }
+
+        // Then: The initial budget and what the requests earned was spent, then retries stopped
+        assertThat(executor.getRetriesSent()).isEqualTo(11);
+        assertThat(executor.getRetriesDenied()).isEqualTo(9);
+        assertThat(attempts).hasValue(31);
+    }
+
+    @Test
+    @DisplayName("Should classify errors as retryable")
+    void shouldClassifyErrors() {
+        assertThat(RetryExecutor.isRetryable(new ServiceInternalErrorException("500"))).isTrue();
+        assertThat(RetryExecutor.isRetryable(new CircuitBreakerTimeoutException("timeout"))).isTrue();
+        assertThat(RetryExecutor.isRetryable(new RuntimeException(new IOException("Connection reset")))).isTrue();
+
+        assertThat(RetryExecutor.isRetryable(new CircuitBreakerOpenException("open"))).isFalse();
+        assertThat(RetryExecutor.isRetryable(new ServiceValidationException("400"))).isFalse();
+        assertThat(RetryExecutor.isRetryable(new IllegalStateException("bug"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid policies")
+    void shouldRejectInvalidPolicy() {
+        assertThatThrownBy(() -> new RetryExecutor(RetryPolicy.builder().maxAttempts(0).build()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryExecutor(RetryPolicy.builder().maxDelay(Duration.ofMillis(10)).build()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Mono<String> failTimes(int failures, AtomicInteger attempts) {
+        return Mono.defer(() -> attempts.getAndIncrement() < failures
+            ? Mono.error(new ServiceTemporarilyUnavailableException("Service unavailable"))
+            : Mono.just("ok"));
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.rest;
+
+import com.firefly.common.client.RestClient;
+import com.firefly.common.client.ServiceClient;
+import com.firefly.common.client.batch.BatchItemResult;
+import com.firefly.common.client.batch.BatchOptions;
+import com.firefly.common.client.exception.ServiceNotFoundException;
+import com.firefly.common.client.exception.ServiceTimeoutException;
+import com.firefly.common.client.interceptor.InterceptorChain;
+import com.firefly.common.client.interceptor.InterceptorRequest;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import com.firefly.common.client.interceptor.ServiceClientInterceptor;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for batch execution of the REST client.
+ */
+@DisplayName("REST Client Batch Integration Tests")
+class RestClientBatchIntegrationTest {
+
+    private static WireMockServer wireMockServer;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        baseUrl = "http://localhost:" + wireMockServer.port();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void resetWireMock() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    @DisplayName("Should report each request's outcome in request order")
+    void shouldReportPerItemResults() {
+        // Given: Two existing users and one missing
+        stubUser(1, 0);
+        stubUser(3, 0);
+        wireMockServer.stubFor(get(urlEqualTo("/users/2")).willReturn(aResponse().withStatus(404)));
+
+        RestClient client = ServiceClient.rest("user-service").baseUrl(baseUrl).build();
+
+        // When: Executing the batch
+        Mono<List<BatchItemResult<String>>> results = client.executeAll(requests(client, 1, 3), 2);
+
+        // Then: The failure should not fail the batch
+        StepVerifier.create(results)
+            .assertNext(items -> {
+                assertThat(items).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 2);
+                assertThat(items.get(0).getValue()).contains("User 1");
+                assertThat(items.get(1).isSuccess()).isFalse();
+                assertThat(items.get(1).getError()).isInstanceOf(ServiceNotFoundException.class);
+                assertThat(items.get(2).getValue()).contains("User 3");
+            })
+            .verifyComplete();
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should keep at most maxConcurrency requests in flight")
+    void shouldBoundConcurrency() {
+        // Given: Slow responses and an interceptor counting requests in flight
+        IntStream.rangeClosed(1, 12).forEach(id -> stubUser(id, 100));
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        RestClient client = ServiceClient.rest("user-service").baseUrl(baseUrl).interceptor(probe).build();
+
+        // When: Executing twelve requests, four at a time
+        StepVerifier.create(client.executeAll(requests(client, 1, 12), 4))
+            .assertNext(items -> assertThat(items).allMatch(BatchItemResult::isSuccess))
+            .verifyComplete();
+
+        // Then
+        assertThat(probe.max.get()).isBetween(2, 4);
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should not exceed the capacity of the connection pool")
+    void shouldCapConcurrencyAtPoolSize() {
+        // Given: A pool of two connections
+        IntStream.rangeClosed(1, 6).forEach(id -> stubUser(id, 100));
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .maxConnections(2)
+            .interceptor(probe)
+            .build();
+
+        // When: Asking for more concurrency than the pool has
+        StepVerifier.create(client.executeAll(requests(client, 1, 6), 50))
+            .assertNext(items -> assertThat(items).allMatch(BatchItemResult::isSuccess))
+            .verifyComplete();
+
+        // Then
+        assertThat(probe.max.get()).isLessThanOrEqualTo(2);
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fail requests that do not finish before the batch deadline")
+    void shouldEnforceBatchDeadline() {
+        // Given: Responses slower than the deadline
+        IntStream.rangeClosed(1, 3).forEach(id -> stubUser(id, 1000));
+        RestClient client = ServiceClient.rest("user-service").baseUrl(baseUrl).build();
+        BatchOptions options = BatchOptions.builder()
+            .maxConcurrency(1)
+            .deadline(Duration.ofMillis(200))
+            .build();
+
+        // When: Executing the batch one request at a time
+        StepVerifier.create(client.executeAll(requests(client, 1, 3), options))
+            // Then: The running request is cancelled and the others are never sent
+            .assertNext(items -> {
+                assertThat(items).noneMatch(BatchItemResult::isSuccess);
+                assertThat(items).extracting(BatchItemResult::getError)
+                    .allMatch(ServiceTimeoutException.class::isInstance);
+                assertThat(items.get(2).getDuration()).isZero();
+            })
+            .verifyComplete();
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should stream results in completion or request order")
+    void shouldStreamResultsInRequestedOrder() {
+        // Given: A slow first request
+        stubUser(1, 300);
+        stubUser(2, 0);
+        stubUser(3, 0);
+        RestClient client = ServiceClient.rest("user-service").baseUrl(baseUrl).build();
+
+        // When & Then: Unordered results arrive as they complete
+        StepVerifier.create(client.streamAll(Flux.fromIterable(requests(client, 1, 3)), BatchOptions.withMaxConcurrency(3))
+                .map(BatchItemResult::getIndex))
+            .expectNextCount(2)
+            .expectNext(0)
+            .verifyComplete();
+
+        // When & Then: Ordered results wait for the slow request
+        BatchOptions ordered = BatchOptions.builder().maxConcurrency(3).ordered(true).build();
+        StepVerifier.create(client.streamAll(Flux.fromIterable(requests(client, 1, 3)), ordered)
+                .map(BatchItemResult::getIndex))
+            .expectNext(0, 1, 2)
+            .verifyComplete();
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid batch options")
+    void shouldRejectInvalidOptions() {
+        // Given
+        RestClient client = ServiceClient.rest("user-service").baseUrl(baseUrl).build();
+
+        // When & Then
+        assertThatThrownBy(() -> client.executeAll(requests(client, 1, 1), 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Max concurrency");
+
+        client.shutdown();
+    }
+
+    private static void stubUser(int id, int delayMillis) {
+        wireMockServer.stubFor(get(urlEqualTo("/users/" + id))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(delayMillis)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": " + id + ", \"name\": \"User " + id + "\"}")));
+    }
+
+    private static List<RestClient.RequestBuilder<String>> requests(RestClient client, int fromId, int toId) {
+        return IntStream.rangeClosed(fromId, toId)
+            .mapToObj(id -> client.get("/users/{id}", String.class).withPathParam("id", id))
+            .toList();
+    }
+
+    private static final class ConcurrencyProbe implements ServiceClientInterceptor {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @Override
+        public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+            return chain.proceed(request)
+                .doOnSubscribe(subscription -> max.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doFinally(signal -> inFlight.decrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.client.rest;
+
+import com.firefly.common.client.RestClient;
+import com.firefly.common.client.ServiceClient;
+import com.firefly.common.client.pool.HttpProtocolVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for REST clients speaking HTTP/2 over cleartext (h2c).
+ */
+@DisplayName("REST Client HTTP/2 Integration Tests")
+class RestClientHttp2IntegrationTest {
+
+    private DisposableServer server;
+    private final Set<String> protocols = ConcurrentHashMap.newKeySet();
+    private final Set<String> connections = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void startServer() {
+        server = HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .protocol(HttpProtocol.H2C)
+            .route(routes -> routes.get("/users/{id}", (request, response) -> {
+                protocols.add(request.protocol());
+                connections.add(String.valueOf(request.remoteAddress()));
+                return response
+                    .header("Content-Type", "application/json")
+                    .sendString(Mono.delay(Duration.ofMillis(50))
+                        .thenReturn("{\"id\": " + request.param("id") + "}"));
+            }))
+            .bindNow();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Should multiplex concurrent requests over one h2c connection")
+    void shouldMultiplexConcurrentRequests() {
+        // Given: An HTTP/2 client limited to a single connection
+        RestClient client = ServiceClient.rest("h2c-service")
+            .baseUrl("http://127.0.0.1:" + server.port())
+            .http2()
+            .maxConnections(1)
+            .build();
+
+        // When: Sending 50 requests at once
+        Flux<Map> responses = Flux.range(1, 50)
+            .flatMap(id -> client.get("/users/{id}", Map.class)
+                .withPathParam("id", id)
+                .execute(), 50);
+
+        // Then: All should complete as streams of the same HTTP/2 connection
+        StepVerifier.create(responses)
+            .expectNextCount(50)
+            .verifyComplete();
+
+        assertThat(protocols).containsExactly("HTTP/2.0");
+        assertThat(connections).hasSize(1);
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send requests with an explicitly configured h2c protocol")
+    void shouldUseExplicitProtocol() {
+        // Given: A client configured for h2c
+        RestClient client = ServiceClient.rest("h2c-service")
+            .baseUrl("http://127.0.0.1:" + server.port())
+            .protocol(HttpProtocolVersion.H2C)
+            .build();
+
+        // When & Then: Requests are sent with prior knowledge
+        StepVerifier.create(client.get("/users/{id}", Map.class).withPathParam("id", 7).execute())
+            .assertNext(user -> assertThat(user).containsEntry("id", 7))
+            .verifyComplete();
+
+        assertThat(protocols).containsExactly("HTTP/2.0");
+
+        client.shutdown();
+    }
+}
@@ -17,14 +17,29 @@
 package com.firefly.common.client.rest;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.firefly.common.client.RestClient;
 import com.firefly.common.client.ServiceClient;
+import com.firefly.common.client.deadline.Deadline;
 import com.firefly.common.client.exception.ServiceClientException;
 import com.firefly.common.client.exception.ServiceInternalErrorException;
 import com.firefly.common.client.exception.ServiceNotFoundException;
+import com.firefly.common.client.exception.ServiceSerializationException;
+import com.firefly.common.client.exception.ServiceTimeoutException;
+import com.firefly.common.client.interceptor.InterceptorChain;
+import com.firefly.common.client.interceptor.InterceptorRequest;
+import com.firefly.common.client.interceptor.InterceptorResponse;
+import com.firefly.common.client.interceptor.ServiceClientInterceptor;
+import com.firefly.common.client.metrics.PerformanceMetricsCollector;
+import com.firefly.common.client.resilience.HedgingPolicy;
+import com.firefly.common.client.resilience.RetryPolicy;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
@@ -33,9 +48,11 @@ import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 /**
  * Comprehensive integration tests for REST client using WireMock.
@@ -460,6 +477,545 @@ class RestClientIntegrationTest {
         client.shutdown();
     }
 
+    @Test
+    @DisplayName("Should stream elements of a top-level JSON array")
+    void shouldStreamJsonArrayElements() {
+        // Given: A JSON array response
+        wireMockServer.stubFor(get(urlEqualTo("/users/export"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("[{\"id\": 1, \"name\": \"User 1\"}, {\"id\": 2, \"name\": \"User 2\"}]")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .build();
+
+        // When: Streaming the endpoint
+        Flux<User> users = client.stream("/users/export", User.class);
+
+        // Then: Each array element should be emitted on its own, honouring demand
+        StepVerifier.create(users, 1)
+            .assertNext(user -> assertThat(user.getId()).isEqualTo(1))
+            .thenRequest(1)
+            .assertNext(user -> assertThat(user.getId()).isEqualTo(2))
+            .verifyComplete();
+
+        verify(getRequestedFor(urlEqualTo("/users/export"))
+            .withHeader("Accept", containing("application/x-ndjson")));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should stream newline-delimited JSON")
+    void shouldStreamNdjson() {
+        // Given: An NDJSON response
+        wireMockServer.stubFor(get(urlEqualTo("/users/ndjson"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/x-ndjson")
+                .withBody("{\"id\": 1, \"name\": \"User 1\"}\n{\"id\": 2, \"name\": \"User 2\"}\n{\"id\": 3, \"name\": \"User 3\"}\n")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .build();
+
+        // When: Streaming the endpoint
+        Flux<User> users = client.stream("/users/ndjson", User.class);
+
+        // Then: Every line should be decoded as one element
+        StepVerifier.create(users.map(User::getId))
+            .expectNext(1, 2, 3)
+            .verifyComplete();
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should stream Server-Sent Events")
+    void shouldStreamServerSentEvents() {
+        // Given: A text/event-stream response
+        wireMockServer.stubFor(get(urlEqualTo("/users/events"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "text/event-stream")
+                .withBody("data:{\"id\": 1, \"name\": \"User 1\"}\n\n"
+                    + "id:2\ndata:{\"id\": 2, \"name\": \"User 2\"}\n\n")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .build();
+
+        // When: Streaming the endpoint
+        Flux<User> users = client.stream("/users/events", User.class);
+
+        // Then: Each event's data should be decoded into an element
+        StepVerifier.create(users.map(User::getName))
+            .expectNext("User 1", "User 2")
+            .verifyComplete();
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should map error status of a streaming request")
+    void shouldMapStreamingErrorStatus() {
+        // Given: A failing streaming endpoint
+        wireMockServer.stubFor(get(urlEqualTo("/users/export"))
+            .willReturn(aResponse()
+                .withStatus(404)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"error\": \"Not Found\"}")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .build();
+
+        // When & Then: The stream should fail with the mapped exception
+        StepVerifier.create(client.stream("/users/export", User.class))
+            .expectError(ServiceNotFoundException.class)
+            .verify(Duration.ofSeconds(5));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should decode generic collections with a TypeReference")
+    void shouldDecodeTypeReference() {
+        // Given: A JSON array response
+        wireMockServer.stubFor(get(urlEqualTo("/users"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("[{\"id\": 1, \"name\": \"User 1\"}, {\"id\": 2, \"name\": \"User 2\"}]")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .build();
+
+        // When: Decoding into a parameterized type
+        Mono<List<User>> response = client.get("/users", new TypeReference<List<User>>() {})
+            .execute();
+
+        // Then: Elements should be typed, not maps
+        StepVerifier.create(response)
+            .assertNext(users -> {
+                assertThat(users).hasSize(2);
+                assertThat(users.get(1).getName()).isEqualTo("User 2");
+            })
+            .verifyComplete();
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should decode with the configured ObjectMapper")
+    void shouldDecodeWithConfiguredObjectMapper() {
+        // Given: A response with a field unknown to the model and a mapper that rejects it
+        wireMockServer.stubFor(get(urlEqualTo("/users/1"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"User 1\", \"nickname\": \"one\"}")));
+
+        ObjectMapper strictMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .objectMapper(strictMapper)
+            .build();
+
+        // When: Decoding into a TypeReference
+        Mono<User> response = client.get("/users/1", new TypeReference<User>() {})
+            .execute();
+
+        // Then: The mapper's settings should apply
+        StepVerifier.create(response)
+            .expectError(ServiceSerializationException.class)
+            .verify(Duration.ofSeconds(5));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should apply interceptors in order to executed requests")
+    void shouldApplyInterceptorsInOrder() {
+        // Given: A mock GET response and interceptors registered out of order
+        wireMockServer.stubFor(get(urlEqualTo("/users/123"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 123, \"name\": \"John Doe\"}")));
+
+        List<String> calls = new CopyOnWriteArrayList<>();
+        ServiceClientInterceptor tagging = new ServiceClientInterceptor() {
+            @Override
+            public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+                calls.add("tagging");
+                return chain.proceed(request.withHeader("X-Tenant", "acme"));
+            }
+
+            @Override
+            public int getOrder() {
+                return 20;
+            }
+        };
+        ServiceClientInterceptor rewriting = new ServiceClientInterceptor() {
+            @Override
+            public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+                calls.add("rewriting");
+                assertThat(request.getPathParams()).containsEntry("id", "123");
+                return chain.proceed(request)
+                    .map(response -> response.withBody(new User(((User) response.getBody()).getId(), "Jane Doe", null)));
+            }
+
+            @Override
+            public int getOrder() {
+                return 10;
+            }
+        };
+        ServiceClientInterceptor postOnly = new ServiceClientInterceptor() {
+            @Override
+            public Mono<InterceptorResponse> intercept(InterceptorRequest request, InterceptorChain chain) {
+                calls.add("postOnly");
+                return chain.proceed(request);
+            }
+
+            @Override
+            public boolean shouldIntercept(InterceptorRequest request) {
+                return "POST".equals(request.getMethod());
+            }
+        };
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .interceptor(tagging)
+            .interceptor(postOnly)
+            .interceptor(rewriting)
+            .build();
+
+        // When: Performing a GET request
+        Mono<User> response = client.get("/users/{id}", User.class)
+            .withPathParam("id", "123")
+            .execute();
+
+        // Then: The interceptors should run by order and see the real exchange
+        StepVerifier.create(response)
+            .assertNext(user -> {
+                assertThat(user.getId()).isEqualTo(123);
+                assertThat(user.getName()).isEqualTo("Jane Doe");
+            })
+            .verifyComplete();
+
+        assertThat(calls).containsExactly("rewriting", "tagging");
+        wireMockServer.verify(getRequestedFor(urlEqualTo("/users/123"))
+            .withHeader("X-Tenant", equalTo("acme")));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should pass mapped errors through interceptors")
+    void shouldPassErrorsThroughInterceptors() {
+        // Given: A 404 response and an interceptor observing errors
+        wireMockServer.stubFor(get(urlEqualTo("/users/999"))
+            .willReturn(aResponse().withStatus(404)));
+
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .interceptor((request, chain) -> chain.proceed(request).doOnError(errors::add))
+            .build();
+
+        // When: Performing the request
+        Mono<User> response = client.get("/users/999", User.class).execute();
+
+        // Then: The interceptor should see the typed exception
+        StepVerifier.create(response)
+            .expectError(ServiceNotFoundException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(errors).singleElement().isInstanceOf(ServiceNotFoundException.class);
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should export the usage of the client's own connection pool")
+    void shouldExportConnectionPoolMetrics() {
+        // Given: A client with a small pool and a metrics collector
+        wireMockServer.stubFor(get(urlEqualTo("/users/1"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"User 1\"}")));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RestClient client = ServiceClient.rest("pooled-service")
+            .baseUrl(baseUrl)
+            .maxConnections(2)
+            .metricsCollector(new PerformanceMetricsCollector(meterRegistry))
+            .build();
+
+        // When: A request completes
+        StepVerifier.create(client.get("/users/1", User.class).execute())
+            .assertNext(user -> assertThat(user.getId()).isEqualTo(1))
+            .verifyComplete();
+
+        // Then: The connection should be back in the pool and reported as idle
+        String prefix = "service.client.performance.connection.pool.";
+        assertThat(meterRegistry.get(prefix + "max").tag("service", "pooled-service").gauge().value())
+            .isEqualTo(2.0);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(meterRegistry.get(prefix + "idle").tag("service", "pooled-service").gauge().value())
+                .isEqualTo(1.0);
+            assertThat(meterRegistry.get(prefix + "active").tag("service", "pooled-service").gauge().value())
+                .isZero();
+            assertThat(meterRegistry.get(prefix + "pending").tag("service", "pooled-service").gauge().value())
+                .isZero();
+        });
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should coalesce identical concurrent GET requests into one call")
+    void shouldCoalesceIdenticalGetRequests() {
+        // Given: A slow endpoint and a client coalescing GET requests
+        wireMockServer.stubFor(get(urlEqualTo("/users/1"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(300)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"User 1\"}")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .coalesceGetRequests(true)
+            .build();
+
+        // When: Twenty callers request the same user at the same time
+        Flux<User> users = Flux.range(0, 20)
+            .flatMap(i -> client.get("/users/{id}", User.class).withPathParam("id", 1).execute());
+
+        // Then: All of them get the user from a single call
+        StepVerifier.create(users)
+            .expectNextCount(20)
+            .verifyComplete();
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/users/1")));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should not coalesce requests that differ or opt out")
+    void shouldNotCoalesceDifferentRequests() {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/users/1"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(300)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"User 1\"}")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .coalesceGetRequests(true)
+            .build();
+
+        // When: Requests differing in headers or response type, and one opting out
+        Flux<Object> responses = Flux.merge(
+            client.get("/users/{id}", User.class).withPathParam("id", 1).execute(),
+            client.get("/users/{id}", User.class).withPathParam("id", 1).withHeader("Accept-Language", "de").execute(),
+            client.get("/users/{id}", String.class).withPathParam("id", 1).execute(),
+            client.get("/users/{id}", User.class).withPathParam("id", 1).withCoalescing(false).execute());
+
+        // Then: Each of them calls the service
+        StepVerifier.create(responses)
+            .expectNextCount(4)
+            .verifyComplete();
+        wireMockServer.verify(4, getRequestedFor(urlEqualTo("/users/1")));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should hedge a slow GET request and use the faster response")
+    void shouldHedgeSlowGetRequest() {
+        // Given: The first request is answered slowly, later ones at once
+        wireMockServer.stubFor(get(urlEqualTo("/users/1")).inScenario("hedging")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willSetStateTo("hedged")
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(3000)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"Slow User\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/users/1")).inScenario("hedging")
+            .whenScenarioStateIs("hedged")
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"Fast User\"}")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .hedging(HedgingPolicy.fixed(Duration.ofMillis(100)).toBuilder().budgetPercent(100.0).build())
+            .build();
+
+        // When & Then: The hedge answers long before the first request would
+        StepVerifier.create(client.get("/users/{id}", User.class).withPathParam("id", 1).execute())
+            .assertNext(user -> assertThat(user.getName()).isEqualTo("Fast User"))
+            .expectComplete()
+            .verify(Duration.ofMillis(2000));
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/users/1")));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should retry a GET request answered with 503")
+    void shouldRetryUnavailableGetRequest() {
+        // Given: The first request fails with 503, the retry succeeds
+        wireMockServer.stubFor(get(urlEqualTo("/users/1")).inScenario("retry")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willSetStateTo("recovered")
+            .willReturn(aResponse().withStatus(503)));
+        wireMockServer.stubFor(get(urlEqualTo("/users/1")).inScenario("retry")
+            .whenScenarioStateIs("recovered")
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"User 1\"}")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .retry(RetryPolicy.builder().maxAttempts(3).baseDelay(Duration.ofMillis(10)).build())
+            .build();
+
+        // When & Then
+        StepVerifier.create(client.get("/users/{id}", User.class).withPathParam("id", 1).execute())
+            .assertNext(user -> assertThat(user.getName()).isEqualTo("User 1"))
+            .verifyComplete();
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/users/1")));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should not retry POST requests or client errors")
+    void shouldNotRetryPostOrClientErrors() {
+        // Given
+        wireMockServer.stubFor(post(urlEqualTo("/users")).willReturn(aResponse().withStatus(503)));
+        wireMockServer.stubFor(get(urlEqualTo("/users/404")).willReturn(aResponse().withStatus(404)));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .retry(RetryPolicy.builder().maxAttempts(3).baseDelay(Duration.ofMillis(10)).build())
+            .build();
+
+        // When & Then
+        StepVerifier.create(client.post("/users", User.class).withBody(new User()).execute())
+            .expectError(ServiceClientException.class)
+            .verify();
+        StepVerifier.create(client.get("/users/{id}", User.class).withPathParam("id", 404).execute())
+            .expectError(ServiceNotFoundException.class)
+            .verify();
+
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/users")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/users/404")));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send the remaining deadline downstream")
+    void shouldPropagateDeadlineHeader() {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/users/1"))
+            .withHeader(Deadline.HEADER, matching("\\d+"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1, \"name\": \"User 1\"}")));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .build();
+
+        // When
+        Mono<User> response = client.get("/users/{id}", User.class)
+            .withPathParam("id", 1)
+            .execute()
+            .contextWrite(Deadline.within(Duration.ofSeconds(5)));
+
+        // Then
+        StepVerifier.create(response)
+            .assertNext(user -> assertThat(user.getName()).isEqualTo("User 1"))
+            .verifyComplete();
+        String sent = wireMockServer.getAllServeEvents().get(0).getRequest().getHeader(Deadline.HEADER);
+        assertThat(Long.parseLong(sent)).isBetween(1L, 5000L);
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fail without calling the service once the deadline has passed")
+    void shouldFailFastWhenDeadlineExpired() {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/users/1")).willReturn(aResponse().withStatus(200)));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .build();
+
+        // When
+        Mono<User> response = client.get("/users/{id}", User.class)
+            .withPathParam("id", 1)
+            .execute()
+            .contextWrite(Deadline.within(Duration.ZERO));
+
+        // Then
+        StepVerifier.create(response)
+            .expectError(ServiceTimeoutException.class)
+            .verify(Duration.ofSeconds(1));
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/users/1")));
+
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should limit the client timeout to the remaining deadline")
+    void shouldLimitTimeoutToDeadline() {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/users/slow"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 123}")
+                .withFixedDelay(5000)));
+
+        RestClient client = ServiceClient.rest("user-service")
+            .baseUrl(baseUrl)
+            .timeout(Duration.ofSeconds(30))
+            .build();
+
+        // When
+        Mono<User> response = client.get("/users/{id}", User.class)
+            .withPathParam("id", "slow")
+            .execute()
+            .contextWrite(Deadline.within(Duration.ofMillis(300)));
+
+        // Then: The 300ms deadline applies, not the 30s client timeout
+        StepVerifier.create(response)
+            .expectError()
+            .verify(Duration.ofSeconds(3));
+
+        client.shutdown();
+    }
+
     @Test
     @DisplayName("Should verify request was sent with correct body")
     void shouldVerifyRequestWasSentWithCorrectBody() {
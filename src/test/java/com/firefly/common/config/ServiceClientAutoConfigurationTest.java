@@ -1,13 +1,21 @@
 package com.firefly.common.config;
 
+import com.firefly.common.client.RestClient;
 import com.firefly.common.client.ServiceClient;
 import com.firefly.common.client.builder.RestClientBuilder;
+import com.firefly.common.client.id.RequestIdGenerator;
+import com.firefly.common.client.id.RequestIdGenerators;
+import com.firefly.common.client.pool.ConnectionPoolConfig;
+import com.firefly.common.client.pool.HttpProtocolVersion;
+import com.firefly.common.client.resilience.RetryPolicy;
 import com.firefly.common.resilience.CircuitBreakerConfig;
 import com.firefly.common.resilience.CircuitBreakerManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -145,4 +153,73 @@ class ServiceClientAutoConfigurationTest {
             client2.shutdown();
         });
     }
+
+    @Test
+    void testRequestIdGeneratorIsSharedOnlyWhileTheContextIsOpen() {
+        contextRunner
+            .withPropertyValues("firefly.service-client.request-id.strategy=ulid")
+            .run(context -> assertThat(RequestIdGenerators.shared())
+                .isSameAs(context.getBean(RequestIdGenerator.class)));
+
+        // Closing the context restores the default for clients built outside of Spring
+        assertThat(RequestIdGenerators.shared()).isSameAs(RequestIdGenerators.randomUuid());
+    }
+
+    @Test
+    void testRestClientBuilderFactoryBuildsRetryPolicy() {
+        contextRunner
+            .withPropertyValues(
+                "firefly.service-client.retry.max-attempts=5",
+                "firefly.service-client.retry.wait-duration=200ms",
+                "firefly.service-client.retry.budget-percent=5.0",
+                "firefly.service-client.rest.max-retries=2"
+            )
+            .run(context -> {
+                var factory = context.getBean(ServiceClientAutoConfiguration.RestClientBuilderFactory.class);
+
+                // REST max-retries limits the attempts of the global retry settings
+                RetryPolicy policy = factory.retryPolicy();
+                assertThat(policy).isNotNull();
+                assertThat(policy.getMaxAttempts()).isEqualTo(3);
+                assertThat(policy.getBaseDelay()).isEqualTo(Duration.ofMillis(200));
+                assertThat(policy.getBudgetPercent()).isEqualTo(5.0);
+            });
+
+        contextRunner
+            .withPropertyValues("firefly.service-client.retry.enabled=false")
+            .run(context -> assertThat(context.getBean(ServiceClientAutoConfiguration.RestClientBuilderFactory.class)
+                .retryPolicy()).isNull());
+    }
+
+    @Test
+    void testRestClientBuilderFactoryResolvesPerServiceConnectionPools() {
+        contextRunner
+            .withPropertyValues(
+                "firefly.service-client.rest.pending-acquire-timeout=5s",
+                "firefly.service-client.rest.pools.payment-service.max-connections=8",
+                "firefly.service-client.rest.pools.payment-service.pending-acquire-max-count=16",
+                "firefly.service-client.rest.pools.payment-service.protocol=h2c"
+            )
+            .run(context -> {
+                var factory = context.getBean(ServiceClientAutoConfiguration.RestClientBuilderFactory.class);
+
+                ConnectionPoolConfig payments = factory.connectionPool("payment-service");
+                assertThat(payments.getMaxConnections()).isEqualTo(8);
+                assertThat(payments.getPendingAcquireMaxCount()).isEqualTo(16);
+                assertThat(payments.getPendingAcquireTimeout()).isEqualTo(Duration.ofSeconds(5));
+                assertThat(payments.getProtocol()).isEqualTo(HttpProtocolVersion.H2C);
+
+                // Services without their own settings use the REST defaults (DEVELOPMENT: 50)
+                ConnectionPoolConfig users = factory.connectionPool("user-service");
+                assertThat(users.getMaxConnections()).isEqualTo(50);
+                assertThat(users.getPendingAcquireMaxCount()).isNull();
+                assertThat(users.getProtocol()).isEqualTo(HttpProtocolVersion.HTTP_1_1);
+
+                RestClient client = factory.create("payment-service")
+                    .baseUrl("http://payment-service:8080")
+                    .build();
+                assertThat(client.getServiceName()).isEqualTo("payment-service");
+                client.shutdown();
+            });
+    }
 }
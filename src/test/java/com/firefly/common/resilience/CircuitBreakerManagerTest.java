@@ -4,12 +4,18 @@ import com.firefly.common.client.exception.CircuitBreakerOpenException;
 import com.firefly.common.client.exception.CircuitBreakerTimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
 
 /**
  * Test class for enhanced CircuitBreakerManager functionality.
@@ -195,6 +201,359 @@ class CircuitBreakerManagerTest {
         .verify();
     }
 
+    @Test
+    void testCircuitOpensOnSlowCalls() {
+        // Given - Calls over 50ms are slow, half of them slow opens the circuit
+        String serviceName = "slow-service";
+        CircuitBreakerManager slowCallManager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .minimumNumberOfCalls(3)
+            .slidingWindowType(SlidingWindow.Type.TIME_BASED)
+            .slidingWindowSize(10)
+            .slowCallDurationThreshold(Duration.ofMillis(50))
+            .slowCallRateThreshold(50.0)
+            .build());
+
+        // When - Calls succeed, but slowly
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(
+                slowCallManager.executeWithCircuitBreaker(serviceName,
+                    () -> Mono.delay(Duration.ofMillis(80)).thenReturn("SLOW"))
+            )
+            .expectNext("SLOW")
+            .verifyComplete();
+        }
+
+        // Then
+        assertThat(slowCallManager.getState(serviceName)).isEqualTo(CircuitBreakerState.OPEN);
+        CircuitBreakerMetrics metrics = slowCallManager.getMetrics(serviceName);
+        assertThat(metrics.getFailedCalls()).isZero();
+        assertThat(metrics.getSlowCalls()).isEqualTo(3);
+        assertThat(metrics.getSlowCallRate()).isEqualTo(100.0);
+    }
+
+    @Test
+    void testSlowCallsDoNotOpenCircuitByDefault() {
+        // Given - The default slow call rate threshold of 100% disables slow call tripping
+        String serviceName = "slow-default-service";
+        CircuitBreakerManager slowCallManager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .minimumNumberOfCalls(2)
+            .slowCallDurationThreshold(Duration.ofMillis(10))
+            .build());
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(
+                slowCallManager.executeWithCircuitBreaker(serviceName,
+                    () -> Mono.delay(Duration.ofMillis(30)).thenReturn("SLOW"))
+            )
+            .expectNext("SLOW")
+            .verifyComplete();
+        }
+
+        // Then
+        assertThat(slowCallManager.getState(serviceName)).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(slowCallManager.getMetrics(serviceName).getSlowCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void testCallTimeoutsCountAsFailures() {
+        // Given
+        String serviceName = "hanging-service";
+        CircuitBreakerManager timeoutManager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .minimumNumberOfCalls(2)
+            .callTimeout(Duration.ofMillis(50))
+            .build());
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(
+                timeoutManager.executeWithCircuitBreaker(serviceName, () -> Mono.never())
+            )
+            .expectError(CircuitBreakerTimeoutException.class)
+            .verify();
+        }
+
+        // Then
+        assertThat(timeoutManager.getMetrics(serviceName).getFailedCalls()).isEqualTo(2);
+        assertThat(timeoutManager.getState(serviceName)).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    @Test
+    void testHalfOpenAdmitsOnlyPermittedTrialCalls() {
+        // Given - A circuit in HALF_OPEN with 2 trial permits
+        CircuitBreakerManager.EnhancedCircuitBreaker breaker = circuitBreakerManager.getCircuitBreaker("probe-service");
+        breaker.transitionTo(CircuitBreakerState.HALF_OPEN);
+        Sinks.One<String> response = Sinks.one();
+        List<String> results = new CopyOnWriteArrayList<>();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When - 10 calls arrive while the trial calls are in flight
+        for (int i = 0; i < 10; i++) {
+            breaker.execute(response::asMono).subscribe(results::add, error -> {
+                if (error instanceof CircuitBreakerOpenException) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+
+        // Then
+        assertThat(breaker.getHalfOpenCallsInFlight()).isEqualTo(2);
+        assertThat(rejected).hasValue(8);
+
+        // When - The trial calls succeed
+        response.tryEmitValue("RECOVERED");
+
+        // Then
+        assertThat(results).containsExactly("RECOVERED", "RECOVERED");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    void testCancelledTrialCallReleasesPermit() {
+        // Given
+        CircuitBreakerManager.EnhancedCircuitBreaker breaker = circuitBreakerManager.getCircuitBreaker("cancel-service");
+        breaker.transitionTo(CircuitBreakerState.HALF_OPEN);
+        Disposable first = breaker.execute(Mono::never).subscribe();
+        Disposable second = breaker.execute(Mono::never).subscribe();
+
+        StepVerifier.create(breaker.execute(() -> Mono.just("REJECTED")))
+            .expectError(CircuitBreakerOpenException.class)
+            .verify();
+
+        // When
+        first.dispose();
+
+        // Then - The released permit admits another trial call
+        assertThat(breaker.getHalfOpenCallsInFlight()).isEqualTo(1);
+        StepVerifier.create(breaker.execute(() -> Mono.just("PROBE")))
+            .expectNext("PROBE")
+            .verifyComplete();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerState.HALF_OPEN);
+
+        second.dispose();
+    }
+
+    @Test
+    void testHalfOpenReopensAfterMaxWaitDuration() {
+        // Given - A trial call that does not complete within the max wait duration
+        CircuitBreakerManager halfOpenManager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .permittedNumberOfCallsInHalfOpenState(1)
+            .maxWaitDurationInHalfOpenState(Duration.ofMillis(50))
+            .build());
+        CircuitBreakerManager.EnhancedCircuitBreaker breaker = halfOpenManager.getCircuitBreaker("stuck-service");
+        breaker.transitionTo(CircuitBreakerState.HALF_OPEN);
+        Disposable trial = breaker.execute(Mono::never).subscribe();
+
+        // When & Then
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> {
+            StepVerifier.create(breaker.execute(() -> Mono.just("REJECTED")))
+                .expectError(CircuitBreakerOpenException.class)
+                .verify();
+            assertThat(breaker.getState()).isEqualTo(CircuitBreakerState.OPEN);
+        });
+
+        trial.dispose();
+    }
+
+    @Test
+    void testEndpointCircuitBreakerIsolatesFailingEndpoint() {
+        // Given
+        CircuitBreakerKey export = CircuitBreakerKey.endpoint("reports", "POST", "/reports/export");
+        CircuitBreakerKey lookup = CircuitBreakerKey.endpoint("reports", "GET", "/reports/{id}");
+
+        // When - The export endpoint fails until its circuit opens
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(circuitBreakerManager.executeWithCircuitBreaker(export,
+                    () -> Mono.error(new RuntimeException("Export failure"))))
+                .expectError(RuntimeException.class)
+                .verify();
+        }
+
+        // Then - Only the export endpoint is rejected
+        assertThat(circuitBreakerManager.getState(export)).isEqualTo(CircuitBreakerState.OPEN);
+        StepVerifier.create(circuitBreakerManager.executeWithCircuitBreaker(export, () -> Mono.just("REJECTED")))
+            .expectError(CircuitBreakerOpenException.class)
+            .verify();
+        StepVerifier.create(circuitBreakerManager.executeWithCircuitBreaker(lookup, () -> Mono.just("REPORT")))
+            .expectNext("REPORT")
+            .verifyComplete();
+
+        // And the service breaker, fed by its endpoints, reports the service as unhealthy
+        // without gating them
+        assertThat(circuitBreakerManager.getState("reports")).isEqualTo(CircuitBreakerState.OPEN);
+        CircuitBreakerMetrics serviceMetrics = circuitBreakerManager.getMetrics("reports");
+        assertThat(serviceMetrics.getTotalCalls()).isEqualTo(4);
+        assertThat(serviceMetrics.getFailedCalls()).isEqualTo(3);
+        assertThat(circuitBreakerManager.getScopedStates("reports"))
+            .containsEntry(export, CircuitBreakerState.OPEN)
+            .containsEntry(lookup, CircuitBreakerState.CLOSED);
+        assertThat(circuitBreakerManager.getCircuitBreaker(export).getName()).isEqualTo("reports[POST /reports/export]");
+    }
+
+    @Test
+    void testScopedCircuitBreakersAreBounded() {
+        // Given
+        CircuitBreakerManager boundedManager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .maxScopedCircuitBreakers(1)
+            .build());
+        CircuitBreakerManager.EnhancedCircuitBreaker first =
+            boundedManager.getCircuitBreaker(CircuitBreakerKey.instance("catalog", "catalog-1:8080"));
+
+        // When
+        CircuitBreakerManager.EnhancedCircuitBreaker second =
+            boundedManager.getCircuitBreaker(CircuitBreakerKey.instance("catalog", "catalog-2:8080"));
+
+        // Then - Keys beyond the limit share an overflow breaker, not the service breaker
+        assertThat(first.getName()).isEqualTo("catalog@catalog-1:8080");
+        assertThat(second.getName()).isEqualTo("catalog[overflow]");
+        assertThat(second).isNotSameAs(boundedManager.getCircuitBreaker("catalog"));
+        assertThat(boundedManager.getCircuitBreaker(CircuitBreakerKey.instance("catalog", "catalog-3:8080")))
+            .isSameAs(second);
+        assertThat(boundedManager.getScopedStates("catalog")).hasSize(1);
+    }
+
+    @Test
+    void testOverflowCircuitBreakerIsNotTrippedByOtherEndpoints() {
+        // Given
+        CircuitBreakerManager boundedManager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .failureRateThreshold(50.0)
+            .minimumNumberOfCalls(3)
+            .slidingWindowSize(5)
+            .maxScopedCircuitBreakers(1)
+            .build());
+        CircuitBreakerKey export = CircuitBreakerKey.endpoint("reports", "POST", "/reports/export");
+        CircuitBreakerKey lookup = CircuitBreakerKey.endpoint("reports", "GET", "/reports/{id}");
+
+        // When - The only scoped breaker fails until both it and the service breaker open
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(boundedManager.executeWithCircuitBreaker(export,
+                    () -> Mono.error(new RuntimeException("Export failure"))))
+                .expectError(RuntimeException.class)
+                .verify();
+        }
+
+        // Then - The overflow key keeps serving
+        assertThat(boundedManager.getState(export)).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(boundedManager.getState("reports")).isEqualTo(CircuitBreakerState.OPEN);
+        StepVerifier.create(boundedManager.executeWithCircuitBreaker(lookup, () -> Mono.just("REPORT")))
+            .expectNext("REPORT")
+            .verifyComplete();
+        assertThat(boundedManager.getCircuitBreaker(lookup).getState()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    void testServiceCircuitBreakerFollowsItsInstances() throws InterruptedException {
+        // Given
+        List<CircuitBreakerKey> instances = List.of(
+            CircuitBreakerKey.instance("catalog", "catalog-1:8080"),
+            CircuitBreakerKey.instance("catalog", "catalog-2:8080"),
+            CircuitBreakerKey.instance("catalog", "catalog-3:8080"));
+
+        // When - Every instance fails until its circuit opens
+        for (CircuitBreakerKey instance : instances) {
+            for (int i = 0; i < 3; i++) {
+                StepVerifier.create(circuitBreakerManager.executeWithCircuitBreaker(instance,
+                        () -> Mono.error(new RuntimeException("Instance failure"))))
+                    .expectError(RuntimeException.class)
+                    .verify();
+            }
+        }
+
+        // Then - The service is unhealthy
+        assertThat(circuitBreakerManager.getScopedStates("catalog").values())
+            .containsOnly(CircuitBreakerState.OPEN);
+        assertThat(circuitBreakerManager.getState("catalog")).isEqualTo(CircuitBreakerState.OPEN);
+
+        // When - An instance recovers after the wait duration
+        Thread.sleep(150);
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(circuitBreakerManager.executeWithCircuitBreaker(instances.get(0),
+                    () -> Mono.just("ITEM")))
+                .expectNext("ITEM")
+                .verifyComplete();
+        }
+
+        // Then - Its trial calls close the service breaker too
+        assertThat(circuitBreakerManager.getState(instances.get(0))).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(circuitBreakerManager.getState("catalog")).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    void testIdleScopedCircuitBreakersAreEvicted() {
+        // Given
+        CircuitBreakerManager evictingManager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .scopedCircuitBreakerIdleTimeout(Duration.ofMillis(50))
+            .build());
+        CircuitBreakerKey key = CircuitBreakerKey.endpoint("search", "GET", "/search");
+        StepVerifier.create(evictingManager.executeWithCircuitBreaker(key, () -> Mono.just("RESULT")))
+            .expectNext("RESULT")
+            .verifyComplete();
+
+        // When & Then
+        await().atMost(Duration.ofSeconds(1))
+            .untilAsserted(() -> assertThat(evictingManager.evictIdleCircuitBreakers()).isEqualTo(1));
+        assertThat(evictingManager.getScopedStates("search")).isEmpty();
+        assertThat(evictingManager.getMetrics("search").getTotalCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void testEventsCoverTransitionsRejectionsAndErrors() {
+        // Given
+        String serviceName = "observed-service";
+        CircuitBreakerManager observedManager = new CircuitBreakerManager(CircuitBreakerConfig.builder()
+            .minimumNumberOfCalls(3)
+            .build());
+        List<CircuitBreakerEvent> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = observedManager.events().subscribe(events::add);
+
+        // When - The circuit opens and rejects a call
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(observedManager.executeWithCircuitBreaker(serviceName,
+                    () -> Mono.error(new RuntimeException("Service failure"))))
+                .expectError(RuntimeException.class)
+                .verify();
+        }
+        StepVerifier.create(observedManager.executeWithCircuitBreaker(serviceName, () -> Mono.just("REJECTED")))
+            .expectError(CircuitBreakerOpenException.class)
+            .verify();
+
+        // Then
+        assertThat(events).extracting(CircuitBreakerEvent::type).containsExactly(
+            CircuitBreakerEvent.Type.CREATED,
+            CircuitBreakerEvent.Type.ERROR,
+            CircuitBreakerEvent.Type.ERROR,
+            CircuitBreakerEvent.Type.ERROR,
+            CircuitBreakerEvent.Type.STATE_TRANSITION,
+            CircuitBreakerEvent.Type.CALL_REJECTED);
+        CircuitBreakerEvent transition = events.get(4);
+        assertThat(transition.circuitBreakerName()).isEqualTo(serviceName);
+        assertThat(transition.fromState()).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(transition.state()).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(events.get(1).error()).hasMessage("Service failure");
+        assertThat(observedManager.getCircuitBreaker(serviceName).getRejectedCalls()).isEqualTo(1);
+
+        subscription.dispose();
+    }
+
+    @Test
+    void testSlowEventSubscriberDropsOldestEvents() {
+        // Given - A subscriber that has requested nothing yet
+        CircuitBreakerManager.EnhancedCircuitBreaker breaker = circuitBreakerManager.getCircuitBreaker("busy-service");
+
+        // When & Then - Calls are not held back, and only the latest events are kept
+        StepVerifier.create(circuitBreakerManager.events(2), 0)
+            .then(() -> {
+                breaker.transitionTo(CircuitBreakerState.OPEN);
+                breaker.transitionTo(CircuitBreakerState.HALF_OPEN);
+                breaker.transitionTo(CircuitBreakerState.CLOSED);
+            })
+            .thenRequest(2)
+            .assertNext(event -> assertThat(event.state()).isEqualTo(CircuitBreakerState.HALF_OPEN))
+            .assertNext(event -> assertThat(event.state()).isEqualTo(CircuitBreakerState.CLOSED))
+            .thenCancel()
+            .verify();
+    }
+
     @Test
     void testConfigValidation() {
         // When & Then
@@ -0,0 +1,175 @@
+package com.firefly.common.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test class for the count-based and time-based SlidingWindow.
+ */
+class SlidingWindowTest {
+
+    @Test
+    void testCountBasedWindowEvictsOldestCalls() {
+        // Given
+        SlidingWindow window = SlidingWindow.countBased(4);
+
+        // When
+        window.recordFailure();
+        window.recordFailure();
+        window.recordSuccess();
+        window.recordSuccess();
+        window.recordSuccess();
+
+        // Then - The first failure has been evicted
+        assertThat(window.snapshot()).isEqualTo(new SlidingWindow.Snapshot(4, 1, 0));
+        assertThat(window.getFailureRate()).isEqualTo(25.0);
+        assertThat(window.getSuccessCount()).isEqualTo(3);
+        assertThat(window.getTotalCalls()).isEqualTo(5);
+        assertThat(window.hasSufficientData(4)).isTrue();
+    }
+
+    @Test
+    void testCountBasedWindowReset() {
+        // Given
+        SlidingWindow window = new SlidingWindow(3);
+        window.recordFailure();
+        window.recordFailure();
+
+        // When
+        window.reset();
+        window.recordSuccess();
+
+        // Then
+        assertThat(window.snapshot()).isEqualTo(new SlidingWindow.Snapshot(1, 0, 0));
+        assertThat(window.getTotalCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void testSlowCallsAreCountedSeparately() {
+        // Given
+        SlidingWindow window = SlidingWindow.countBased(4);
+
+        // When
+        window.record(false, true);
+        window.record(true, true);
+        window.record(false, false);
+        window.record(false, true);
+        window.record(false, false);
+
+        // Then - The first slow success has been evicted
+        assertThat(window.snapshot()).isEqualTo(new SlidingWindow.Snapshot(4, 1, 2));
+        assertThat(window.getSlowCallRate()).isEqualTo(50.0);
+    }
+
+    @Test
+    void testCountBasedWindowIsExactUnderContention() throws Exception {
+        // Given - 8 threads fill the window with failures, then all overwrite it with successes
+        SlidingWindow window = SlidingWindow.countBased(100);
+        int threads = 8;
+        int callsPerPhase = 10_000;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < callsPerPhase; i++) {
+                    window.recordFailure();
+                }
+                barrier.await();
+                for (int i = 0; i < callsPerPhase; i++) {
+                    window.recordSuccess();
+                }
+                return null;
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then - Every evicted failure has been subtracted exactly once
+        assertThat(window.snapshot()).isEqualTo(new SlidingWindow.Snapshot(100, 0, 0));
+        assertThat(window.getTotalCalls()).isEqualTo(2L * threads * callsPerPhase);
+    }
+
+    @Test
+    void testTimeBasedWindowExpiresBuckets() {
+        // Given - A 10 second window of 1 second buckets
+        AtomicLong clock = new AtomicLong();
+        SlidingWindow window = SlidingWindow.timeBased(Duration.ofSeconds(10), 10, clock::get);
+
+        // When
+        window.recordFailure();
+        window.recordFailure();
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        window.recordSuccess();
+        window.recordSuccess();
+
+        // Then
+        assertThat(window.getType()).isEqualTo(SlidingWindow.Type.TIME_BASED);
+        assertThat(window.snapshot()).isEqualTo(new SlidingWindow.Snapshot(4, 2, 0));
+
+        // When - The failures leave the window, the successes remain
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        // Then
+        assertThat(window.snapshot()).isEqualTo(new SlidingWindow.Snapshot(2, 0, 0));
+
+        // When - A bucket slot is reused by a later second
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        window.record(true, true);
+
+        // Then
+        assertThat(window.snapshot()).isEqualTo(new SlidingWindow.Snapshot(1, 1, 1));
+        assertThat(window.getTotalCalls()).isEqualTo(5);
+    }
+
+    @Test
+    void testTimeBasedWindowIsExactUnderContention() throws Exception {
+        // Given
+        SlidingWindow window = SlidingWindow.timeBased(Duration.ofMinutes(10), 10);
+        int threads = 8;
+        int calls = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            boolean failing = t % 2 == 0;
+            executor.submit(() -> {
+                for (int i = 0; i < calls; i++) {
+                    if (failing) {
+                        window.recordFailure();
+                    } else {
+                        window.recordSuccess();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(window.snapshot()).isEqualTo(new SlidingWindow.Snapshot(threads * calls, threads / 2 * calls, 0));
+        assertThat(window.getFailureRate()).isEqualTo(50.0);
+    }
+
+    @Test
+    void testInvalidWindows() {
+        // When & Then
+        assertThatThrownBy(() -> SlidingWindow.countBased(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Window size must be positive");
+        assertThatThrownBy(() -> SlidingWindow.timeBased(Duration.ZERO, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Window duration must be positive");
+        assertThatThrownBy(() -> SlidingWindow.timeBased(Duration.ofNanos(5), 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}